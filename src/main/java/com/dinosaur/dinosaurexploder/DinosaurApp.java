@@ -49,10 +49,21 @@ public class DinosaurApp extends GameApplication {
      */
     @Override
     protected void initGame() {
-        FXGL.getGameWorld().addEntityFactory(new GameEntityFactory());
+        GameEntityFactory entityFactory = new GameEntityFactory();
+        FXGL.getGameWorld().addEntityFactory(entityFactory);
+        FXGL.set("entityFactory", entityFactory);
         controller.initGame();
     }
 
+    /**
+     * Summary :
+     * This method is overriding the superclass method to update the game systems every frame
+     */
+    @Override
+    protected void onUpdate(double tpf) {
+        controller.onUpdate(tpf);
+    }
+
     /**
      * Summary :
      * This method is overriding the superclass method to initialize the physics to
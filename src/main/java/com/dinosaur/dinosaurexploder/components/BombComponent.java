@@ -5,7 +5,10 @@ import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.entity.SpawnData;
 import com.almasb.fxgl.entity.component.Component;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.controller.core.BulletSystem;
 import com.dinosaur.dinosaurexploder.interfaces.Bomb;
+import com.dinosaur.dinosaurexploder.utils.ImageCache;
+import com.dinosaur.dinosaurexploder.utils.TextureAtlas;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
 import com.dinosaur.dinosaurexploder.model.GameData;
 
@@ -18,7 +21,6 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 
-import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
 
 public class BombComponent extends Component implements Bomb {
     private int bombCount = 3;
@@ -50,13 +52,14 @@ public class BombComponent extends Component implements Bomb {
     private Node bombUI;
 
     private final LanguageManager languageManager = LanguageManager.getInstance();
+    private final ImageCache imageCache = ImageCache.getInstance();
 
     @Override
     public void onAdded() {
-        Image bomb = new Image(GameConstants.BOMB_IMAGE_PATH);
-        bomb1 = new ImageView(bomb);
-        bomb2 = new ImageView(bomb);
-        bomb3 = new ImageView(bomb);
+        TextureAtlas atlas = TextureAtlas.getInstance();
+        bomb1 = atlas.newView(GameConstants.BOMB_IMAGE_PATH);
+        bomb2 = atlas.newView(GameConstants.BOMB_IMAGE_PATH);
+        bomb3 = atlas.newView(GameConstants.BOMB_IMAGE_PATH);
 
         // Initialize bombText with the translated string
         bombText = new Text(languageManager.getTranslation("bombs_left") + ": " + bombCount);
@@ -73,11 +76,7 @@ public class BombComponent extends Component implements Bomb {
         // Initial bomb UI setup
         bombUI = createBombUI();
         entity.getViewComponent().addChild(bombUI);
-    }
-
-    @Override
-    public void onUpdate(double tpf) {
-        updateBombUI(); // Update the bomb UI every frame based on bombCount
+        updateBombUI();
     }
 
     private void updateTexts() {
@@ -105,7 +104,7 @@ public class BombComponent extends Component implements Bomb {
     }
 
     /**
-     * Updates the bomb UI based on the current bomb count.
+     * Updates the bomb UI based on the current bomb count, called whenever it changes.
      */
     protected void updateBombUI() {
         bomb1.setVisible(bombCount >= 1);
@@ -149,18 +148,17 @@ public class BombComponent extends Component implements Bomb {
      */
     protected void spawnBombBullets(Entity player) {
         Point2D center = player.getCenter();
-        Image projImg = new Image(GameConstants.BASE_PROJECTILE_IMAGE_PATH);
+        Image projImg = imageCache.getImage(GameConstants.BASE_PROJECTILE_IMAGE_PATH);
 
         if (selectedShip != 0) {
-            String shipImagePath = "/assets/textures/spaceship" + selectedShip + ".png";
             System.out.println("Selected spaceship: " + selectedShip);
-            this.spcshpImg = new Image(shipImagePath);
+            this.spcshpImg = imageCache.getShipImage(selectedShip);
         }
 
         for (int i = -5; i <= 5; i++) {
             double angle = entity.getRotation() - 90 + i * 10;
             Vec2 direction = Vec2.fromAngle(angle);
-            spawn("basicProjectile", new SpawnData(center.getX() - (projImg.getWidth() / 2) + 3, center.getY() - spcshpImg.getHeight() / 2)
+            BulletSystem.getInstance().fire("basicProjectile", new SpawnData(center.getX() - (projImg.getWidth() / 2) + 3, center.getY() - spcshpImg.getHeight() / 2)
                     .put("direction", direction.toPoint2D()));
         }
         System.out.println("Bomb used! " + getBombCount() + " bombs left!");
@@ -186,11 +184,20 @@ public class BombComponent extends Component implements Bomb {
      * Call this method whenever the player collects a coin.
      */
     public void trackCoinForBombRegeneration() {
-        coinCounter++;
+        trackCoinForBombRegeneration(1);
+    }
+
+    /**
+     * Tracks the collection of a coin worth several coins, it can regenerate several bombs at once.
+     *
+     * @param coins The number of coins the collected coin is worth
+     */
+    public void trackCoinForBombRegeneration(int coins) {
+        coinCounter += coins;
         if (coinCounter >= COINS_NEEDED_FOR_BOMB) {
-            // Player has collected enough coins, regenerate one bomb
-            regenerateBomb(1);
-            coinCounter = 0; // Reset counter
+            // Player has collected enough coins, regenerate one bomb per full set of coins
+            regenerateBomb(coinCounter / COINS_NEEDED_FOR_BOMB);
+            coinCounter %= COINS_NEEDED_FOR_BOMB;
             System.out.println("Collected " + COINS_NEEDED_FOR_BOMB + " coins! Regenerated a bomb. Current bombs: " + bombCount);
         }
     }
@@ -1,14 +1,37 @@
 package com.dinosaur.dinosaurexploder.components;
 
 import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.constants.CoinDenomination;
 import com.dinosaur.dinosaurexploder.interfaces.Coin;
 
 public class CoinComponent extends Component implements Coin {
     private static final double COIN_SPEED = 100.0;
 
+    private final CoinDenomination denomination;
+
+    public CoinComponent() {
+        this(CoinDenomination.ONE);
+    }
+
+    public CoinComponent(CoinDenomination denomination) {
+        this.denomination = denomination;
+    }
+
     @Override
     public void onUpdate(double tpf) {
         // Move coin downward
         entity.translateY(COIN_SPEED * tpf);
     }
-}
\ No newline at end of file
+
+    /**
+     * Summary :
+     * Number of coins credited to the player when this coin is collected
+     */
+    public int getValue() {
+        return denomination.getValue();
+    }
+
+    public CoinDenomination getDenomination() {
+        return denomination;
+    }
+}
@@ -4,9 +4,9 @@ import com.almasb.fxgl.entity.component.Component;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.interfaces.CollectedCoins;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
+import com.dinosaur.dinosaurexploder.utils.TextureAtlas;
 import com.dinosaur.dinosaurexploder.model.TotalCoins;
 import javafx.scene.Node;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.paint.Color;
@@ -38,6 +38,10 @@ public class CollectedCoinsComponent extends Component implements CollectedCoins
 
         coinUI = createCoinUI();
         entity.getViewComponent().addChild(coinUI);
+
+        // Listen for language changes and update UI automatically
+        languageManager.selectedLanguageProperty().addListener((obs, oldVal, newVal) -> updateText());
+        updateText();
     }
 
     protected void updateText() {
@@ -46,8 +50,7 @@ public class CollectedCoinsComponent extends Component implements CollectedCoins
 
     private Node createCoinUI() {
         var container = new HBox(5);
-        Image image = new Image(GameConstants.COIN_IMAGE_PATH, 25, 20, false, false);
-        ImageView imageView = new ImageView(image);
+        ImageView imageView = TextureAtlas.getInstance().newView(GameConstants.COIN_IMAGE_PATH, 25, 20);
         container.getChildren().addAll(coinText, imageView);
         return container;
     }
@@ -69,13 +72,18 @@ public class CollectedCoinsComponent extends Component implements CollectedCoins
     }
 
     @Override
-    public void onUpdate(double tpf) {
-        updateText();
+    public void incrementCoin() {
+        incrementCoin(COIN_VALUE);
     }
 
-    public void incrementCoin() {
-        coin += COIN_VALUE;
-        totalCoins.setTotal(totalCoins.getTotal() + COIN_VALUE);
+    /**
+     * Summary :
+     * Credits a coin worth the given number of coins, saved once whatever its value
+     */
+    @Override
+    public void incrementCoin(int value) {
+        coin += value;
+        totalCoins.setTotal(totalCoins.getTotal() + value);
         updateText();
         saveTotalCoins();
     }
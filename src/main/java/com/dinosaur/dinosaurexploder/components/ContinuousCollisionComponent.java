@@ -0,0 +1,50 @@
+package com.dinosaur.dinosaurexploder.components;
+
+import com.almasb.fxgl.entity.component.Component;
+import com.almasb.fxgl.entity.components.BoundingBoxComponent;
+
+/**
+ * Summary :
+ * Marks an entity fast enough to go through a thin target between two ticks. It keeps the world bounds
+ * the entity had at the previous tick, so the SweptCollisions system can test the path it travelled.
+ */
+public class ContinuousCollisionComponent extends Component {
+    private double previousMinX;
+    private double previousMinY;
+    private double previousMaxX;
+    private double previousMaxY;
+
+    @Override
+    public void onAdded() {
+        recordBounds();
+    }
+
+    /**
+     * Summary :
+     * Keeps the current bounds as the start of the next path, also to be called when the entity is
+     * moved somewhere else, like a pooled projectile that is spawned again
+     */
+    public void recordBounds() {
+        BoundingBoxComponent bbox = entity.getBoundingBoxComponent();
+        previousMinX = bbox.getMinXWorld();
+        previousMinY = bbox.getMinYWorld();
+        previousMaxX = bbox.getMaxXWorld();
+        previousMaxY = bbox.getMaxYWorld();
+    }
+
+    public double getPreviousMinX() {
+        return previousMinX;
+    }
+
+    public double getPreviousMinY() {
+        return previousMinY;
+    }
+
+    public double getPreviousMaxX() {
+        return previousMaxX;
+    }
+
+    public double getPreviousMaxY() {
+        return previousMaxY;
+    }
+}
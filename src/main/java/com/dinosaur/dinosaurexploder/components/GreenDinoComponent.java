@@ -5,14 +5,17 @@ import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.SpawnData;
 import com.almasb.fxgl.entity.component.Component;
 import com.almasb.fxgl.time.LocalTimer;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.controller.core.BulletSystem;
 import com.dinosaur.dinosaurexploder.interfaces.Dinosaur;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
 import javafx.geometry.Point2D;
 import javafx.util.Duration;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
+import com.dinosaur.dinosaurexploder.utils.EntityBudget;
+import com.dinosaur.dinosaurexploder.utils.EntityRegistry;
 
-import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
 /**
  * Summary :
  *      This class extends Component and Implements the Dinosaur Classes and Handles the Shooting and Updating the Dino
@@ -20,6 +23,8 @@ import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
 public class GreenDinoComponent extends Component implements Dinosaur {
     double verticalSpeed = 1.5;
     private final LocalTimer timer = FXGL.newLocalTimer();
+    // A new timer lets the dino shoot as soon as it is on screen, a recycled one must do the same
+    private boolean hasShot = false;
     private boolean isPaused = false;
     private int lives = 1;
 
@@ -31,12 +36,27 @@ public class GreenDinoComponent extends Component implements Dinosaur {
         isPaused = paused;
     }
 
+    public double getVerticalSpeed() {
+        return verticalSpeed;
+    }
+
    
     @Override
     public void onAdded(){
+        reset();
+    }
+
+    /**
+     * Summary :
+     *      Puts the dino back in the state of a new one, used when a recycled dino is spawned again
+     */
+    public void reset() {
         //Get the current enemy speed from the level manager
-        LevelManager levelManager = FXGL.geto("levelManager");
+        LevelManager levelManager = EntityRegistry.getInstance().getLevelManager();
         verticalSpeed = levelManager.getEnemySpeed();
+        hasShot = false;
+        isPaused = false;
+        lives = 1;
     }
     /**
      * Summary :
@@ -51,10 +71,11 @@ public class GreenDinoComponent extends Component implements Dinosaur {
         entity.translateY(verticalSpeed);
 
         //The dinosaur shoots every 2 seconds
-        if (timer.elapsed(Duration.seconds(1.5)) && entity.getPosition().getY() > 0)
+        if ((!hasShot || timer.elapsed(Duration.seconds(1.5))) && entity.getPosition().getY() > 0)
         {
             shoot();
             timer.capture();
+            hasShot = true;
         }
     }
     /**
@@ -63,12 +84,15 @@ public class GreenDinoComponent extends Component implements Dinosaur {
      */
     @Override
     public void shoot() {
+        if (!EntityBudget.getInstance().canSpawn(EntityType.ENEMY_PROJECTILE)) {
+            return;
+        }
        
         AudioManager.getInstance().playSound(GameConstants.SHOOT_SOUND);
         
         Point2D center = entity.getCenter();
         Vec2 direction = Vec2.fromAngle(entity.getRotation() +90);
-        spawn("basicEnemyProjectile",
+        BulletSystem.getInstance().fire("basicEnemyProjectile",
                 new SpawnData(center.getX(), center.getY())
                         .put("direction", direction.toPoint2D() )
         );
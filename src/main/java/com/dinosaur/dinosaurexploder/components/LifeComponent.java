@@ -4,8 +4,8 @@ import com.almasb.fxgl.entity.component.Component;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.interfaces.Life;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
+import com.dinosaur.dinosaurexploder.utils.TextureAtlas;
 import javafx.scene.Node;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -20,8 +20,6 @@ import java.util.List;
 public class LifeComponent extends Component implements Life {
 
     private static final int MAX_LIVES = 3;
-    private Image heart;
-    private Image heartLost;
     private int life = MAX_LIVES;
 
     // Declaring Lives Text
@@ -32,13 +30,13 @@ public class LifeComponent extends Component implements Life {
     private ImageView heart3;
 
     private final LanguageManager languageManager = LanguageManager.getInstance();
+    private final TextureAtlas atlas = TextureAtlas.getInstance();
 
     @Override
     public void onAdded() {
-        heart = new Image(GameConstants.HEART_IMAGE_PATH);
-        heart1 = new ImageView(heart);
-        heart2 = new ImageView(heart);
-        heart3 = new ImageView(heart);
+        heart1 = atlas.newView(GameConstants.HEART_IMAGE_PATH);
+        heart2 = atlas.newView(GameConstants.HEART_IMAGE_PATH);
+        heart3 = atlas.newView(GameConstants.HEART_IMAGE_PATH);
 
         // Initialize lifeText with the translated string
         lifeText = new Text(languageManager.getTranslation("lives"));
@@ -50,23 +48,34 @@ public class LifeComponent extends Component implements Life {
         // Listen for language changes and update UI automatically
         languageManager.selectedLanguageProperty().addListener((obs, oldVal, newVal) -> updateTexts());
 
+        // Replace the placeholder view of the factory, the hearts and the text are only added once
+        clearEntity();
+        List<ImageView> hearts = List.of(heart1, heart2, heart3);
+        for (int i = 0; i < MAX_LIVES; i++) {
+            ImageView heart = hearts.get(i);
+            heart.setLayoutY(10);
+            heart.setLayoutX(i * 30);
+            setEntity(heart);
+        }
+        setEntity(lifeText);
+
         // Initial display update
         updateLifeDisplay();
     }
 
-    @Override
-    public void onUpdate(double ptf) {
-        updateLifeDisplay(); // Update hearts and text display every frame
-    }
-
     private void updateTexts() {
         lifeText.setText(languageManager.getTranslation("lives") + ": " + life);
     }
 
+    /**
+     * Summary :
+     * Shows the hearts and the text of the current lives, called whenever they change
+     */
     private void updateLifeDisplay() {
-        heartLost = new Image(GameConstants.HEART_LOST_IMAGE_PATH);
-        // Clear previous entities
-        clearEntity();
+        // Nothing to refresh before the component is shown
+        if (lifeText == null) {
+            return;
+        }
 
         List<ImageView> lives = List.of(heart1, heart2, heart3);
 
@@ -74,20 +83,15 @@ public class LifeComponent extends Component implements Life {
         for(int i = MAX_LIVES; i > 0; i--){
             ImageView currentHeart = lives.get(MAX_LIVES - i);
             if(i > life){
-                currentHeart.setImage(heartLost);
+                atlas.applyRegion(currentHeart, GameConstants.HEART_LOST_IMAGE_PATH);
             }else{
-                currentHeart.setImage(heart);
+                atlas.applyRegion(currentHeart, GameConstants.HEART_IMAGE_PATH);
 
             }
-
-            currentHeart.setLayoutY(10);
-            currentHeart.setLayoutX((MAX_LIVES -i) * 30);
-            setEntity(currentHeart);
         }
 
         // Display the lifeText component
-        lifeText.setText(languageManager.getTranslation("lives") + ": " + life);
-        setEntity(lifeText);
+        updateTexts();
     }
 
     // Created two methods for shorter and cleaner code
@@ -107,6 +111,7 @@ public class LifeComponent extends Component implements Life {
     @Override
     public int increaseLife(int i) {
         life = Math.min(life + i, MAX_LIVES);
+        updateLifeDisplay();
         return life;
     }
 
@@ -117,6 +122,7 @@ public class LifeComponent extends Component implements Life {
     @Override
     public int decreaseLife(int i) {
         life -= i;
+        updateLifeDisplay();
         return life;
     }
 
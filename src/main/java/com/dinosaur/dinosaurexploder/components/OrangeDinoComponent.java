@@ -3,16 +3,18 @@ package com.dinosaur.dinosaurexploder.components;
 import com.almasb.fxgl.core.math.Vec2;
 import com.almasb.fxgl.entity.SpawnData;
 import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.controller.core.BulletSystem;
 import com.dinosaur.dinosaurexploder.interfaces.Dinosaur;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
+import com.dinosaur.dinosaurexploder.utils.EntityBudget;
 import com.dinosaur.dinosaurexploder.utils.GameTimer;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
 import com.dinosaur.dinosaurexploder.view.DinosaurGUI;
 import javafx.geometry.Point2D;
 
 import static com.almasb.fxgl.dsl.FXGLForKtKt.random;
-import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
 import static java.lang.Math.atan;
 
 /**
@@ -156,12 +158,15 @@ public class OrangeDinoComponent extends Component implements Dinosaur {
      */
     @Override
     public void shoot() {
+        if (!EntityBudget.getInstance().canSpawn(EntityType.ENEMY_PROJECTILE)) {
+            return;
+        }
      
             AudioManager.getInstance().playSound(GameConstants.SHOOT_SOUND);
         
         Point2D center = entity.getCenter();
         Vec2 direction = Vec2.fromAngle(entity.getRotation() + 90 + random(-45, 45));
-        spawn("basicEnemyProjectile",
+        BulletSystem.getInstance().fire("basicEnemyProjectile",
                 new SpawnData(center.getX() + 50 + 3, center.getY())
                         .put("direction", direction.toPoint2D())
         );
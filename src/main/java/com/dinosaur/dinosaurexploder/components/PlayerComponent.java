@@ -1,30 +1,23 @@
 package com.dinosaur.dinosaurexploder.components;
 
-import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
-
 import com.almasb.fxgl.core.math.Vec2;
-import com.almasb.fxgl.dsl.FXGL;
-import com.almasb.fxgl.dsl.components.ExpireCleanComponent;
 import com.almasb.fxgl.entity.SpawnData;
 import com.almasb.fxgl.entity.component.Component;
-import com.almasb.fxgl.texture.Texture;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.controller.core.BulletSystem;
 import com.dinosaur.dinosaurexploder.interfaces.Player;
 import com.dinosaur.dinosaurexploder.model.GameData;
 import com.dinosaur.dinosaurexploder.view.DinosaurGUI;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
+import com.dinosaur.dinosaurexploder.utils.ImageCache;
+import com.dinosaur.dinosaurexploder.utils.TextureAtlas;
 
 import javafx.geometry.Point2D;
-import javafx.scene.image.Image;
-import javafx.util.Duration;
-
-import java.util.Objects;
 
 public class PlayerComponent extends Component implements Player {
     private final int selectedShip = GameData.getSelectedShip();
     private final int selectedWeapon = GameData.getSelectedWeapon();
-    String shipImagePath = "assets/textures/spaceship" + selectedShip + ".png";
-    String weaponImagePath = "/assets/textures/projectiles/projectile" + selectedShip + "_" + selectedWeapon + ".png";
+    private final TextureAtlas atlas = TextureAtlas.getInstance();
     int movementSpeed = 8;
     private boolean isInvincible = false;
 
@@ -53,7 +46,6 @@ public class PlayerComponent extends Component implements Player {
             return;
         }
         entity.translateY(-movementSpeed);
-        spawnMovementAnimation();
     }
 
     /**
@@ -67,7 +59,6 @@ public class PlayerComponent extends Component implements Player {
             return;
         }
         entity.translateY(movementSpeed);
-        spawnMovementAnimation();
     }
 
     /**
@@ -81,7 +72,6 @@ public class PlayerComponent extends Component implements Player {
             return;
         }
         entity.translateX(movementSpeed);
-        spawnMovementAnimation();
     }
 
     /**
@@ -95,7 +85,6 @@ public class PlayerComponent extends Component implements Player {
             return;
         }
         entity.translateX(-movementSpeed);
-        spawnMovementAnimation();
     }
 
     /**
@@ -108,21 +97,12 @@ public class PlayerComponent extends Component implements Player {
         Point2D center = entity.getCenter();
         Vec2 direction = Vec2.fromAngle(entity.getRotation() - 90);
         System.out.println("Shoot with selected weapon: " + selectedWeapon);
-        Image projImg = new Image(Objects.requireNonNull(getClass().getResourceAsStream(weaponImagePath)));
+        double projectileWidth = atlas.getWidth(ImageCache.projectileImagePath(selectedShip, selectedWeapon));
 
-        spawn("basicProjectile",
-                new SpawnData(center.getX() - (projImg.getWidth() / 2) + 3, center.getY() - 25) // Ajusta según el
+        BulletSystem.getInstance().fire("basicProjectile",
+                new SpawnData(center.getX() - (projectileWidth / 2) + 3, center.getY() - 25) // Ajusta según el
                                                                                                 // tamaño de la nave
                         .put("direction", direction.toPoint2D()));
     }
 
-    private void spawnMovementAnimation() {
-        Image spcshpImg = new Image(shipImagePath);
-        FXGL.entityBuilder()
-                .at(getEntity().getCenter().subtract(spcshpImg.getWidth() / 2, spcshpImg.getHeight() / 2))
-                .view(new Texture(spcshpImg))
-                .with(new ExpireCleanComponent(Duration.seconds(0.15)).animateOpacity())
-                .buildAndAttach();
-    }
-
 }
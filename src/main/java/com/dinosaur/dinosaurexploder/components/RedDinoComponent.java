@@ -8,10 +8,13 @@ import com.dinosaur.dinosaurexploder.interfaces.Dinosaur;
 import com.dinosaur.dinosaurexploder.utils.GameTimer;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
 import com.dinosaur.dinosaurexploder.view.DinosaurGUI;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.controller.core.BulletSystem;
 import javafx.geometry.Point2D;
 import javafx.util.Duration;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
+import com.dinosaur.dinosaurexploder.utils.EntityBudget;
 
 import static com.almasb.fxgl.dsl.FXGLForKtKt.*;
 
@@ -105,12 +108,15 @@ public class RedDinoComponent extends Component implements Dinosaur {
      */
     @Override
     public void shoot() {
+        if (!EntityBudget.getInstance().canSpawn(EntityType.ENEMY_PROJECTILE)) {
+            return;
+        }
      
             AudioManager.getInstance().playSound(GameConstants.SHOOT_SOUND);
         
         Point2D center = entity.getCenter();
         Vec2 direction = Vec2.fromAngle(entity.getRotation() + 90 + random(-45, 45));
-        spawn("basicEnemyProjectile",
+        BulletSystem.getInstance().fire("basicEnemyProjectile",
                 new SpawnData(center.getX() + 50 + 3, center.getY())
                         .put("direction", direction.toPoint2D())
         );
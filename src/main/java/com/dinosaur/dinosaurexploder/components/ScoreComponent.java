@@ -5,8 +5,8 @@ import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.interfaces.Score;
 import com.dinosaur.dinosaurexploder.model.HighScore;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
+import com.dinosaur.dinosaurexploder.utils.TextureAtlas;
 import javafx.geometry.Pos;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
@@ -35,18 +35,11 @@ public class ScoreComponent extends Component implements Score {
         languageManager.selectedLanguageProperty().addListener((obs, oldVal, newVal) -> updateTexts());
     }
 
-    @Override
-    public void onUpdate(double tpf) {
-        updateTexts(); // Could be optimized to update only when score changes
-    }
-
     private void createScoreUI() {
         scoreText = createText();
         highScoreText = createText();
 
-        ImageView dinoIcon = new ImageView(
-                new Image(GameConstants.GREEN_DINO_IMAGE_PATH, 25, 20, false, false)
-        );
+        ImageView dinoIcon = TextureAtlas.getInstance().newView(GameConstants.GREEN_DINO_IMAGE_PATH, 25, 20);
 
         // Group scoreText and icon together
         HBox scoreBox = new HBox(5, scoreText, dinoIcon);
@@ -68,6 +61,10 @@ public class ScoreComponent extends Component implements Score {
     }
 
     private void updateTexts() {
+        // Nothing to refresh before the component is shown
+        if (scoreText == null) {
+            return;
+        }
         scoreText.setText(languageManager.getTranslation("score") + ": " + score);
         highScoreText.setText(languageManager.getTranslation("high_score") + ": " + highScore.getHigh());
     }
@@ -96,6 +93,7 @@ public class ScoreComponent extends Component implements Score {
     @Override
     public void setScore(int score) {
         this.score = score;
+        updateTexts();
     }
 
     @Override
@@ -106,5 +104,6 @@ public class ScoreComponent extends Component implements Score {
             highScore = new HighScore(score);
             saveHighScore();
         }
+        updateTexts();
     }
 }
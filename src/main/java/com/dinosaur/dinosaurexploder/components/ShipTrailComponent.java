@@ -0,0 +1,113 @@
+package com.dinosaur.dinosaurexploder.components;
+
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.component.Component;
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.utils.TextureAtlas;
+import javafx.scene.Group;
+import javafx.scene.image.ImageView;
+
+/**
+ * Summary :
+ * Trail of fading ship images left behind the player while it moves.
+ * The ghost images are created once, in a ring buffer shown by a single trail entity. At a fixed
+ * sample rate, independent of the input, the oldest ghost is moved to the ship when the ship moved
+ * since the last sample; every ghost fades out over the fade duration.
+ */
+public class ShipTrailComponent extends Component {
+    private final String shipImagePath;
+    private final double sampleSeconds;
+    private final double fadeSeconds;
+    private final ImageView[] ghosts;
+    // Seconds since every ghost was placed
+    private final double[] ages;
+    private int head;
+    private double sinceSample;
+    private double lastX = Double.NaN;
+    private double lastY = Double.NaN;
+    private Entity trail;
+
+    public ShipTrailComponent(String shipImagePath) {
+        this(shipImagePath, GameConstants.SHIP_TRAIL_LENGTH, GameConstants.SHIP_TRAIL_SAMPLE_SECONDS,
+                GameConstants.SHIP_TRAIL_FADE_SECONDS);
+    }
+
+    /**
+     * Summary :
+     * Parameters :
+     * String shipImagePath - the texture of the ghosts
+     * int length - number of ghosts
+     * double sampleSeconds - time between two ghosts
+     * double fadeSeconds - time a ghost takes to disappear
+     */
+    public ShipTrailComponent(String shipImagePath, int length, double sampleSeconds, double fadeSeconds) {
+        this.shipImagePath = shipImagePath;
+        this.sampleSeconds = sampleSeconds;
+        this.fadeSeconds = fadeSeconds;
+        this.ghosts = new ImageView[length];
+        this.ages = new double[length];
+    }
+
+    @Override
+    public void onAdded() {
+        TextureAtlas atlas = TextureAtlas.getInstance();
+        Group views = new Group();
+        for (int i = 0; i < ghosts.length; i++) {
+            ghosts[i] = atlas.newView(shipImagePath);
+            ghosts[i].setVisible(false);
+            ages[i] = fadeSeconds;
+            views.getChildren().add(ghosts[i]);
+        }
+        trail = FXGL.entityBuilder()
+                .view(views)
+                .buildAndAttach();
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        for (int i = 0; i < ghosts.length; i++) {
+            ages[i] += tpf;
+            double opacity = 1 - ages[i] / fadeSeconds;
+            ghosts[i].setVisible(opacity > 0);
+            ghosts[i].setOpacity(Math.max(0, opacity));
+        }
+
+        sinceSample += tpf;
+        if (sinceSample < sampleSeconds) {
+            return;
+        }
+        sinceSample %= sampleSeconds;
+        double x = entity.getX();
+        double y = entity.getY();
+        if (x != lastX || y != lastY) {
+            if (!Double.isNaN(lastX)) {
+                placeGhost(x, y);
+            }
+            lastX = x;
+            lastY = y;
+        }
+    }
+
+    private void placeGhost(double x, double y) {
+        ImageView ghost = ghosts[head];
+        ghost.setTranslateX(x);
+        ghost.setTranslateY(y);
+        ghost.setOpacity(1);
+        ghost.setVisible(true);
+        ages[head] = 0;
+        head = (head + 1) % ghosts.length;
+    }
+
+    // Used by the tests to check where the ghosts are
+    ImageView getGhost(int index) {
+        return ghosts[index];
+    }
+
+    @Override
+    public void onRemoved() {
+        if (trail != null && trail.isActive()) {
+            trail.removeFromWorld();
+        }
+    }
+}
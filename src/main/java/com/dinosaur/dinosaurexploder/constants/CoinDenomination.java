@@ -0,0 +1,53 @@
+package com.dinosaur.dinosaurexploder.constants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary :
+ * The values a dropped coin can be worth, from the largest to the smallest.
+ * Every denomination has its own size and tint so the player can tell them apart.
+ */
+public enum CoinDenomination {
+    TWENTY_FIVE(25, 56, -0.6),
+    FIVE(5, 48, 0.4),
+    ONE(1, 40, 0);
+
+    private final int value;
+    private final double size;
+    // Hue shift of the coin texture, between -1 and 1
+    private final double hue;
+
+    CoinDenomination(int value, double size, double hue) {
+        this.value = value;
+        this.size = size;
+        this.hue = hue;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public double getSize() {
+        return size;
+    }
+
+    public double getHue() {
+        return hue;
+    }
+
+    /**
+     * Summary :
+     * Splits an amount of coins into the fewest coins, largest denominations first
+     */
+    public static List<CoinDenomination> split(int amount) {
+        List<CoinDenomination> coins = new ArrayList<>();
+        for (CoinDenomination denomination : values()) {
+            while (amount >= denomination.value) {
+                coins.add(denomination);
+                amount -= denomination.value;
+            }
+        }
+        return coins;
+    }
+}
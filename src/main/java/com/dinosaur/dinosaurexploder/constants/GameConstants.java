@@ -14,7 +14,11 @@ public class GameConstants {
     public static final String BACKGROUND_IMAGE_PATH = "/assets/textures/background.png";
     public static final String BASE_PROJECTILE_IMAGE_PATH = "assets/textures/basicProjectile.png";
     public static final String BASE_PROJECTILE_IMAGE_FILE = "basicProjectile.png";
+    public static final String ENEMY_PROJECTILE_IMAGE_PATH = "assets/textures/enemyProjectile.png";
     public static final String ENEMY_PROJECTILE_IMAGE_FILE = "enemyProjectile.png";
+    // Pixels per second, the player projectiles go this fast times the selected weapon
+    public static final double PROJECTILE_SPEED_PER_WEAPON = 600;
+    public static final double ENEMY_PROJECTILE_SPEED = 300;
     public static final String GREEN_DINO_IMAGE_PATH = "assets/textures/greenDino.png";
     public static final String GREEN_DINO_IMAGE_FILE = "greenDino.png";
     public static final String RED_DINO_IMAGE_PATH = "assets/textures/redDino.png";
@@ -27,7 +31,9 @@ public class GameConstants {
     public static final String HEART_IMAGE_FILE = "life.png";
     public static final String HEART_LOST_IMAGE_PATH = "assets/textures/lifeLost.png";
     public static final String HEART_LOST_IMAGE_FILE = "lifeLost.png";
+    public static final String EXPLOSION_IMAGE_PATH = "assets/textures/explosion.png";
     public static final String BOMB_IMAGE_PATH = "assets/textures/bomb.png";
+    public static final String LOCK_IMAGE_PATH = "assets/textures/lock.png";
     public static final String GAME_ICON_DINOSAUR = "icon.png";
 
     /*
@@ -52,6 +58,52 @@ public class GameConstants {
     * CONSTANTS FOR UI
     */
     public static final double TEXT_SIZE_GAME_DETAILS = 20;
+    // Pixels per second the game background scrolls down
+    public static final double BACKGROUND_SCROLL_SPEED = 50;
+    public static final double EXPLOSION_DURATION_SECONDS = 0.4;
+    public static final int EXPLOSION_FRAMES = 16;
+    // Explosions spawned while this many are playing are skipped
+    public static final int MAX_CONCURRENT_EXPLOSIONS = 16;
+    // Ghost images left behind the moving ship, one every sample while the ship moves
+    public static final int SHIP_TRAIL_LENGTH = 5;
+    public static final double SHIP_TRAIL_SAMPLE_SECONDS = 0.03;
+    public static final double SHIP_TRAIL_FADE_SECONDS = 0.15;
+
+    /*
+    * CONSTANTS FOR MEMORY
+    */
+    // Default budget of the decoded images, can be changed with -Ddinosaur.imageBudgetMb=...
+    public static final double IMAGE_MEMORY_BUDGET_MB = 64;
+
+    /*
+    * CONSTANTS FOR ENTITY BUDGET
+    */
+    // Maximum number of entities alive at the same time, spawns above it are deferred or skipped
+    public static final int MAX_ENTITIES = 200;
+    public static final int MAX_GREEN_DINOS = 20;
+    public static final int MAX_ENEMY_PROJECTILES = 60;
+    public static final int MAX_COINS = 10;
+    // Caps used instead when the GreenDinoSwarm moves the green dinos (-Ddinosaur.swarm=true)
+    public static final int SWARM_MAX_ENTITIES = 1500;
+    public static final int SWARM_MAX_GREEN_DINOS = 1000;
+    // Green dinos spawned together every spawn interval in swarm mode, can be changed with -Ddinosaur.swarm.wave=...
+    public static final int SWARM_WAVE_SIZE = 40;
+    // Bullets the bulk BulletSystem can keep alive at the same time, more shots are dropped
+    public static final int MAX_BULLETS = 10000;
+
+    /*
+    * CONSTANTS FOR COLLISIONS
+    */
+    // Side of a cell of the collision grid, about the size of a green dino so most entities cover 1 to 4 cells
+    public static final double COLLISION_CELL_SIZE = 64;
+    // Pixels per second from which a projectile is also tested along the path it travelled since the last
+    // tick, at 60 ticks per second it moves 20 pixels per tick, more than the height of an enemy projectile
+    public static final double CONTINUOUS_COLLISION_MIN_SPEED = 1200;
+    // Candidate pairs in a tick from which the CollisionSystem checks them on several threads, and the
+    // fewest pairs checked by one task. Under MAX_ENTITIES a tick gives a few hundred candidates at most, so
+    // the threshold is only reached with the swarm caps (SWARM_MAX_ENTITIES)
+    public static final int PARALLEL_COLLISION_THRESHOLD = 2000;
+    public static final int PARALLEL_COLLISION_GRAIN = 256;
 
     /*
     * CONSTANTS FOR SAVED FILES
@@ -1,34 +1,66 @@
 package com.dinosaur.dinosaurexploder.controller;
 
-import com.almasb.fxgl.time.TimerAction;
+import com.almasb.fxgl.entity.SpawnData;
+import com.dinosaur.dinosaurexploder.constants.CoinDenomination;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.interfaces.GameSystem;
+import com.dinosaur.dinosaurexploder.utils.EntityBudget;
 
 import static com.almasb.fxgl.dsl.FXGL.*;
 import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
-import static javafx.util.Duration.seconds;
 
-public class CoinSpawner {
+/**
+ * Summary :
+ * AI system that may drop a coin every duration once it started spawning, run by the SystemScheduler
+ */
+public class CoinSpawner implements GameSystem {
 
     private final int percentChanceForCoinDrop;
     private final double duration;
-    private TimerAction timerAction;
+    private boolean isSpawning = false;
+    private double elapsed;
 
     public CoinSpawner(int percentChanceForCoinDrop, double duration) {
         this.percentChanceForCoinDrop = percentChanceForCoinDrop;
         this.duration = duration;
     }
 
+    /**
+     * Summary :
+     * Drops an amount of coins around a position, merged into the fewest coin entities
+     * (e.g. 57 coins are dropped as 25 + 25 + 5 + 1 + 1)
+     */
+    public static void spawnDrop(double x, double y, int amount) {
+        for (CoinDenomination denomination : CoinDenomination.split(amount)) {
+            spawn("coin", new SpawnData(x + random(-25, 25), y + random(-25, 25))
+                    .put("denomination", denomination));
+        }
+    }
+
     public void startSpawning() {
-        if (timerAction != null) {
-            timerAction.expire();
+        elapsed = 0;
+        isSpawning = true;
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        if (!isSpawning) {
+            return;
+        }
+        elapsed += tpf;
+        if (elapsed < duration) {
+            return;
         }
+        elapsed -= duration;
 
-        timerAction = run(() -> {
-            if (random(0, 100) < percentChanceForCoinDrop) {
+        // The budget is only asked when a coin would spawn, a refused coin is counted by the EntityBudget
+        if (random(0, 100) < percentChanceForCoinDrop) {
+            if (EntityBudget.getInstance().canSpawn(EntityType.COIN)) {
                 double x = random(0, getAppWidth() - 80);
                 spawn("coin", x, 0);
-            }else {
-                System.out.println("No coin was spawned");
             }
-        }, seconds(duration));
+        }else {
+            System.out.println("No coin was spawned");
+        }
     }
 }
@@ -26,6 +26,14 @@ public class DinosaurController {
         gameActions = new GameActions(gameInitializer);
     }
 
+    /**
+     * Summary :
+     * Runs the game systems that update many entities at once, once per frame and phase after phase
+     */
+    public void onUpdate(double tpf) {
+        gameInitializer.getSystemScheduler().onUpdate(tpf);
+    }
+
     public void initInput() {
         gameInitializer.initInput();
     }
@@ -0,0 +1,620 @@
+package com.dinosaur.dinosaurexploder.controller.core;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.SpawnData;
+import com.almasb.fxgl.entity.components.BoundingBoxComponent;
+import com.almasb.fxgl.physics.BoundingShape;
+import com.almasb.fxgl.physics.HitBox;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.BulletSweep;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionQueue;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.PixelNarrowphase;
+import com.dinosaur.dinosaurexploder.utils.EntityRegistry;
+import com.dinosaur.dinosaurexploder.utils.HitboxTable;
+import com.dinosaur.dinosaurexploder.utils.ImageCache;
+import com.dinosaur.dinosaurexploder.utils.PixelMask;
+import com.dinosaur.dinosaurexploder.utils.PixelMaskCache;
+import com.dinosaur.dinosaurexploder.utils.TextureAtlas;
+import javafx.geometry.Point2D;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
+
+/**
+ * Summary :
+ * Optional system that keeps the player and enemy bullets out of the game world, for bullet hell
+ * levels with thousands of bullets on screen.
+ * The position, velocity, kind and alive flag of the bullets are kept in primitive arrays. Every tick
+ * moves them all, removes the ones that left the screen, checks them against the entities they can hit
+ * and draws them in one pass on a Canvas layer, so a bullet has no entity, view or component.
+ * A hit runs the same actions as the collisions registered with PixelNarrowphase.onCollisionBegin, which
+ * the system listens to: the bullet is removed and the hit is posted to the CollisionQueue with a copy of
+ * the proxy entity of the bullet, placed where the bullet was.
+ * The player bullets and enemy bullets cancel each other, found with a BulletSweep like the
+ * BulletCancellation does for the bullet entities. Other bullets of this system don't hit each other.
+ * It is enabled with -Ddinosaur.bulkBullets=true, otherwise the bullets are spawned as entities.
+ */
+public class BulletSystem {
+    public static final String ENABLED_PROPERTY = "dinosaur.bulkBullets";
+    // Bullets further than this outside the screen are removed, like the OffscreenCleanComponent does
+    private static final double OFFSCREEN_MARGIN = 64;
+
+    private static BulletSystem instance;
+
+    private final EntityRegistry registry;
+    private final CollisionQueue queue;
+    private final PixelNarrowphase narrowphase = PixelNarrowphase.getInstance();
+    private final Map<String, BulletKind> kindsByName = new HashMap<>();
+    private final List<BulletKind> kinds = new ArrayList<>();
+    // Actions of the registered collisions, by the types of their two entities
+    private final Map<EntityType, Map<EntityType, BiConsumer<Entity, Entity>>> handlers = new EnumMap<>(EntityType.class);
+    private final Map<EntityType, TargetGroup> targetGroups = new EnumMap<>(EntityType.class);
+    private boolean targetsChanged;
+    private final BulletSweep sweep = new BulletSweep();
+    private final BulletSweep.PairTest cancelTest = this::cancels;
+    // Bullets given to the sweep, by their index in it
+    private final int[] sweptProjectiles;
+    private final int[] sweptEnemyProjectiles;
+
+    private final double[] x;
+    private final double[] y;
+    private final double[] vx;
+    private final double[] vy;
+    // Rotation of the bullet, its sprite points where it goes
+    private final double[] cos;
+    private final double[] sin;
+    private final byte[] type;
+    private final boolean[] alive;
+    private int size;
+
+    private double width;
+    private double height;
+    private Canvas canvas;
+    private boolean started;
+    private boolean drawn;
+
+    private long fired;
+    private long dropped;
+    private long hits;
+    private long cancelled;
+
+    /**
+     * Summary :
+     * Parameters :
+     * EntityRegistry registry - where the entities the bullets can hit are looked up
+     * CollisionQueue queue - where the hits are posted
+     * int capacity - bullets alive at the same time, more shots are dropped
+     */
+    public BulletSystem(EntityRegistry registry, CollisionQueue queue, int capacity) {
+        this.registry = registry;
+        this.queue = queue;
+        x = new double[capacity];
+        y = new double[capacity];
+        vx = new double[capacity];
+        vy = new double[capacity];
+        cos = new double[capacity];
+        sin = new double[capacity];
+        type = new byte[capacity];
+        alive = new boolean[capacity];
+        sweptProjectiles = new int[capacity];
+        sweptEnemyProjectiles = new int[capacity];
+    }
+
+    public static synchronized BulletSystem getInstance() {
+        if (instance == null) {
+            instance = new BulletSystem(EntityRegistry.getInstance(), CollisionQueue.getInstance(), GameConstants.MAX_BULLETS);
+            PixelNarrowphase.getInstance().addHandlerListener(instance::addHandler);
+        }
+        return instance;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Summary :
+     * Makes the bullets of a spawn name bulk bullets drawn with the sprite of an asset, which gives
+     * them the hitboxes and pixel mask of the spawned entities
+     */
+    public void define(String spawnName, EntityType entityType, String assetPath,
+                       double bulletWidth, double bulletHeight, double speed) {
+        TextureAtlas atlas = TextureAtlas.getInstance();
+        TextureAtlas.Region region = atlas.getRegion(assetPath);
+        Image image;
+        Rectangle2D viewport;
+        if (region == null) {
+            image = ImageCache.getInstance().getImage(assetPath, bulletWidth, bulletHeight);
+            viewport = new Rectangle2D(0, 0, image.getWidth(), image.getHeight());
+        } else {
+            image = atlas.getPage(region.getPage());
+            viewport = region.getViewport();
+        }
+        BulletKind kind = newKind(spawnName, entityType, bulletWidth, bulletHeight, speed, image, viewport);
+        BoundingBoxComponent bbox = kind.proxy.getBoundingBoxComponent();
+        bbox.clearHitBoxes();
+        for (HitBox hitBox : HitboxTable.getInstance().getHitBoxes(assetPath, bulletWidth, bulletHeight)) {
+            bbox.addHitBox(hitBox);
+        }
+        PixelMask mask = PixelMaskCache.getInstance().getMask(assetPath, bulletWidth, bulletHeight);
+        if (mask != null) {
+            kind.proxy.setProperty(PixelNarrowphase.MASK_PROPERTY, mask);
+        }
+    }
+
+    /**
+     * Summary :
+     * Makes the bullets of a spawn name bulk bullets with a box hitbox of their size, drawn with the
+     * viewport of an image (nothing is drawn when the image is null)
+     */
+    public void define(String spawnName, EntityType entityType, double bulletWidth, double bulletHeight,
+                       double speed, Image image, Rectangle2D viewport) {
+        newKind(spawnName, entityType, bulletWidth, bulletHeight, speed, image, viewport);
+    }
+
+    private BulletKind newKind(String spawnName, EntityType entityType, double bulletWidth, double bulletHeight,
+                               double speed, Image image, Rectangle2D viewport) {
+        BulletKind previous = kindsByName.get(spawnName);
+        int index = previous == null ? kinds.size() : previous.index;
+        if (index > Byte.MAX_VALUE) {
+            throw new IllegalStateException("Too many bullet kinds, the last one is " + spawnName);
+        }
+        BulletKind kind = new BulletKind(index, entityType, bulletWidth, bulletHeight, speed, image, viewport);
+        if (previous == null) {
+            kinds.add(kind);
+        } else {
+            kinds.set(index, kind);
+        }
+        kindsByName.put(spawnName, kind);
+        targetsChanged = true;
+        return kind;
+    }
+
+    /**
+     * Summary :
+     * Registers the action of a collision, the bullets of typeA or typeB run it when they hit an entity
+     * of the other type. A new action for the same two types replaces the previous one.
+     */
+    public void addHandler(EntityType typeA, EntityType typeB, BiConsumer<Entity, Entity> action) {
+        handlers.computeIfAbsent(typeA, key -> new EnumMap<>(EntityType.class)).put(typeB, action);
+        targetsChanged = true;
+    }
+
+    /**
+     * Summary :
+     * Starts a new game: the bullets of the previous one are removed
+     * Parameters :
+     * double screenWidth, screenHeight - size of the screen, bullets outside of it are removed
+     * Canvas bulletCanvas - where the bullets are drawn, or null to not draw them
+     */
+    public void start(double screenWidth, double screenHeight, Canvas bulletCanvas) {
+        width = screenWidth;
+        height = screenHeight;
+        canvas = bulletCanvas;
+        size = 0;
+        drawn = false;
+        started = true;
+    }
+
+    /**
+     * Summary :
+     * Shoots a bullet of the spawn name from the position of the SpawnData in its "direction".
+     * It is a bulk bullet once the system is started and the spawn name is defined, otherwise the
+     * bullet entity is spawned.
+     */
+    public void fire(String spawnName, SpawnData data) {
+        BulletKind kind = started ? kindsByName.get(spawnName) : null;
+        if (kind == null) {
+            spawn(spawnName, data);
+            return;
+        }
+        Point2D direction = data.get("direction");
+        fire(kind, data.getX(), data.getY(), direction.getX(), direction.getY());
+    }
+
+    private void fire(BulletKind kind, double fromX, double fromY, double directionX, double directionY) {
+        if (size == x.length) {
+            dropped++;
+            return;
+        }
+        double length = Math.hypot(directionX, directionY);
+        cos[size] = directionX / length;
+        sin[size] = directionY / length;
+        x[size] = fromX;
+        y[size] = fromY;
+        vx[size] = cos[size] * kind.speed;
+        vy[size] = sin[size] * kind.speed;
+        type[size] = (byte) kind.index;
+        alive[size] = true;
+        size++;
+        fired++;
+    }
+
+    /**
+     * Summary :
+     * Moves the bullets, runs the actions of the ones that hit an entity and draws the remaining ones.
+     * In the game the SystemScheduler runs these steps in their own phases.
+     */
+    public void onUpdate(double tpf) {
+        move(tpf);
+        collide();
+        removeDead();
+        draw();
+    }
+
+    /**
+     * Summary :
+     * Moves the bullets and marks the ones that left the screen as dead
+     */
+    public void move(double tpf) {
+        double minX = -OFFSCREEN_MARGIN;
+        double minY = -OFFSCREEN_MARGIN;
+        double maxX = width + OFFSCREEN_MARGIN;
+        double maxY = height + OFFSCREEN_MARGIN;
+        for (int i = 0; i < size; i++) {
+            x[i] += vx[i] * tpf;
+            y[i] += vy[i] * tpf;
+            alive[i] = x[i] > minX && x[i] < maxX && y[i] > minY && y[i] < maxY;
+        }
+    }
+
+    /**
+     * Summary :
+     * Checks the bounds of every bullet against the bounds of the entities its kind can hit, taken once
+     * per tick. A bullet whose bounds touch an entity is checked with its proxy like FXGL and the
+     * PixelNarrowphase check two entities, and is removed after the first accepted hit.
+     * The player and enemy bullets that cancel each other are removed first.
+     */
+    public void collide() {
+        if (size == 0) {
+            return;
+        }
+        if (targetsChanged) {
+            updateTargets();
+        }
+        cancelBullets();
+        for (TargetGroup group : targetGroups.values()) {
+            group.capture(registry.getEntities(group.type));
+        }
+        for (int i = 0; i < size; i++) {
+            if (!alive[i]) {
+                continue;
+            }
+            BulletKind kind = kinds.get(type[i]);
+            if (kind.targets.isEmpty()) {
+                continue;
+            }
+            double minX = minX(i, kind);
+            double maxX = maxX(i, kind);
+            double minY = minY(i, kind);
+            double maxY = maxY(i, kind);
+            for (int t = 0; t < kind.targets.size() && alive[i]; t++) {
+                Target target = kind.targets.get(t);
+                TargetGroup group = target.group;
+                for (int j = 0; j < group.size; j++) {
+                    if (minX < group.maxX[j] && maxX > group.minX[j]
+                            && minY < group.maxY[j] && maxY > group.minY[j]
+                            && hit(i, kind, target, group.entities[j])) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean hit(int bullet, BulletKind kind, Target target, Entity entity) {
+        if (!entity.isActive()) {
+            return false;
+        }
+        Entity proxy = placeProxy(bullet, kind);
+        if (!proxy.isColliding(entity)) {
+            return false;
+        }
+        boolean accepted = target.bulletFirst
+                ? narrowphase.accepts(proxy, entity)
+                : narrowphase.accepts(entity, proxy);
+        if (!accepted) {
+            return false;
+        }
+        alive[bullet] = false;
+        hits++;
+        Entity copy = copyOf(proxy);
+        if (target.bulletFirst) {
+            queue.post(target.action, copy, entity);
+        } else {
+            queue.post(target.action, entity, copy);
+        }
+        return true;
+    }
+
+    /**
+     * Summary :
+     * Sweeps the alive player bullets against the alive enemy bullets, then removes all the pairs that
+     * cancel each other and posts the action registered for them, with copies of the two proxies
+     */
+    private void cancelBullets() {
+        Map<EntityType, BiConsumer<Entity, Entity>> byProjectile = handlers.get(EntityType.PROJECTILE);
+        BiConsumer<Entity, Entity> action = byProjectile == null ? null : byProjectile.get(EntityType.ENEMY_PROJECTILE);
+        if (action == null) {
+            return;
+        }
+        sweep.clear();
+        for (int i = 0; i < size; i++) {
+            if (!alive[i]) {
+                continue;
+            }
+            BulletKind kind = kinds.get(type[i]);
+            if (kind.entityType == EntityType.PROJECTILE) {
+                sweptProjectiles[sweep.addFirst(minX(i, kind), minY(i, kind), maxX(i, kind), maxY(i, kind))] = i;
+            } else if (kind.entityType == EntityType.ENEMY_PROJECTILE) {
+                sweptEnemyProjectiles[sweep.addSecond(minX(i, kind), minY(i, kind), maxX(i, kind), maxY(i, kind))] = i;
+            }
+        }
+        int pairs = sweep.sweep(cancelTest);
+        for (int p = 0; p < pairs; p++) {
+            int projectile = sweptProjectiles[sweep.getPairFirst(p)];
+            int enemyProjectile = sweptEnemyProjectiles[sweep.getPairSecond(p)];
+            alive[projectile] = false;
+            alive[enemyProjectile] = false;
+            cancelled++;
+            queue.post(action, copyOf(placeProxy(projectile, kinds.get(type[projectile]))),
+                    copyOf(placeProxy(enemyProjectile, kinds.get(type[enemyProjectile]))));
+        }
+    }
+
+    private boolean cancels(int sweptProjectile, int sweptEnemyProjectile) {
+        int projectile = sweptProjectiles[sweptProjectile];
+        int enemyProjectile = sweptEnemyProjectiles[sweptEnemyProjectile];
+        Entity a = placeProxy(projectile, kinds.get(type[projectile]));
+        Entity b = placeProxy(enemyProjectile, kinds.get(type[enemyProjectile]));
+        return a.isColliding(b) && narrowphase.accepts(a, b);
+    }
+
+    // The proxy is moved to the next bullet before the queue resolves the hit, so the hit gets a copy of it
+    private Entity copyOf(Entity proxy) {
+        Entity copy = new Entity();
+        copy.setType(proxy.getType());
+        for (HitBox hitBox : proxy.getBoundingBoxComponent().hitBoxesProperty()) {
+            copy.getBoundingBoxComponent().addHitBox(new HitBox(hitBox.getName(),
+                    new Point2D(hitBox.getMinX(), hitBox.getMinY()), hitBox.getShape()));
+        }
+        copy.setPosition(proxy.getX(), proxy.getY());
+        copy.setRotation(proxy.getRotation());
+        if (proxy.getProperties().exists(PixelNarrowphase.MASK_PROPERTY)) {
+            copy.setProperty(PixelNarrowphase.MASK_PROPERTY, proxy.getObject(PixelNarrowphase.MASK_PROPERTY));
+        }
+        queue.keepOutsideWorld(copy);
+        return copy;
+    }
+
+    private Entity placeProxy(int bullet, BulletKind kind) {
+        Entity proxy = kind.proxy;
+        proxy.setPosition(x[bullet], y[bullet]);
+        proxy.setRotation(Math.toDegrees(Math.atan2(sin[bullet], cos[bullet])));
+        return proxy;
+    }
+
+    // Bounds of the sprite turned around its top left corner, like an entity with a rotation
+    private double minX(int bullet, BulletKind kind) {
+        return x[bullet] + Math.min(0, cos[bullet] * kind.width) + Math.min(0, -sin[bullet] * kind.height);
+    }
+
+    private double maxX(int bullet, BulletKind kind) {
+        return x[bullet] + Math.max(0, cos[bullet] * kind.width) + Math.max(0, -sin[bullet] * kind.height);
+    }
+
+    private double minY(int bullet, BulletKind kind) {
+        return y[bullet] + Math.min(0, sin[bullet] * kind.width) + Math.min(0, cos[bullet] * kind.height);
+    }
+
+    private double maxY(int bullet, BulletKind kind) {
+        return y[bullet] + Math.max(0, sin[bullet] * kind.width) + Math.max(0, cos[bullet] * kind.height);
+    }
+
+    // Links every kind of bullet to the registered collisions of its type
+    private void updateTargets() {
+        targetGroups.clear();
+        for (BulletKind kind : kinds) {
+            kind.targets.clear();
+            for (Map.Entry<EntityType, Map<EntityType, BiConsumer<Entity, Entity>>> byTypeA : handlers.entrySet()) {
+                for (Map.Entry<EntityType, BiConsumer<Entity, Entity>> byTypeB : byTypeA.getValue().entrySet()) {
+                    if (byTypeA.getKey() == kind.entityType) {
+                        kind.targets.add(new Target(groupOf(byTypeB.getKey()), byTypeB.getValue(), true));
+                    } else if (byTypeB.getKey() == kind.entityType) {
+                        kind.targets.add(new Target(groupOf(byTypeA.getKey()), byTypeB.getValue(), false));
+                    }
+                }
+            }
+        }
+        targetsChanged = false;
+    }
+
+    private TargetGroup groupOf(EntityType entityType) {
+        return targetGroups.computeIfAbsent(entityType, TargetGroup::new);
+    }
+
+    /**
+     * Summary :
+     * Removes the dead bullets, the last alive bullets are moved in their places
+     */
+    public void removeDead() {
+        int i = 0;
+        while (i < size) {
+            if (alive[i]) {
+                i++;
+                continue;
+            }
+            int last = --size;
+            x[i] = x[last];
+            y[i] = y[last];
+            vx[i] = vx[last];
+            vy[i] = vy[last];
+            cos[i] = cos[last];
+            sin[i] = sin[last];
+            type[i] = type[last];
+            alive[i] = alive[last];
+        }
+    }
+
+    /**
+     * Summary :
+     * Draws the alive bullets on the canvas in one pass
+     */
+    public void draw() {
+        if (canvas == null || (size == 0 && !drawn)) {
+            return;
+        }
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int i = 0; i < size; i++) {
+            BulletKind kind = kinds.get(type[i]);
+            if (kind.image == null) {
+                continue;
+            }
+            Rectangle2D viewport = kind.viewport;
+            graphics.setTransform(cos[i], sin[i], -sin[i], cos[i], x[i], y[i]);
+            graphics.drawImage(kind.image, viewport.getMinX(), viewport.getMinY(), viewport.getWidth(),
+                    viewport.getHeight(), 0, 0, kind.width, kind.height);
+        }
+        graphics.setTransform(1, 0, 0, 1, 0, 0);
+        drawn = size > 0;
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double getX(int bullet) {
+        return x[bullet];
+    }
+
+    public double getY(int bullet) {
+        return y[bullet];
+    }
+
+    public int getCapacity() {
+        return x.length;
+    }
+
+    public long getFired() {
+        return fired;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getCancelled() {
+        return cancelled;
+    }
+
+    public void logCounters() {
+        System.out.println("Bullets: " + size + " alive of " + x.length + ", " + fired + " fired, "
+                + dropped + " dropped, " + hits + " hits, " + cancelled + " cancelled pairs");
+    }
+
+    /**
+     * Summary :
+     * The sprite, size and speed shared by the bullets of a spawn name, and the proxy entity given to
+     * the collision actions in place of the bullet
+     */
+    private static class BulletKind {
+        private final int index;
+        private final EntityType entityType;
+        private final double width;
+        private final double height;
+        private final double speed;
+        private final Image image;
+        private final Rectangle2D viewport;
+        private final Entity proxy = new Entity();
+        private final List<Target> targets = new ArrayList<>();
+
+        private BulletKind(int index, EntityType entityType, double width, double height, double speed,
+                           Image image, Rectangle2D viewport) {
+            this.index = index;
+            this.entityType = entityType;
+            this.width = width;
+            this.height = height;
+            this.speed = speed;
+            this.image = image;
+            this.viewport = viewport;
+            proxy.setType(entityType);
+            proxy.getBoundingBoxComponent().addHitBox(new HitBox(BoundingShape.box(width, height)));
+        }
+    }
+
+    /**
+     * Summary :
+     * A type of entity a kind of bullet can hit, and the action of the hit
+     */
+    private static class Target {
+        private final TargetGroup group;
+        private final BiConsumer<Entity, Entity> action;
+        // Whether the bullet is the first entity of the action
+        private final boolean bulletFirst;
+
+        Target(TargetGroup group, BiConsumer<Entity, Entity> action, boolean bulletFirst) {
+            this.group = group;
+            this.action = action;
+            this.bulletFirst = bulletFirst;
+        }
+    }
+
+    /**
+     * Summary :
+     * The entities of one type and their world bounds, taken at the start of the collision checks
+     */
+    private static class TargetGroup {
+        private final EntityType type;
+        private Entity[] entities = new Entity[16];
+        private double[] minX = new double[16];
+        private double[] minY = new double[16];
+        private double[] maxX = new double[16];
+        private double[] maxY = new double[16];
+        private int size;
+
+        TargetGroup(EntityType type) {
+            this.type = type;
+        }
+
+        void capture(List<Entity> live) {
+            size = live.size();
+            if (size > entities.length) {
+                int capacity = Math.max(size, entities.length * 2);
+                entities = new Entity[capacity];
+                minX = new double[capacity];
+                minY = new double[capacity];
+                maxX = new double[capacity];
+                maxY = new double[capacity];
+            }
+            for (int i = 0; i < size; i++) {
+                Entity entity = live.get(i);
+                BoundingBoxComponent bbox = entity.getBoundingBoxComponent();
+                entities[i] = entity;
+                minX[i] = bbox.getMinXWorld();
+                minY[i] = bbox.getMinYWorld();
+                maxX[i] = bbox.getMaxXWorld();
+                maxY[i] = bbox.getMaxYWorld();
+            }
+        }
+    }
+}
@@ -1,20 +1,27 @@
 package com.dinosaur.dinosaurexploder.controller.core;
 
-import com.almasb.fxgl.entity.Entity;
-import com.almasb.fxgl.time.TimerAction;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
 import com.dinosaur.dinosaurexploder.controller.BossSpawner;
+import com.dinosaur.dinosaurexploder.interfaces.GameSystem;
+import com.dinosaur.dinosaurexploder.utils.EntityBudget;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
 
 import static com.almasb.fxgl.dsl.FXGL.*;
 import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
-import static javafx.util.Duration.seconds;
 
-public class EnemySpawner {
+/**
+ * Summary :
+ * AI system that spawns a green dino every spawn interval of the level, or the boss of the level.
+ * It is run by the SystemScheduler, its time stops while the spawning is paused.
+ */
+public class EnemySpawner implements GameSystem {
 
     private final LevelManager levelManager;
     private final BossSpawner bossSpawner;
-    private TimerAction enemySpawnTimer;
     private boolean isSpawningPaused = false;
+    private boolean isSpawning = false;
+    private double spawnInterval;
+    private double elapsed;
 
     public EnemySpawner(GameInitializer gameInitializer) {
         this.levelManager = gameInitializer.getLevelManager();
@@ -27,23 +34,37 @@ public class EnemySpawner {
      * and set the spawn rate of the enemies
      */
     public void spawnEnemies() {
-        if (enemySpawnTimer != null) {
-            enemySpawnTimer.expire();
+        spawnInterval = levelManager.getEnemySpawnRate();
+        elapsed = 0;
+        isSpawning = true;
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        if (!isSpawning || isSpawningPaused) {
+            return;
         }
+        elapsed += tpf;
+        if (elapsed < spawnInterval) {
+            return;
+        }
+        elapsed -= spawnInterval;
 
-        enemySpawnTimer = run(() -> {
-            if (levelManager.getCurrentLevel() % 10 == 0) {
-                pauseEnemySpawning();
-                bossSpawner.spawnNewBoss("orange");
-            } else if (levelManager.getCurrentLevel() % 5 == 0) {
-                pauseEnemySpawning();
-                bossSpawner.spawnNewBoss("red");
-            } else {
-                if (!isSpawningPaused && random(0, 2) < 2) {
-                    Entity greenDino = spawn("greenDino", random(0, getAppWidth() - 80), -50);
+        if (levelManager.getCurrentLevel() % 10 == 0) {
+            pauseEnemySpawning();
+            bossSpawner.spawnNewBoss("orange");
+        } else if (levelManager.getCurrentLevel() % 5 == 0) {
+            pauseEnemySpawning();
+            bossSpawner.spawnNewBoss("red");
+        } else {
+            // Over the budget the dino waits for the next tick, in swarm mode a whole wave spawns at once
+            int waveSize = GreenDinoSwarm.getWaveSize();
+            for (int i = 0; i < waveSize; i++) {
+                if (random(0, 2) < 2 && EntityBudget.getInstance().canSpawn(EntityType.GREEN_DINO)) {
+                    spawn("greenDino", random(0, getAppWidth() - 80), -50);
                 }
             }
-        }, seconds(levelManager.getEnemySpawnRate()));
+        }
     }
 
     /**
@@ -52,9 +73,6 @@ public class EnemySpawner {
      */
     public void pauseEnemySpawning() {
         isSpawningPaused = true;
-        if (enemySpawnTimer != null) {
-            enemySpawnTimer.pause();
-        }
     }
 
     /**
@@ -63,9 +81,7 @@ public class EnemySpawner {
      */
     public void resumeEnemySpawning() {
         isSpawningPaused = false;
-        if (enemySpawnTimer != null) {
-            enemySpawnTimer.resume();
-        } else {
+        if (!isSpawning) {
             spawnEnemies();
         }
     }
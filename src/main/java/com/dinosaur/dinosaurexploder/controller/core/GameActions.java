@@ -1,10 +1,10 @@
 package com.dinosaur.dinosaurexploder.controller.core;
 
-import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.Entity;
 import com.dinosaur.dinosaurexploder.components.*;
 import com.dinosaur.dinosaurexploder.constants.EntityType;
 import com.dinosaur.dinosaurexploder.model.CollisionHandler;
+import com.dinosaur.dinosaurexploder.utils.EntityRegistry;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
 import com.dinosaur.dinosaurexploder.utils.TextUtils;
@@ -14,6 +14,8 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
 
+import java.util.List;
+
 import static com.almasb.fxgl.dsl.FXGL.getGameScene;
 import static com.almasb.fxgl.dsl.FXGL.runOnce;
 import static com.almasb.fxgl.dsl.FXGLForKtKt.getUIFactoryService;
@@ -30,6 +32,8 @@ public class GameActions {
     private final Entity life;
     private final Entity levelProgressBar;
     private final Entity bomb;
+    private final GreenDinoSwarm greenDinoSwarm;
+    private final EntityRegistry entityRegistry = EntityRegistry.getInstance();
 
     public GameActions(GameInitializer gameInitializer) {
         this.enemySpawner = gameInitializer.getEnemySpawner();
@@ -41,6 +45,7 @@ public class GameActions {
         this.life = gameInitializer.getLife();
         this.levelProgressBar = gameInitializer.getLevelProgressBar();
         this.bomb = gameInitializer.getBomb();
+        this.greenDinoSwarm = gameInitializer.getGreenDinoSwarm();
     }
 
     public void updateLevelDisplay() {
@@ -72,9 +77,6 @@ public class GameActions {
         runOnce(() -> getGameScene().removeUINode(flash), seconds(0.5));
 
         if (lives <= 0) {
-            // Added extra line of code to sync the lives counter after death
-            // All hearts disappear after death
-            life.getComponent(LifeComponent.class).onUpdate(lives);
             System.out.println("Game Over!");
             gameOver();
         } else {
@@ -94,11 +96,7 @@ public class GameActions {
         }
 
         //Pause game elements during level transition
-        FXGL.getGameWorld().getEntitiesByType(EntityType.GREEN_DINO).forEach(e -> {
-            if (e.hasComponent(GreenDinoComponent.class)) {
-                e.getComponent(GreenDinoComponent.class).setPaused(true);
-            }
-        });
+        setGreenDinosPaused(true);
 
         enemySpawner.pauseEnemySpawning();
 
@@ -127,11 +125,7 @@ public class GameActions {
                 levelProgressBar.getComponent(LevelProgressBarComponent.class).resetProgress();
             }
 
-            FXGL.getGameWorld().getEntitiesByType(EntityType.GREEN_DINO).forEach(e -> {
-                if (e.hasComponent(GreenDinoComponent.class)) {
-                    e.getComponent(GreenDinoComponent.class).setPaused(false);
-                }
-            });
+            setGreenDinosPaused(false);
 
             enemySpawner.resumeEnemySpawning();
 
@@ -144,6 +138,17 @@ public class GameActions {
         }, seconds(2));
     }
 
+    private void setGreenDinosPaused(boolean paused) {
+        List<Entity> greenDinos = entityRegistry.getEntities(EntityType.GREEN_DINO);
+        for (int i = 0; i < greenDinos.size(); i++) {
+            Entity greenDino = greenDinos.get(i);
+            if (greenDino.hasComponent(GreenDinoComponent.class)) {
+                greenDino.getComponent(GreenDinoComponent.class).setPaused(paused);
+            }
+            greenDinoSwarm.setPaused(greenDino, paused);
+        }
+    }
+
     /**
      * Summary :
      * To detect whether the player lives are empty or not
@@ -1,21 +1,38 @@
 package com.dinosaur.dinosaurexploder.controller.core;
 
+import com.almasb.fxgl.app.scene.GameView;
 import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.entity.SpawnData;
 import com.dinosaur.dinosaurexploder.components.BombComponent;
 import com.dinosaur.dinosaurexploder.components.CollectedCoinsComponent;
 import com.dinosaur.dinosaurexploder.components.PlayerComponent;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.BulletCancellation;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionQueue;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionSystem;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.PixelNarrowphase;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.SweptCollisions;
 import com.dinosaur.dinosaurexploder.controller.BossSpawner;
 import com.dinosaur.dinosaurexploder.controller.CoinSpawner;
 import com.dinosaur.dinosaurexploder.controller.CountdownAnimation;
 import com.dinosaur.dinosaurexploder.model.CollisionHandler;
+import com.dinosaur.dinosaurexploder.model.GameData;
+import com.dinosaur.dinosaurexploder.model.GameEntityFactory;
 import com.dinosaur.dinosaurexploder.model.Settings;
+import com.dinosaur.dinosaurexploder.utils.AssetPreloader;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
+import com.dinosaur.dinosaurexploder.utils.EntityBudget;
+import com.dinosaur.dinosaurexploder.utils.EntityRegistry;
+import com.dinosaur.dinosaurexploder.utils.ImageCache;
+import com.dinosaur.dinosaurexploder.utils.ImageRegistry;
 import com.dinosaur.dinosaurexploder.utils.LanguageManager;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
 import com.dinosaur.dinosaurexploder.utils.SettingsProvider;
+import com.dinosaur.dinosaurexploder.utils.TextureAtlas;
+import com.dinosaur.dinosaurexploder.view.HudLayer;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.input.KeyCode;
 
 import static com.almasb.fxgl.dsl.FXGL.*;
@@ -27,6 +44,10 @@ public class GameInitializer {
 
     private final Settings settings = SettingsProvider.loadSettings();
     private final LanguageManager languageManager = LanguageManager.getInstance();
+    private final HudLayer hudLayer = new HudLayer();
+    private final GreenDinoSwarm greenDinoSwarm = new GreenDinoSwarm();
+    private final SystemScheduler systemScheduler = new SystemScheduler();
+    private final PlayerInput playerInput = new PlayerInput(() -> getPlayer().getComponent(PlayerComponent.class));
 
     private EnemySpawner enemySpawner;
     private CollisionHandler collisionHandler;
@@ -46,24 +67,64 @@ public class GameInitializer {
      */
 
     public void initInput() {
-        onKey(KeyCode.UP, () -> player.getComponent(PlayerComponent.class).moveUp());
-        onKey(KeyCode.DOWN, () -> player.getComponent(PlayerComponent.class).moveDown());
-        onKey(KeyCode.LEFT, () -> player.getComponent(PlayerComponent.class).moveLeft());
-        onKey(KeyCode.RIGHT, () -> player.getComponent(PlayerComponent.class).moveRight());
+        // The keys are only recorded, the PlayerInput moves the ship in the INPUT phase of the frame
+        onKey(KeyCode.UP, playerInput::pressUp);
+        onKey(KeyCode.DOWN, playerInput::pressDown);
+        onKey(KeyCode.LEFT, playerInput::pressLeft);
+        onKey(KeyCode.RIGHT, playerInput::pressRight);
 
-        onKeyDown(KeyCode.SPACE, () -> player.getComponent(PlayerComponent.class).shoot());
+        onKeyDown(KeyCode.SPACE, playerInput::pressShoot);
 
-        onKey(KeyCode.W, () -> player.getComponent(PlayerComponent.class).moveUp());
-        onKey(KeyCode.S, () -> player.getComponent(PlayerComponent.class).moveDown());
-        onKey(KeyCode.A, () -> player.getComponent(PlayerComponent.class).moveLeft());
-        onKey(KeyCode.D, () -> player.getComponent(PlayerComponent.class).moveRight());
+        onKey(KeyCode.W, playerInput::pressUp);
+        onKey(KeyCode.S, playerInput::pressDown);
+        onKey(KeyCode.A, playerInput::pressLeft);
+        onKey(KeyCode.D, playerInput::pressRight);
 
         onKeyDown(KeyCode.B, () -> bomb.getComponent(BombComponent.class).useBomb(player));
+
+        // Debug: print the time every phase of the systems takes per frame
+        onKeyDown(KeyCode.F8, () -> systemScheduler.logTimings());
+        // Debug: print the memory taken by the decoded images and the decode times of the preloaded assets
+        onKeyDown(KeyCode.F9, () -> {
+            ImageRegistry.getInstance().logReport("Debug key");
+            AssetPreloader.getInstance().logReport();
+        });
+        // Debug: print how many hitbox hits the pixel masks rejected, the cancelled bullets, the hits on the
+        // paths of the fast projectiles, the broadphase hits and the hits resolved or dropped by the queue
+        onKeyDown(KeyCode.F10, () -> {
+            PixelNarrowphase.getInstance().logCounters();
+            BulletCancellation.getInstance().logCounters();
+            SweptCollisions.getInstance().logCounters();
+            CollisionQueue.getInstance().logCounters();
+            if (CollisionSystem.isEnabled()) {
+                CollisionSystem.getInstance().logCounters();
+            }
+        });
+        // Debug: print the size and reuse of the entity pools
+        onKeyDown(KeyCode.F11, () -> FXGL.<GameEntityFactory>geto("entityFactory").logCounters());
+        // Debug: print the alive entities, the spawns deferred by the budget and the bulk bullets
+        onKeyDown(KeyCode.F12, () -> {
+            EntityBudget.getInstance().logCounters();
+            BulletSystem.getInstance().logCounters();
+        });
     }
 
     public void initGame() {
         levelManager = new LevelManager();
         FXGL.set("levelManager", levelManager);
+        EntityRegistry entityRegistry = EntityRegistry.getInstance();
+        entityRegistry.setLevelManager(levelManager);
+        entityRegistry.attach(getGameWorld());
+        if (GreenDinoSwarm.isEnabled()) {
+            greenDinoSwarm.attach(getGameWorld());
+            EntityBudget.getInstance().useSwarmCaps();
+        }
+        if (BulletSystem.isEnabled()) {
+            initBulletSystem();
+        }
+        if (CollisionSystem.isEnabled()) {
+            CollisionSystem.getInstance().attach(getGameWorld());
+        }
         initGameEntities();
         collisionHandler = new CollisionHandler(levelManager);
         bossSpawner = new BossSpawner(settings, levelManager);
@@ -73,23 +134,80 @@ public class GameInitializer {
 
         new CountdownAnimation(3).startCountdown(() -> {
             enemySpawner.resumeEnemySpawning();
-            enemySpawner.spawnEnemies();
             coinSpawner.startSpawning();
         });
         enemySpawner = new EnemySpawner(this);
+        initSystems(coinSpawner);
+    }
+
+    /**
+     * Summary :
+     * Adds the systems of the new game to the scheduler, in the phase and order they run every frame
+     */
+    private void initSystems(CoinSpawner coinSpawner) {
+        systemScheduler.clear();
+        systemScheduler.add(SystemScheduler.Phase.INPUT, playerInput);
+        systemScheduler.add(SystemScheduler.Phase.AI, enemySpawner);
+        systemScheduler.add(SystemScheduler.Phase.AI, coinSpawner);
+        systemScheduler.add(SystemScheduler.Phase.MOVEMENT, greenDinoSwarm);
+
+        BulletSystem bulletSystem = BulletSystem.getInstance();
+        systemScheduler.add(SystemScheduler.Phase.MOVEMENT, bulletSystem::move);
+        systemScheduler.add(SystemScheduler.Phase.COLLISION, BulletCancellation.getInstance());
+        SweptCollisions sweptCollisions = SweptCollisions.getInstance();
+        if (CollisionSystem.isEnabled()) {
+            // The swept paths look up their targets in the grid, after the CollisionSystem updated it
+            systemScheduler.add(SystemScheduler.Phase.COLLISION, CollisionSystem.getInstance());
+            sweptCollisions.setGrid(CollisionSystem.getInstance().getGrid());
+        }
+        systemScheduler.add(SystemScheduler.Phase.COLLISION, sweptCollisions);
+        systemScheduler.add(SystemScheduler.Phase.COLLISION, tpf -> bulletSystem.collide());
+        CollisionQueue collisionQueue = CollisionQueue.getInstance();
+        collisionQueue.clear();
+        systemScheduler.add(SystemScheduler.Phase.CLEANUP, collisionQueue);
+        systemScheduler.add(SystemScheduler.Phase.CLEANUP, tpf -> bulletSystem.removeDead());
+        systemScheduler.add(SystemScheduler.Phase.HUD, tpf -> bulletSystem.draw());
+    }
+
+    /**
+     * Summary :
+     * The bullets are drawn on a canvas in the game world, over the background
+     */
+    private void initBulletSystem() {
+        BulletSystem bulletSystem = BulletSystem.getInstance();
+        int selectedWeapon = GameData.getSelectedWeapon();
+        String projectileImagePath = ImageCache.projectileImagePath(GameData.getSelectedShip(), selectedWeapon);
+        TextureAtlas atlas = TextureAtlas.getInstance();
+        bulletSystem.define("basicProjectile", EntityType.PROJECTILE, projectileImagePath,
+                atlas.getWidth(projectileImagePath), atlas.getHeight(projectileImagePath),
+                GameConstants.PROJECTILE_SPEED_PER_WEAPON * selectedWeapon);
+        bulletSystem.define("basicEnemyProjectile", EntityType.ENEMY_PROJECTILE,
+                GameConstants.ENEMY_PROJECTILE_IMAGE_PATH, 30, 17, GameConstants.ENEMY_PROJECTILE_SPEED);
+
+        Canvas canvas = new Canvas(getAppWidth(), getAppHeight());
+        getGameScene().addGameView(new GameView(canvas, 0));
+        bulletSystem.start(getAppWidth(), getAppHeight(), canvas);
     }
 
     private void initGameEntities() {
         spawn("background", 0, 0);
         player = spawn("player", getAppCenter().getX() - 45, getAppHeight() - 200);
-        levelDisplay = spawn("Level", getAppCenter().getX() - 270, getAppCenter().getY() + 350);
-        score = spawn("Score", getAppCenter().getX() - 270, getAppCenter().getY() - 350);
-        life = spawn("Life", getAppCenter().getX() - 260, getAppCenter().getY() + 290);
-        bomb = spawn("Bomb", getAppCenter().getX() - 260, getAppCenter().getY() - 280);
-        Entity coin = spawn("Coins", getAppCenter().getX() - 260, getAppCenter().getY() - 235);
+        initHud();
+    }
+
+    /**
+     * Summary :
+     * The HUD elements are UI nodes, outside of the game world
+     */
+    private void initHud() {
+        hudLayer.clear();
+        levelDisplay = hudLayer.add("Level", getAppCenter().getX() - 270, getAppCenter().getY() + 350);
+        score = hudLayer.add("Score", getAppCenter().getX() - 270, getAppCenter().getY() - 350);
+        life = hudLayer.add("Life", getAppCenter().getX() - 260, getAppCenter().getY() + 290);
+        bomb = hudLayer.add("Bomb", getAppCenter().getX() - 260, getAppCenter().getY() - 280);
+        Entity coin = hudLayer.add("Coins", getAppCenter().getX() - 260, getAppCenter().getY() - 235);
         collectedCoinsComponent = coin.getComponent(CollectedCoinsComponent.class);
-        bomb.addComponent(new BombComponent());
-        levelProgressBar = spawn("levelProgressBar", new SpawnData(getAppCenter().getX() - 170, getAppCenter().getY() + 340).put("levelManager", levelManager));
+        levelProgressBar = hudLayer.add("levelProgressBar", new SpawnData(getAppCenter().getX() - 170, getAppCenter().getY() + 340).put("levelManager", levelManager));
     }
 
     public EnemySpawner getEnemySpawner() {
@@ -176,6 +294,14 @@ public class GameInitializer {
         this.levelProgressBar = levelProgressBar;
     }
 
+    public GreenDinoSwarm getGreenDinoSwarm() {
+        return greenDinoSwarm;
+    }
+
+    public SystemScheduler getSystemScheduler() {
+        return systemScheduler;
+    }
+
     public LanguageManager getLanguageManager() {
         return languageManager;
     }
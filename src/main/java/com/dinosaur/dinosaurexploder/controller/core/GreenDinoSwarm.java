@@ -0,0 +1,185 @@
+package com.dinosaur.dinosaurexploder.controller.core;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.EntityWorldListener;
+import com.almasb.fxgl.entity.GameWorld;
+import com.dinosaur.dinosaurexploder.components.GreenDinoComponent;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.interfaces.GameSystem;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Summary :
+ * Optional system that moves every green dino in one loop, for swarm levels with hundreds of dinos.
+ * The position, speed, paused flag and time of the next shot of the dinos are kept in primitive
+ * arrays. Every tick updates them all at once, then writes the positions back to the entities;
+ * the GreenDinoComponent of a dino in the swarm is paused so FXGL does not update it on its own.
+ * It is enabled with -Ddinosaur.swarm=true, otherwise the green dinos update themselves. In swarm mode
+ * the EnemySpawner spawns a wave of dinos at a time (-Ddinosaur.swarm.wave=...) and the EntityBudget
+ * allows swarm sizes.
+ */
+public class GreenDinoSwarm implements EntityWorldListener, GameSystem {
+    public static final String ENABLED_PROPERTY = "dinosaur.swarm";
+    public static final String WAVE_PROPERTY = "dinosaur.swarm.wave";
+    private static final double SHOOT_INTERVAL_SECONDS = 1.5;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Consumer<GreenDinoComponent> shooter;
+    private final Map<Entity, Integer> slots = new IdentityHashMap<>();
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    private GreenDinoComponent[] components = new GreenDinoComponent[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] speed = new double[INITIAL_CAPACITY];
+    private boolean[] paused = new boolean[INITIAL_CAPACITY];
+    private double[] nextShot = new double[INITIAL_CAPACITY];
+    private int size;
+    // Seconds since the swarm was attached
+    private double time;
+    private GameWorld world;
+
+    public GreenDinoSwarm() {
+        this(GreenDinoComponent::shoot);
+    }
+
+    /**
+     * Summary :
+     * Parameters :
+     * Consumer<GreenDinoComponent> shooter - what a dino does when it shoots, replaced by the tests and benchmarks
+     */
+    public GreenDinoSwarm(Consumer<GreenDinoComponent> shooter) {
+        this.shooter = shooter;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Summary :
+     * Returns how many green dinos are spawned together, one unless the swarm is enabled
+     */
+    public static int getWaveSize() {
+        return isEnabled() ? Math.max(1, Integer.getInteger(WAVE_PROPERTY, GameConstants.SWARM_WAVE_SIZE)) : 1;
+    }
+
+    /**
+     * Summary :
+     * Takes over the green dinos of a new game world, the dinos of the previous one are dropped
+     */
+    public void attach(GameWorld gameWorld) {
+        if (world != null) {
+            world.removeWorldListener(this);
+        }
+        while (size > 0) {
+            leave(size - 1);
+        }
+        time = 0;
+        world = gameWorld;
+        for (Entity entity : gameWorld.getEntitiesByType(EntityType.GREEN_DINO)) {
+            onEntityAdded(entity);
+        }
+        gameWorld.addWorldListener(this);
+    }
+
+    /**
+     * Summary :
+     * Moves all the dinos of the swarm, makes the ready ones shoot and shows the new positions
+     */
+    @Override
+    public void onUpdate(double tpf) {
+        time += tpf;
+        for (int i = 0; i < size; i++) {
+            if (paused[i]) {
+                continue;
+            }
+            // Like GreenDinoComponent, the speed is in pixels per frame
+            y[i] += speed[i];
+            if (y[i] > 0 && time >= nextShot[i]) {
+                nextShot[i] = time + SHOOT_INTERVAL_SECONDS;
+                shooter.accept(components[i]);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            entities[i].setY(y[i]);
+        }
+    }
+
+    public void setPaused(Entity entity, boolean isPaused) {
+        Integer slot = slots.get(entity);
+        if (slot != null) {
+            paused[slot] = isPaused;
+        }
+    }
+
+    public boolean contains(Entity entity) {
+        return slots.containsKey(entity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void onEntityAdded(Entity entity) {
+        if (entity.getType() != EntityType.GREEN_DINO || slots.containsKey(entity)
+                || !entity.hasComponent(GreenDinoComponent.class)) {
+            return;
+        }
+        if (size == entities.length) {
+            grow();
+        }
+        GreenDinoComponent component = entity.getComponent(GreenDinoComponent.class);
+        component.pause();
+        entities[size] = entity;
+        components[size] = component;
+        y[size] = entity.getY();
+        speed[size] = component.getVerticalSpeed();
+        paused[size] = false;
+        // A dino shoots as soon as it is on screen
+        nextShot[size] = time;
+        slots.put(entity, size);
+        size++;
+    }
+
+    @Override
+    public void onEntityRemoved(Entity entity) {
+        Integer slot = slots.get(entity);
+        if (slot != null) {
+            leave(slot);
+        }
+    }
+
+    // Gives the component back its own update and moves the last dino in the free slot
+    private void leave(int slot) {
+        slots.remove(entities[slot]);
+        components[slot].resume();
+        int last = size - 1;
+        if (slot != last) {
+            entities[slot] = entities[last];
+            components[slot] = components[last];
+            y[slot] = y[last];
+            speed[slot] = speed[last];
+            paused[slot] = paused[last];
+            nextShot[slot] = nextShot[last];
+            slots.put(entities[slot], slot);
+        }
+        entities[last] = null;
+        components[last] = null;
+        size--;
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        components = Arrays.copyOf(components, capacity);
+        y = Arrays.copyOf(y, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        paused = Arrays.copyOf(paused, capacity);
+        nextShot = Arrays.copyOf(nextShot, capacity);
+    }
+}
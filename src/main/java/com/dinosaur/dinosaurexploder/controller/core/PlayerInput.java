@@ -0,0 +1,75 @@
+package com.dinosaur.dinosaurexploder.controller.core;
+
+import com.dinosaur.dinosaurexploder.interfaces.GameSystem;
+import com.dinosaur.dinosaurexploder.interfaces.Player;
+
+import java.util.function.Supplier;
+
+/**
+ * Summary :
+ * Input system of the player: the key bindings only record what was pressed, the ship is moved and
+ * shoots in the INPUT phase of the SystemScheduler, before the enemies, movements and collisions of
+ * the frame. A direction held with two keys (UP and W) still moves the ship once per frame.
+ */
+public class PlayerInput implements GameSystem {
+    private final Supplier<Player> player;
+    private boolean up;
+    private boolean down;
+    private boolean left;
+    private boolean right;
+    private boolean shoot;
+
+    /**
+     * Summary :
+     * Parameters :
+     * Supplier<Player> player - the player of the current game
+     */
+    public PlayerInput(Supplier<Player> player) {
+        this.player = player;
+    }
+
+    public void pressUp() {
+        up = true;
+    }
+
+    public void pressDown() {
+        down = true;
+    }
+
+    public void pressLeft() {
+        left = true;
+    }
+
+    public void pressRight() {
+        right = true;
+    }
+
+    public void pressShoot() {
+        shoot = true;
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        Player current = player.get();
+        if (up) {
+            current.moveUp();
+        }
+        if (down) {
+            current.moveDown();
+        }
+        if (left) {
+            current.moveLeft();
+        }
+        if (right) {
+            current.moveRight();
+        }
+        if (shoot) {
+            current.shoot();
+        }
+        up = false;
+        down = false;
+        left = false;
+        right = false;
+        shoot = false;
+    }
+}
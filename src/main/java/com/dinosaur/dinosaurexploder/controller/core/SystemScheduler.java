@@ -0,0 +1,107 @@
+package com.dinosaur.dinosaurexploder.controller.core;
+
+import com.dinosaur.dinosaurexploder.interfaces.GameSystem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary :
+ * Runs the game systems once per frame, phase after phase, and measures how long every phase takes.
+ * Inside a phase the systems run in the order they were added, so the order of a frame is always the
+ * same whatever the order of the entities in the world. FXGL still updates the other components of the
+ * entities (the red and orange dinos, the coins, the hearts, the ship trail) and their physics itself,
+ * before the systems.
+ */
+public class SystemScheduler {
+
+    /**
+     * Summary :
+     * The phases of a frame, in the order they run
+     */
+    public enum Phase {
+        // Systems that read the player input
+        INPUT,
+        // Decisions of the enemies and spawners
+        AI,
+        // Positions of the entities and bullets
+        MOVEMENT,
+        // Hits between the moved entities and bullets
+        COLLISION,
+        // Removal of what was hit or left the screen
+        CLEANUP,
+        // What is shown once the frame is final
+        HUD
+    }
+
+    private final Map<Phase, List<GameSystem>> systems = new EnumMap<>(Phase.class);
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private long ticks;
+
+    public SystemScheduler() {
+        for (Phase phase : Phase.values()) {
+            systems.put(phase, new ArrayList<>());
+        }
+    }
+
+    public void add(Phase phase, GameSystem system) {
+        systems.get(phase).add(system);
+    }
+
+    /**
+     * Summary :
+     * Removes every system, used when a new game adds its own ones
+     */
+    public void clear() {
+        for (List<GameSystem> phaseSystems : systems.values()) {
+            phaseSystems.clear();
+        }
+        resetTimings();
+    }
+
+    public void onUpdate(double tpf) {
+        for (Phase phase : Phase.values()) {
+            List<GameSystem> phaseSystems = systems.get(phase);
+            long start = System.nanoTime();
+            for (int i = 0; i < phaseSystems.size(); i++) {
+                phaseSystems.get(i).onUpdate(tpf);
+            }
+            phaseNanos[phase.ordinal()] += System.nanoTime() - start;
+        }
+        ticks++;
+    }
+
+    public List<GameSystem> getSystems(Phase phase) {
+        return Collections.unmodifiableList(systems.get(phase));
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Summary :
+     * Returns the average time of a phase per frame, in milliseconds
+     */
+    public double getAverageMillis(Phase phase) {
+        return ticks == 0 ? 0 : phaseNanos[phase.ordinal()] / 1e6 / ticks;
+    }
+
+    public void resetTimings() {
+        ticks = 0;
+        for (int i = 0; i < phaseNanos.length; i++) {
+            phaseNanos[i] = 0;
+        }
+    }
+
+    public void logTimings() {
+        StringBuilder report = new StringBuilder("Systems over " + ticks + " frames (ms per frame):");
+        for (Phase phase : Phase.values()) {
+            report.append(String.format(" %s %.3f (%d)", phase, getAverageMillis(phase), systems.get(phase).size()));
+        }
+        System.out.println(report);
+    }
+}
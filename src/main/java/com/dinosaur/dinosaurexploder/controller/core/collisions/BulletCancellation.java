@@ -0,0 +1,132 @@
+package com.dinosaur.dinosaurexploder.controller.core.collisions;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.components.BoundingBoxComponent;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.interfaces.GameSystem;
+import com.dinosaur.dinosaurexploder.utils.EntityRegistry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Summary :
+ * Cancels the player bullets and enemy bullets that hit each other, in place of the FXGL or
+ * CollisionSystem pairing of PROJECTILE with ENEMY_PROJECTILE, which tests every player bullet
+ * against every enemy bullet.
+ * Once per tick the bounds of both kinds of bullets are given to a BulletSweep, the pairs it finds are
+ * checked like FXGL and the PixelNarrowphase check two entities, then the action of
+ * ProjectileEnemyProjectileCollision is given every cancelled pair; in the game it posts them to the
+ * CollisionQueue, which removes all the cancelled bullets together at the end of the tick.
+ * A bullet cancels at most one bullet of the other side.
+ */
+public class BulletCancellation implements GameSystem {
+    private static BulletCancellation instance;
+
+    private final EntityRegistry registry;
+    private final PixelNarrowphase narrowphase = PixelNarrowphase.getInstance();
+    private final BulletSweep sweep = new BulletSweep();
+    private final BulletSweep.PairTest hitTest = this::hits;
+    private BiConsumer<Entity, Entity> action;
+
+    // Bullets given to the sweep, by their index in it
+    private Entity[] projectiles = new Entity[64];
+    private Entity[] enemyProjectiles = new Entity[64];
+
+    private int lastCancelled;
+    private long cancelledTotal;
+
+    /**
+     * Summary :
+     * Parameters :
+     * EntityRegistry registry - where the live bullets are looked up
+     */
+    public BulletCancellation(EntityRegistry registry) {
+        this.registry = registry;
+    }
+
+    public static synchronized BulletCancellation getInstance() {
+        if (instance == null) {
+            instance = new BulletCancellation(EntityRegistry.getInstance());
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Returns true for the collision this system handles, player bullets against enemy bullets
+     */
+    public static boolean handles(EntityType typeA, EntityType typeB) {
+        return typeA == EntityType.PROJECTILE && typeB == EntityType.ENEMY_PROJECTILE;
+    }
+
+    /**
+     * Summary :
+     * Sets the action run for every cancelled pair, the player bullet first
+     */
+    public void setAction(BiConsumer<Entity, Entity> action) {
+        this.action = action;
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        lastCancelled = 0;
+        List<Entity> liveProjectiles = registry.getEntities(EntityType.PROJECTILE);
+        List<Entity> liveEnemyProjectiles = registry.getEntities(EntityType.ENEMY_PROJECTILE);
+        if (action == null || liveProjectiles.isEmpty() || liveEnemyProjectiles.isEmpty()) {
+            return;
+        }
+        sweep.clear();
+        projectiles = capture(liveProjectiles, projectiles, true);
+        enemyProjectiles = capture(liveEnemyProjectiles, enemyProjectiles, false);
+        int pairs = sweep.sweep(hitTest);
+
+        for (int i = 0; i < pairs; i++) {
+            Entity projectile = projectiles[sweep.getPairFirst(i)];
+            Entity enemyProjectile = enemyProjectiles[sweep.getPairSecond(i)];
+            action.accept(projectile, enemyProjectile);
+        }
+        Arrays.fill(projectiles, 0, liveProjectiles.size(), null);
+        Arrays.fill(enemyProjectiles, 0, liveEnemyProjectiles.size(), null);
+        lastCancelled = pairs;
+        cancelledTotal += pairs;
+    }
+
+    // Gives the bounds of the bullets to the sweep, the array keeps the bullet of every index
+    private Entity[] capture(List<Entity> live, Entity[] bullets, boolean first) {
+        if (live.size() > bullets.length) {
+            bullets = new Entity[Math.max(live.size(), bullets.length * 2)];
+        }
+        for (int i = 0; i < live.size(); i++) {
+            Entity bullet = live.get(i);
+            BoundingBoxComponent bbox = bullet.getBoundingBoxComponent();
+            bullets[i] = bullet;
+            if (first) {
+                sweep.addFirst(bbox.getMinXWorld(), bbox.getMinYWorld(), bbox.getMaxXWorld(), bbox.getMaxYWorld());
+            } else {
+                sweep.addSecond(bbox.getMinXWorld(), bbox.getMinYWorld(), bbox.getMaxXWorld(), bbox.getMaxYWorld());
+            }
+        }
+        return bullets;
+    }
+
+    private boolean hits(int projectile, int enemyProjectile) {
+        Entity a = projectiles[projectile];
+        Entity b = enemyProjectiles[enemyProjectile];
+        return a.isColliding(b) && narrowphase.accepts(a, b);
+    }
+
+    public int getLastCancelled() {
+        return lastCancelled;
+    }
+
+    public long getCancelledTotal() {
+        return cancelledTotal;
+    }
+
+    public void logCounters() {
+        System.out.println("Bullet cancellation: " + lastCancelled + " pairs last tick, " + cancelledTotal
+                + " in total, " + sweep.getTests() + " overlapping pairs tested last sweep");
+    }
+}
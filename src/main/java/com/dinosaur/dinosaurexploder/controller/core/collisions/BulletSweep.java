@@ -0,0 +1,213 @@
+package com.dinosaur.dinosaurexploder.controller.core.collisions;
+
+import java.util.Arrays;
+
+/**
+ * Summary :
+ * Sweep and prune between two sets of boxes, used to find the player bullets and enemy bullets that
+ * cancel each other.
+ * Both sets are sorted on their top edge, the axis the bullets travel on, then swept from top to bottom.
+ * A box is only tested against the boxes of the other set still open at its top edge, which for small
+ * bullets is a handful, so a sweep costs a sort plus a pass over both sets instead of every pair.
+ * A box is cancelled by at most one box of the other set: the first one open when it is reached whose
+ * bounds overlap and that the PairTest accepts.
+ * The arrays grow when needed and are kept between sweeps.
+ */
+public class BulletSweep {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Side first = new Side();
+    private final Side second = new Side();
+    private int[] pairFirst = new int[INITIAL_CAPACITY];
+    private int[] pairSecond = new int[INITIAL_CAPACITY];
+    private int pairCount;
+    private int tests;
+
+    /**
+     * Summary :
+     * Tells if two boxes whose bounds overlap really cancel each other, given their indexes in their sets
+     */
+    public interface PairTest {
+        boolean accepts(int first, int second);
+    }
+
+    public void clear() {
+        first.size = 0;
+        second.size = 0;
+        pairCount = 0;
+    }
+
+    /**
+     * Summary :
+     * Adds a box to the first set and returns its index in the set
+     */
+    public int addFirst(double minX, double minY, double maxX, double maxY) {
+        return first.add(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Summary :
+     * Adds a box to the second set and returns its index in the set
+     */
+    public int addSecond(double minX, double minY, double maxX, double maxY) {
+        return second.add(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Summary :
+     * Finds the pairs of boxes that cancel each other and returns how many there are
+     */
+    public int sweep(PairTest test) {
+        pairCount = 0;
+        tests = 0;
+        if (first.size == 0 || second.size == 0) {
+            return 0;
+        }
+        first.sort();
+        second.sort();
+        int nextFirst = 0;
+        int nextSecond = 0;
+        while (nextFirst < first.size || nextSecond < second.size) {
+            boolean takeFirst = nextSecond == second.size
+                    || (nextFirst < first.size && first.keys[nextFirst] <= second.keys[nextSecond]);
+            if (takeFirst) {
+                int box = first.indexAt(nextFirst++);
+                int match = second.findOpen(first, box, test, true);
+                if (match < 0) {
+                    first.open(box);
+                } else {
+                    addPair(box, match);
+                }
+            } else {
+                int box = second.indexAt(nextSecond++);
+                int match = first.findOpen(second, box, test, false);
+                if (match < 0) {
+                    second.open(box);
+                } else {
+                    addPair(match, box);
+                }
+            }
+        }
+        return pairCount;
+    }
+
+    public int getPairCount() {
+        return pairCount;
+    }
+
+    /**
+     * Summary :
+     * Returns the index in the first set of the box of a pair
+     */
+    public int getPairFirst(int pair) {
+        return pairFirst[pair];
+    }
+
+    /**
+     * Summary :
+     * Returns the index in the second set of the box of a pair
+     */
+    public int getPairSecond(int pair) {
+        return pairSecond[pair];
+    }
+
+    /**
+     * Summary :
+     * Returns how many overlapping pairs were given to the PairTest during the last sweep
+     */
+    public int getTests() {
+        return tests;
+    }
+
+    private void addPair(int firstBox, int secondBox) {
+        if (pairCount == pairFirst.length) {
+            pairFirst = Arrays.copyOf(pairFirst, pairCount * 2);
+            pairSecond = Arrays.copyOf(pairSecond, pairCount * 2);
+        }
+        pairFirst[pairCount] = firstBox;
+        pairSecond[pairCount] = secondBox;
+        pairCount++;
+    }
+
+    /**
+     * Summary :
+     * The boxes of one set, their sort keys and the boxes still open during the sweep
+     */
+    private class Side {
+        private double[] minX = new double[INITIAL_CAPACITY];
+        private double[] minY = new double[INITIAL_CAPACITY];
+        private double[] maxX = new double[INITIAL_CAPACITY];
+        private double[] maxY = new double[INITIAL_CAPACITY];
+        // Top edge of the box in the high bits and its index in the low bits, sorted
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private int[] openBoxes = new int[INITIAL_CAPACITY];
+        private int openCount;
+        private int size;
+
+        int add(double boxMinX, double boxMinY, double boxMaxX, double boxMaxY) {
+            if (size == minX.length) {
+                int capacity = size * 2;
+                minX = Arrays.copyOf(minX, capacity);
+                minY = Arrays.copyOf(minY, capacity);
+                maxX = Arrays.copyOf(maxX, capacity);
+                maxY = Arrays.copyOf(maxY, capacity);
+                keys = Arrays.copyOf(keys, capacity);
+                openBoxes = Arrays.copyOf(openBoxes, capacity);
+            }
+            minX[size] = boxMinX;
+            minY[size] = boxMinY;
+            maxX[size] = boxMaxX;
+            maxY[size] = boxMaxY;
+            keys[size] = ((long) sortableBits((float) boxMinY) << 32) | size;
+            return size++;
+        }
+
+        void sort() {
+            Arrays.sort(keys, 0, size);
+            openCount = 0;
+        }
+
+        int indexAt(int position) {
+            return (int) keys[position];
+        }
+
+        void open(int box) {
+            openBoxes[openCount++] = box;
+        }
+
+        /**
+         * Summary :
+         * Closes the open boxes that end above the box of the other side, then returns the first open
+         * box that cancels it, or -1. The box found is closed.
+         */
+        int findOpen(Side other, int box, PairTest test, boolean otherIsFirst) {
+            double top = other.minY[box];
+            double left = other.minX[box];
+            double right = other.maxX[box];
+            int i = 0;
+            while (i < openCount) {
+                int open = openBoxes[i];
+                if (maxY[open] <= top) {
+                    openBoxes[i] = openBoxes[--openCount];
+                    continue;
+                }
+                // Still open, so the two boxes overlap on Y
+                if (minX[open] < right && maxX[open] > left) {
+                    tests++;
+                    if (otherIsFirst ? test.accepts(box, open) : test.accepts(open, box)) {
+                        openBoxes[i] = openBoxes[--openCount];
+                        return open;
+                    }
+                }
+                i++;
+            }
+            return -1;
+        }
+    }
+
+    // Bits of a float ordered like the floats when compared as ints
+    private static int sortableBits(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & 0x7fffffff);
+    }
+}
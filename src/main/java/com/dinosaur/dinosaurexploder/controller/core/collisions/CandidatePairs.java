@@ -0,0 +1,44 @@
+package com.dinosaur.dinosaurexploder.controller.core.collisions;
+
+import com.almasb.fxgl.entity.Entity;
+
+import java.util.Arrays;
+
+/**
+ * Summary :
+ * Reusable list of the pairs of entities the broadphase found close enough to collide.
+ * The arrays grow when needed and are kept between ticks, so collecting the pairs allocates nothing.
+ */
+public class CandidatePairs {
+    private Entity[] first = new Entity[64];
+    private Entity[] second = new Entity[64];
+    private int size;
+
+    public void add(Entity a, Entity b) {
+        if (size == first.length) {
+            first = Arrays.copyOf(first, size * 2);
+            second = Arrays.copyOf(second, size * 2);
+        }
+        first[size] = a;
+        second[size] = b;
+        size++;
+    }
+
+    public Entity getFirst(int index) {
+        return first[index];
+    }
+
+    public Entity getSecond(int index) {
+        return second[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(first, 0, size, null);
+        Arrays.fill(second, 0, size, null);
+        size = 0;
+    }
+}
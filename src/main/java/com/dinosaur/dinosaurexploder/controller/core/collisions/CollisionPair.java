@@ -0,0 +1,102 @@
+package com.dinosaur.dinosaurexploder.controller.core.collisions;
+
+import com.almasb.fxgl.entity.Entity;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Summary :
+ * A collision registered with the CollisionSystem: the two entity types and the action of the hit.
+ * Like the MaskedCollisionHandler, the action runs once per contact, on the first tick the
+ * PixelNarrowphase accepts the hit; a contact ends on the first tick the hitboxes don't touch.
+ */
+class CollisionPair {
+    private final EntityType typeA;
+    private final EntityType typeB;
+    private final BiConsumer<Entity, Entity> action;
+    private final PixelNarrowphase narrowphase;
+    // Contacts whose action already ran, only a few at a time
+    private final List<Contact> handled = new ArrayList<>();
+
+    CollisionPair(EntityType typeA, EntityType typeB, BiConsumer<Entity, Entity> action, PixelNarrowphase narrowphase) {
+        this.typeA = typeA;
+        this.typeB = typeB;
+        this.action = action;
+        this.narrowphase = narrowphase;
+    }
+
+    EntityType getTypeA() {
+        return typeA;
+    }
+
+    EntityType getTypeB() {
+        return typeB;
+    }
+
+    /**
+     * Summary :
+     * Called for every pair whose hitboxes touch this tick, returns true when the action ran
+     */
+    boolean touch(Entity a, Entity b) {
+        if (keepContact(a, b) || !narrowphase.accepts(a, b)) {
+            return false;
+        }
+        hit(a, b);
+        return true;
+    }
+
+    /**
+     * Summary :
+     * Returns true when the action already ran during the current contact of the two entities, which
+     * goes on this tick
+     */
+    boolean keepContact(Entity a, Entity b) {
+        for (Contact contact : handled) {
+            if (contact.a == a && contact.b == b) {
+                contact.touching = true;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Summary :
+     * Starts the contact of the two entities, whose hit was accepted, and runs the action
+     */
+    void hit(Entity a, Entity b) {
+        Contact contact = new Contact(a, b);
+        contact.touching = true;
+        handled.add(contact);
+        action.accept(a, b);
+    }
+
+    /**
+     * Summary :
+     * Ends the contacts that were not touched this tick or whose entities were removed
+     */
+    void endTick() {
+        handled.removeIf(contact -> !contact.touching || !contact.a.isActive() || !contact.b.isActive());
+        for (Contact contact : handled) {
+            contact.touching = false;
+        }
+    }
+
+    void clearContacts() {
+        handled.clear();
+    }
+
+    private static class Contact {
+        private final Entity a;
+        private final Entity b;
+        private boolean touching;
+
+        Contact(Entity a, Entity b) {
+            this.a = a;
+            this.b = b;
+        }
+    }
+}
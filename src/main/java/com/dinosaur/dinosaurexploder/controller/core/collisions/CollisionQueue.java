@@ -0,0 +1,187 @@
+package com.dinosaur.dinosaurexploder.controller.core.collisions;
+
+import com.almasb.fxgl.entity.Entity;
+import com.dinosaur.dinosaurexploder.interfaces.GameSystem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Summary :
+ * Collects the collisions found during a tick and resolves them together at the end of it.
+ * The actions registered with PixelNarrowphase.onCollisionBegin don't run when FXGL, the CollisionSystem
+ * or the BulletCancellation find a hit: the hit is posted here, and every tick the CLEANUP phase runs the
+ * posted actions in the order they were found.
+ * While they run, the entities given to CollisionQueue.removeFromWorld are only marked, a later hit of
+ * the tick with a marked or removed entity is dropped, as is a second hit of the same two entities.
+ * So two projectiles hitting the same dino in one tick give one explosion and one kill.
+ * The marked entities are removed together once every action ran.
+ */
+public class CollisionQueue implements GameSystem {
+    private static CollisionQueue instance;
+
+    // Posted hits, kept between ticks so posting allocates nothing
+    private final List<BiConsumer<Entity, Entity>> actions = new ArrayList<>();
+    private final List<Entity> firstEntities = new ArrayList<>();
+    private final List<Entity> secondEntities = new ArrayList<>();
+    private final Set<Entity> marked = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Entity> outsideWorld = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Entity> removals = new ArrayList<>();
+    private boolean resolving;
+
+    private int lastPosted;
+    private int lastResolved;
+    private int lastDropped;
+    private int lastRemoved;
+    private long resolvedTotal;
+    private long droppedTotal;
+
+    // Public so the tests can use their own queue
+    public CollisionQueue() {
+    }
+
+    public static synchronized CollisionQueue getInstance() {
+        if (instance == null) {
+            instance = new CollisionQueue();
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Removes the entity once the collisions of the tick are resolved, or right away outside of them
+     */
+    public static void removeFromWorld(Entity entity) {
+        getInstance().remove(entity);
+    }
+
+    /**
+     * Summary :
+     * Returns an action that posts the hit here instead of running the given action
+     */
+    public BiConsumer<Entity, Entity> queued(BiConsumer<Entity, Entity> action) {
+        return (a, b) -> post(action, a, b);
+    }
+
+    public void post(BiConsumer<Entity, Entity> action, Entity a, Entity b) {
+        actions.add(action);
+        firstEntities.add(a);
+        secondEntities.add(b);
+    }
+
+    /**
+     * Summary :
+     * Counts the entity as alive until it is marked, for an entity that stands in for something that is not in
+     * the game world, like the copy of a bullet of the BulletSystem. It is forgotten once the batch is resolved.
+     */
+    public void keepOutsideWorld(Entity entity) {
+        outsideWorld.add(entity);
+    }
+
+    public void remove(Entity entity) {
+        if (!resolving) {
+            entity.removeFromWorld();
+        } else if (marked.add(entity)) {
+            removals.add(entity);
+        }
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        resolve();
+    }
+
+    /**
+     * Summary :
+     * Runs the actions of the posted hits in order, then removes the entities they marked
+     */
+    public void resolve() {
+        lastPosted = actions.size();
+        lastResolved = 0;
+        lastDropped = 0;
+        lastRemoved = 0;
+        if (actions.isEmpty()) {
+            return;
+        }
+        resolving = true;
+        try {
+            // An action can post more hits, they are resolved in the same batch
+            for (int i = 0; i < actions.size(); i++) {
+                Entity a = firstEntities.get(i);
+                Entity b = secondEntities.get(i);
+                if (isGone(a) || isGone(b) || isDuplicate(i)) {
+                    lastDropped++;
+                    continue;
+                }
+                actions.get(i).accept(a, b);
+                lastResolved++;
+            }
+        } finally {
+            resolving = false;
+            for (Entity entity : removals) {
+                if (entity.isActive()) {
+                    entity.removeFromWorld();
+                    lastRemoved++;
+                }
+            }
+            lastPosted = actions.size();
+            resolvedTotal += lastResolved;
+            droppedTotal += lastDropped;
+            clear();
+        }
+    }
+
+    /**
+     * Summary :
+     * Drops the posted hits and the marked entities, for a new game
+     */
+    public void clear() {
+        actions.clear();
+        firstEntities.clear();
+        secondEntities.clear();
+        marked.clear();
+        outsideWorld.clear();
+        removals.clear();
+    }
+
+    private boolean isGone(Entity entity) {
+        return marked.contains(entity) || !entity.isActive() && !outsideWorld.contains(entity);
+    }
+
+    // Few hits are posted per tick, a scan of the previous ones is enough
+    private boolean isDuplicate(int hit) {
+        for (int i = 0; i < hit; i++) {
+            if (actions.get(i) == actions.get(hit) && firstEntities.get(i) == firstEntities.get(hit)
+                    && secondEntities.get(i) == secondEntities.get(hit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return actions.size();
+    }
+
+    public int getLastResolved() {
+        return lastResolved;
+    }
+
+    public int getLastDropped() {
+        return lastDropped;
+    }
+
+    public int getLastRemoved() {
+        return lastRemoved;
+    }
+
+    public void logCounters() {
+        System.out.println("Collision queue: last batch " + lastPosted + " hits posted, " + lastResolved
+                + " resolved, " + lastDropped + " dropped, " + lastRemoved + " entities removed; "
+                + resolvedTotal + " resolved and " + droppedTotal + " dropped in total");
+    }
+}
@@ -0,0 +1,270 @@
+package com.dinosaur.dinosaurexploder.controller.core.collisions;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.EntityWorldListener;
+import com.almasb.fxgl.entity.GameWorld;
+import com.almasb.fxgl.entity.components.CollidableComponent;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.interfaces.GameSystem;
+import com.dinosaur.dinosaurexploder.view.DinosaurGUI;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+
+/**
+ * Summary :
+ * Optional collision detection that replaces the FXGL physics pairing of the collidable entities.
+ * The collidable entities are kept in a SpatialHash over the playfield, updated once per tick. For every
+ * registered pair of types, only the entities sharing a cell are tested: their hitboxes like FXGL does,
+ * then the PixelNarrowphase, then the action registered with PixelNarrowphase.onCollisionBegin.
+ * The FXGL collidable flag of the entities it follows is turned off, so FXGL doesn't test them as well.
+ * The counters tell how many candidate pairs the grid gave, how many had touching hitboxes and how many
+ * ran their action.
+ * From a number of candidate pairs in a tick (-Ddinosaur.parallelCollisions, 2000 by default), the hitboxes
+ * and the pixels of the pairs are tested on the threads of a ForkJoinPool, in a ContactBatch; only the
+ * contacts are then kept and the actions run on the FX thread, in the order of the candidates.
+ * The entity budget of a normal game (GameConstants.MAX_ENTITIES) stays far below that many candidates,
+ * the parallel checks are meant for the swarm mode and its larger caps.
+ * It is enabled with -Ddinosaur.spatialHash=true, otherwise the collisions go through FXGL.
+ */
+public class CollisionSystem implements EntityWorldListener, GameSystem {
+    public static final String ENABLED_PROPERTY = "dinosaur.spatialHash";
+    public static final String PARALLEL_THRESHOLD_PROPERTY = "dinosaur.parallelCollisions";
+
+    private static CollisionSystem instance;
+
+    private final SpatialHash grid;
+    private final PixelNarrowphase narrowphase = PixelNarrowphase.getInstance();
+    private final List<CollisionPair> pairs = new ArrayList<>();
+    private final CandidatePairs candidates = new CandidatePairs();
+    // Index in pairs of the registered collision of every candidate
+    private int[] candidatePairs = new int[64];
+    private final ContactBatch batch = new ContactBatch();
+    private final ForkJoinPool pool;
+    private int parallelThreshold = Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY,
+            GameConstants.PARALLEL_COLLISION_THRESHOLD);
+    private GameWorld world;
+
+    private int lastCandidates;
+    private int lastContacts;
+    private int lastHits;
+    private long candidateTotal;
+    private long contactTotal;
+    private long hitTotal;
+    private long ticks;
+    private boolean lastParallel;
+    private long parallelTicks;
+
+    /**
+     * Summary :
+     * Parameters :
+     * double width, height - size of the playfield
+     * double cellSize - side of a cell of the grid
+     */
+    public CollisionSystem(double width, double height, double cellSize) {
+        this(width, height, cellSize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Summary :
+     * Parameters :
+     * double width, height - size of the playfield
+     * double cellSize - side of a cell of the grid
+     * ForkJoinPool pool - threads of the checks of the large ticks
+     */
+    public CollisionSystem(double width, double height, double cellSize, ForkJoinPool pool) {
+        grid = new SpatialHash(width, height, cellSize);
+        this.pool = pool;
+    }
+
+    public static synchronized CollisionSystem getInstance() {
+        if (instance == null) {
+            instance = new CollisionSystem(DinosaurGUI.WIDTH, DinosaurGUI.HEIGHT, GameConstants.COLLISION_CELL_SIZE);
+        }
+        return instance;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Summary :
+     * Registers the action of a collision, a new action for the same two types replaces the previous one
+     */
+    public void addHandler(EntityType typeA, EntityType typeB, BiConsumer<Entity, Entity> action) {
+        pairs.removeIf(pair -> pair.getTypeA() == typeA && pair.getTypeB() == typeB);
+        pairs.add(new CollisionPair(typeA, typeB, action, narrowphase));
+    }
+
+    /**
+     * Summary :
+     * Follows the collidable entities of a new game world, the entities of the previous one are dropped
+     */
+    public void attach(GameWorld gameWorld) {
+        if (world != null) {
+            world.removeWorldListener(this);
+        }
+        grid.clear();
+        for (CollisionPair pair : pairs) {
+            pair.clearContacts();
+        }
+        world = gameWorld;
+        for (Entity entity : gameWorld.getEntities()) {
+            onEntityAdded(entity);
+        }
+        gameWorld.addWorldListener(this);
+    }
+
+    /**
+     * Summary :
+     * Finds the pairs of entities that hit each other this tick and runs their actions
+     */
+    @Override
+    public void onUpdate(double tpf) {
+        grid.update();
+        lastContacts = 0;
+        lastHits = 0;
+        candidates.clear();
+        for (int p = 0; p < pairs.size(); p++) {
+            int first = candidates.size();
+            CollisionPair pair = pairs.get(p);
+            grid.collectPairs(pair.getTypeA(), pair.getTypeB(), candidates);
+            if (candidates.size() > candidatePairs.length) {
+                candidatePairs = Arrays.copyOf(candidatePairs, Math.max(candidates.size(), candidatePairs.length * 2));
+            }
+            Arrays.fill(candidatePairs, first, candidates.size(), p);
+        }
+        lastCandidates = candidates.size();
+        lastParallel = lastCandidates >= parallelThreshold && pool.getParallelism() > 1;
+        if (lastParallel) {
+            checkInParallel();
+            parallelTicks++;
+        } else {
+            check();
+        }
+        for (int p = 0; p < pairs.size(); p++) {
+            pairs.get(p).endTick();
+        }
+        candidates.clear();
+        candidateTotal += lastCandidates;
+        contactTotal += lastContacts;
+        hitTotal += lastHits;
+        ticks++;
+    }
+
+    private void check() {
+        for (int i = 0; i < candidates.size(); i++) {
+            Entity a = candidates.getFirst(i);
+            Entity b = candidates.getSecond(i);
+            // An action may have removed one of them
+            if (!a.isActive() || !b.isActive() || !a.isColliding(b)) {
+                continue;
+            }
+            lastContacts++;
+            if (pairs.get(candidatePairs[i]).touch(a, b)) {
+                lastHits++;
+            }
+        }
+    }
+
+    /**
+     * Summary :
+     * Tests the hitboxes and pixels of the candidates on the pool, then keeps the contacts and runs the
+     * actions of the new ones on this thread, in the order of the candidates like check does
+     */
+    private void checkInParallel() {
+        batch.clear();
+        for (int i = 0; i < candidates.size(); i++) {
+            batch.add(candidates.getFirst(i), candidates.getSecond(i), narrowphase);
+        }
+        batch.check(pool, GameConstants.PARALLEL_COLLISION_GRAIN);
+
+        for (int i = 0; i < candidates.size(); i++) {
+            byte result = batch.getResult(i);
+            Entity a = candidates.getFirst(i);
+            Entity b = candidates.getSecond(i);
+            // An action may have removed one of them
+            if (result == ContactBatch.APART || !a.isActive() || !b.isActive()) {
+                continue;
+            }
+            lastContacts++;
+            CollisionPair pair = pairs.get(candidatePairs[i]);
+            if (pair.keepContact(a, b)) {
+                continue;
+            }
+            boolean accepted = result == ContactBatch.TOUCHING;
+            if (batch.isPixelChecked(i)) {
+                narrowphase.count(pair.getTypeA(), pair.getTypeB(), accepted);
+            }
+            if (accepted) {
+                pair.hit(a, b);
+                lastHits++;
+            }
+        }
+        batch.clear();
+    }
+
+    /**
+     * Summary :
+     * Sets from how many candidate pairs in a tick they are checked on several threads
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public boolean isLastParallel() {
+        return lastParallel;
+    }
+
+    public SpatialHash getGrid() {
+        return grid;
+    }
+
+    public int getLastCandidates() {
+        return lastCandidates;
+    }
+
+    public int getLastContacts() {
+        return lastContacts;
+    }
+
+    public int getLastHits() {
+        return lastHits;
+    }
+
+    public void resetCounters() {
+        candidateTotal = 0;
+        contactTotal = 0;
+        hitTotal = 0;
+        ticks = 0;
+        parallelTicks = 0;
+    }
+
+    public void logCounters() {
+        double perTick = Math.max(1, ticks);
+        System.out.printf("Broadphase: %d entities in a %dx%d grid, last tick %d candidate pairs / %d touching / %d hits,"
+                        + " per tick %.1f / %.1f / %.2f over %d ticks (%d on %d threads), %d cell changes%n",
+                grid.size(), grid.getColumns(), grid.getRows(), lastCandidates, lastContacts, lastHits,
+                candidateTotal / perTick, contactTotal / perTick, hitTotal / perTick, ticks, parallelTicks,
+                pool.getParallelism(), grid.getMoves());
+    }
+
+    @Override
+    public void onEntityAdded(Entity entity) {
+        if (!entity.hasComponent(CollidableComponent.class)) {
+            return;
+        }
+        entity.getComponent(CollidableComponent.class).setValue(false);
+        grid.add(entity);
+    }
+
+    @Override
+    public void onEntityRemoved(Entity entity) {
+        grid.remove(entity);
+    }
+}
@@ -0,0 +1,320 @@
+package com.dinosaur.dinosaurexploder.controller.core.collisions;
+
+import com.almasb.fxgl.core.math.FXGLMath;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.components.TransformComponent;
+import com.almasb.fxgl.physics.HitBox;
+import com.dinosaur.dinosaurexploder.utils.PixelMask;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Summary :
+ * The candidate pairs of a tick, checked on several threads.
+ * FXGL entities are not thread safe (FXGL even tests rotated hitboxes with shared scratch objects), so
+ * everything the checks need is copied on the FX thread first: the transforms of the two entities, the local
+ * bounds of their hitboxes, and their pixel masks with where they are drawn.
+ * The checks then only read these copies and the immutable masks, and every task writes the results of
+ * its own range of pairs. A check does what Entity.isColliding and PixelNarrowphase.accepts do:
+ * - the hitboxes of two unrotated entities are compared as boxes, otherwise with the separating axis
+ *   test of FXGL, on the corners it would compute, in floats like it
+ * - the pixels are checked like PixelNarrowphase.accepts, see pixelCheckOf
+ * The results are read back on the FX thread, where only the contacts are kept and the actions run.
+ */
+class ContactBatch {
+    // Results of a pair
+    static final byte APART = 0;
+    static final byte PIXELS_APART = 1;
+    static final byte TOUCHING = 2;
+
+    private static final int INITIAL_CAPACITY = 256;
+    // Transform of an entity: x, y, rotation, rotation origin, scale and scale origin
+    private static final int TRANSFORM_SIZE = 9;
+    private static final int X = 0;
+    private static final int Y = 1;
+    private static final int ANGLE = 2;
+    private static final int ROTATION_ORIGIN_X = 3;
+    private static final int ROTATION_ORIGIN_Y = 4;
+    private static final int SCALE_X = 5;
+    private static final int SCALE_Y = 6;
+    private static final int SCALE_ORIGIN_X = 7;
+    private static final int SCALE_ORIGIN_Y = 8;
+    // Local minX, minY, maxX and maxY of a hitbox
+    private static final int HIT_BOX_SIZE = 4;
+
+    private double[] transforms = new double[2 * TRANSFORM_SIZE * INITIAL_CAPACITY];
+    // Hitboxes of the two entities of a pair, from hitBoxStarts to hitBoxEnds
+    private double[] hitBoxes = new double[2 * HIT_BOX_SIZE * INITIAL_CAPACITY];
+    private int[] hitBoxStarts = new int[2 * INITIAL_CAPACITY];
+    private int[] hitBoxEnds = new int[2 * INITIAL_CAPACITY];
+    private int hitBoxSize;
+    private byte[] pixelChecks = new byte[INITIAL_CAPACITY];
+    private PixelMask[] masks = new PixelMask[2 * INITIAL_CAPACITY];
+    private int[] boxes = new int[8 * INITIAL_CAPACITY];
+    private double[] poses = new double[2 * PixelNarrowphase.POSE_SIZE * INITIAL_CAPACITY];
+    private byte[] results = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    void clear() {
+        Arrays.fill(masks, 0, 2 * size, null);
+        size = 0;
+        hitBoxSize = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Summary :
+     * Copies what the check of the two entities needs, on the FX thread
+     */
+    void add(Entity a, Entity b, PixelNarrowphase narrowphase) {
+        if (size == results.length) {
+            grow();
+        }
+        int pair = size++;
+        copyHitBoxes(a, 2 * pair);
+        copyHitBoxes(b, 2 * pair + 1);
+        PixelMask maskA = PixelNarrowphase.maskOf(a);
+        PixelMask maskB = PixelNarrowphase.maskOf(b);
+        int pixelCheck = narrowphase.pixelCheckOf(a, maskA, b, maskB);
+        pixelChecks[pair] = (byte) pixelCheck;
+        if (pixelCheck == PixelNarrowphase.NO_PIXEL_CHECK) {
+            return;
+        }
+        if (pixelCheck == PixelNarrowphase.ALIGNED_PIXEL_CHECK) {
+            masks[2 * pair] = PixelNarrowphase.alignedMask(a, maskA);
+            masks[2 * pair + 1] = PixelNarrowphase.alignedMask(b, maskB);
+            PixelNarrowphase.alignedBox(a, maskA, boxes, 8 * pair);
+            PixelNarrowphase.alignedBox(b, maskB, boxes, 8 * pair + 4);
+        } else {
+            masks[2 * pair] = maskA;
+            masks[2 * pair + 1] = maskB;
+            PixelNarrowphase.writePose(a, maskA, poses, 2 * PixelNarrowphase.POSE_SIZE * pair);
+            PixelNarrowphase.writePose(b, maskB, poses, (2 * pair + 1) * PixelNarrowphase.POSE_SIZE);
+        }
+    }
+
+    /**
+     * Summary :
+     * Checks all the pairs, split in ranges of at least grain pairs over the pool, or on this thread
+     * when pool is null
+     */
+    void check(ForkJoinPool pool, int grain) {
+        if (pool == null || size <= grain) {
+            check(0, size);
+        } else {
+            pool.invoke(new Range(0, size, grain));
+        }
+    }
+
+    byte getResult(int pair) {
+        return results[pair];
+    }
+
+    boolean isPixelChecked(int pair) {
+        return pixelChecks[pair] != PixelNarrowphase.NO_PIXEL_CHECK;
+    }
+
+    private void check(int from, int to) {
+        // Corners of the two hitboxes being tested, x and y
+        float[] corners = new float[16];
+        for (int pair = from; pair < to; pair++) {
+            if (!hitBoxesTouch(pair, corners)) {
+                results[pair] = APART;
+            } else if (pixelChecks[pair] == PixelNarrowphase.NO_PIXEL_CHECK) {
+                results[pair] = TOUCHING;
+            } else {
+                results[pair] = pixelsTouch(pair) ? TOUCHING : PIXELS_APART;
+            }
+        }
+    }
+
+    private boolean pixelsTouch(int pair) {
+        PixelMask maskA = masks[2 * pair];
+        PixelMask maskB = masks[2 * pair + 1];
+        if (pixelChecks[pair] == PixelNarrowphase.ROTATED_PIXEL_CHECK) {
+            return PixelNarrowphase.overlapsRotated(maskA, poses, 2 * PixelNarrowphase.POSE_SIZE * pair,
+                    maskB, poses, (2 * pair + 1) * PixelNarrowphase.POSE_SIZE);
+        }
+        int b = 8 * pair;
+        return PixelMask.overlaps(maskA, boxes[b], boxes[b + 1], boxes[b + 2], boxes[b + 3],
+                maskB, boxes[b + 4], boxes[b + 5], boxes[b + 6], boxes[b + 7]);
+    }
+
+    /**
+     * Summary :
+     * Returns true when a hitbox of the first entity touches a hitbox of the second one, like
+     * BoundingBoxComponent.isCollidingWith
+     */
+    private boolean hitBoxesTouch(int pair, float[] corners) {
+        int first = TRANSFORM_SIZE * 2 * pair;
+        int second = first + TRANSFORM_SIZE;
+        boolean unrotated = transforms[first + ANGLE] == 0 && transforms[second + ANGLE] == 0;
+        for (int i = hitBoxStarts[2 * pair]; i < hitBoxEnds[2 * pair]; i += HIT_BOX_SIZE) {
+            placeCorners(first, i, corners, 0);
+            for (int j = hitBoxStarts[2 * pair + 1]; j < hitBoxEnds[2 * pair + 1]; j += HIT_BOX_SIZE) {
+                placeCorners(second, j, corners, 8);
+                boolean touching = unrotated
+                        // Corners 0 and 2 are the min and max of an unrotated box
+                        ? corners[12] >= corners[0] && corners[13] >= corners[1]
+                        && corners[8] <= corners[4] && corners[9] <= corners[5]
+                        : !separated(corners, 0, transforms[first + ANGLE], corners, 8)
+                        && !separated(corners, 8, transforms[second + ANGLE], corners, 0);
+                if (touching) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Summary :
+     * Writes the world corners of a hitbox like HitBox.applyTransform: its scaled box, then turned
+     * around the rotation origin when the entity is rotated
+     */
+    private void placeCorners(int transform, int hitBox, float[] corners, int at) {
+        double x = transforms[transform + X];
+        double y = transforms[transform + Y];
+        double scaleOriginX = transforms[transform + SCALE_ORIGIN_X];
+        double scaleOriginY = transforms[transform + SCALE_ORIGIN_Y];
+        double x1 = scaleOriginX - (scaleOriginX - hitBoxes[hitBox]) * transforms[transform + SCALE_X] + x;
+        double x2 = scaleOriginX - (scaleOriginX - hitBoxes[hitBox + 2]) * transforms[transform + SCALE_X] + x;
+        double y1 = scaleOriginY - (scaleOriginY - hitBoxes[hitBox + 1]) * transforms[transform + SCALE_Y] + y;
+        double y2 = scaleOriginY - (scaleOriginY - hitBoxes[hitBox + 3]) * transforms[transform + SCALE_Y] + y;
+        float minX = (float) Math.min(x1, x2);
+        float minY = (float) Math.min(y1, y2);
+        float maxX = (float) Math.max(x1, x2);
+        float maxY = (float) Math.max(y1, y2);
+        corners[at] = minX;
+        corners[at + 1] = minY;
+        corners[at + 2] = maxX;
+        corners[at + 3] = minY;
+        corners[at + 4] = maxX;
+        corners[at + 5] = maxY;
+        corners[at + 6] = minX;
+        corners[at + 7] = maxY;
+        double angle = transforms[transform + ANGLE];
+        if (angle == 0) {
+            return;
+        }
+        float cos = FXGLMath.cosDegF(angle);
+        float sin = FXGLMath.sinDegF(angle);
+        double originX = transforms[transform + ROTATION_ORIGIN_X] + x;
+        double originY = transforms[transform + ROTATION_ORIGIN_Y] + y;
+        for (int c = at; c < at + 8; c += 2) {
+            float dx = (float) (corners[c] - originX);
+            float dy = (float) (corners[c + 1] - originY);
+            corners[c] = (float) ((dx * cos - dy * sin) + originX);
+            corners[c + 1] = (float) ((dx * sin + dy * cos) + originY);
+        }
+    }
+
+    /**
+     * Summary :
+     * Returns true when the two axes of the box of the given rotation separate it from the other box,
+     * like SAT.isColliding does for one of the two boxes
+     */
+    private static boolean separated(float[] box, int at, double angle, float[] other, int otherAt) {
+        for (int axis = 0; axis < 2; axis++) {
+            float axisX = FXGLMath.cosDegF(angle + 90 * axis);
+            float axisY = FXGLMath.sinDegF(angle + 90 * axis);
+            float length = (float) Math.sqrt(axisX * axisX + axisY * axisY);
+            if (length >= FXGLMath.EPSILON) {
+                float inverse = 1.0f / length;
+                axisX *= inverse;
+                axisY *= inverse;
+            }
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+            float otherMin = Float.MAX_VALUE;
+            float otherMax = -Float.MAX_VALUE;
+            for (int c = 0; c < 8; c += 2) {
+                float projection = box[at + c] * axisX + box[at + c + 1] * axisY;
+                min = Math.min(min, projection);
+                max = Math.max(max, projection);
+                float otherProjection = other[otherAt + c] * axisX + other[otherAt + c + 1] * axisY;
+                otherMin = Math.min(otherMin, otherProjection);
+                otherMax = Math.max(otherMax, otherProjection);
+            }
+            if (max < otherMin || otherMax < min) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The origin properties are read directly, their Point2D getters allocate
+    private void copyHitBoxes(Entity entity, int side) {
+        TransformComponent transform = entity.getTransformComponent();
+        int at = TRANSFORM_SIZE * side;
+        transforms[at + X] = transform.getX();
+        transforms[at + Y] = transform.getY();
+        transforms[at + ANGLE] = transform.getAngle();
+        transforms[at + ROTATION_ORIGIN_X] = transform.rotationOriginXProperty().get();
+        transforms[at + ROTATION_ORIGIN_Y] = transform.rotationOriginYProperty().get();
+        transforms[at + SCALE_X] = transform.getScaleX();
+        transforms[at + SCALE_Y] = transform.getScaleY();
+        transforms[at + SCALE_ORIGIN_X] = transform.scaleOriginXProperty().get();
+        transforms[at + SCALE_ORIGIN_Y] = transform.scaleOriginYProperty().get();
+
+        List<HitBox> entityHitBoxes = entity.getBoundingBoxComponent().hitBoxesProperty();
+        int needed = hitBoxSize + HIT_BOX_SIZE * entityHitBoxes.size();
+        if (needed > hitBoxes.length) {
+            hitBoxes = Arrays.copyOf(hitBoxes, Math.max(needed, hitBoxes.length * 2));
+        }
+        hitBoxStarts[side] = hitBoxSize;
+        for (int i = 0; i < entityHitBoxes.size(); i++) {
+            HitBox hitBox = entityHitBoxes.get(i);
+            hitBoxes[hitBoxSize++] = hitBox.getMinX();
+            hitBoxes[hitBoxSize++] = hitBox.getMinY();
+            hitBoxes[hitBoxSize++] = hitBox.getMaxX();
+            hitBoxes[hitBoxSize++] = hitBox.getMaxY();
+        }
+        hitBoxEnds[side] = hitBoxSize;
+    }
+
+    private void grow() {
+        int capacity = results.length * 2;
+        transforms = Arrays.copyOf(transforms, 2 * TRANSFORM_SIZE * capacity);
+        hitBoxStarts = Arrays.copyOf(hitBoxStarts, 2 * capacity);
+        hitBoxEnds = Arrays.copyOf(hitBoxEnds, 2 * capacity);
+        pixelChecks = Arrays.copyOf(pixelChecks, capacity);
+        masks = Arrays.copyOf(masks, 2 * capacity);
+        boxes = Arrays.copyOf(boxes, 8 * capacity);
+        poses = Arrays.copyOf(poses, 2 * PixelNarrowphase.POSE_SIZE * capacity);
+        results = Arrays.copyOf(results, capacity);
+    }
+
+    /**
+     * Summary :
+     * Checks a range of pairs, split in two until it is small enough
+     */
+    private class Range extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        Range(int from, int to, int grain) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                check(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Range(from, middle, grain), new Range(middle, to, grain));
+        }
+    }
+}
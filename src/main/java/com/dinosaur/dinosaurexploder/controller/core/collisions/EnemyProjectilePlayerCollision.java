@@ -5,7 +5,8 @@ import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.controller.core.GameActions;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
 
-import static com.almasb.fxgl.dsl.FXGL.onCollisionBegin;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionQueue.removeFromWorld;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.PixelNarrowphase.onCollisionBegin;
 
 public class EnemyProjectilePlayerCollision implements CollisionHandlerInterface{
 
@@ -19,7 +20,7 @@ public class EnemyProjectilePlayerCollision implements CollisionHandlerInterface
     public void register() {
         onCollisionBegin(EntityType.ENEMY_PROJECTILE, EntityType.PLAYER, (projectile, player) -> {
             AudioManager.getInstance().playSound(GameConstants.PLAYER_HIT_SOUND);
-            projectile.removeFromWorld();
+            removeFromWorld(projectile);
             System.out.println("You got hit !\n");
             gameActions.damagePlayer();
         });
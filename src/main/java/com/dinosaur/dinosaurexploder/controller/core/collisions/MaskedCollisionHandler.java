@@ -0,0 +1,57 @@
+package com.dinosaur.dinosaurexploder.controller.core.collisions;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.physics.CollisionHandler;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Summary :
+ * FXGL collision handler that runs its action once per contact, on the first frame the
+ * PixelNarrowphase accepts the hit
+ */
+class MaskedCollisionHandler extends CollisionHandler {
+    private final BiConsumer<Entity, Entity> action;
+    private final PixelNarrowphase narrowphase;
+    // Pairs whose action already ran during their current contact, only a few at a time
+    private final List<Entity[]> handled = new ArrayList<>();
+
+    MaskedCollisionHandler(EntityType typeA, EntityType typeB, BiConsumer<Entity, Entity> action,
+                           PixelNarrowphase narrowphase) {
+        super(typeA, typeB);
+        this.action = action;
+        this.narrowphase = narrowphase;
+    }
+
+    @Override
+    protected void onCollisionBegin(Entity a, Entity b) {
+        // Entities removed by an action don't always get an end of collision
+        handled.removeIf(pair -> !pair[0].isActive() || !pair[1].isActive());
+        tryHit(a, b);
+    }
+
+    @Override
+    protected void onCollision(Entity a, Entity b) {
+        tryHit(a, b);
+    }
+
+    @Override
+    protected void onCollisionEnd(Entity a, Entity b) {
+        handled.removeIf(pair -> pair[0] == a && pair[1] == b);
+    }
+
+    private void tryHit(Entity a, Entity b) {
+        for (Entity[] pair : handled) {
+            if (pair[0] == a && pair[1] == b) {
+                return;
+            }
+        }
+        if (narrowphase.accepts(a, b)) {
+            handled.add(new Entity[]{a, b});
+            action.accept(a, b);
+        }
+    }
+}
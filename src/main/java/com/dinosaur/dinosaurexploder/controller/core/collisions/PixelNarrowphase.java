@@ -0,0 +1,422 @@
+package com.dinosaur.dinosaurexploder.controller.core.collisions;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.components.BoundingBoxComponent;
+import com.almasb.fxgl.entity.components.TransformComponent;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.utils.PixelMask;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static com.almasb.fxgl.dsl.FXGL.getPhysicsWorld;
+
+/**
+ * Summary :
+ * Pixel-accurate check that runs after FXGL found that the hitboxes of two entities intersect.
+ * Every entity spawned by the GameEntityFactory carries the cached PixelMask of its sprite in the
+ * MASK_PROPERTY property. When one of the two entity types is enabled, the hit is only accepted
+ * when the solid pixels of the two sprites overlap:
+ * - both sprites turned by a multiple of 90 degrees (the unrotated sprites and every straight shot):
+ *   the masks, turned the same way, are ANDed 64 pixels at a time, on the overlapping rows only
+ * - otherwise: every pixel of the overlapping area is mapped back into the rotated sprites
+ * An entity without a mask counts as a solid box of its hitboxes.
+ * A rejected pair is checked again every frame while the hitboxes keep touching, so a projectile
+ * that first grazes the empty corner of a sprite still hits when it reaches the solid pixels.
+ * The counters tell how many AABB hits were checked and rejected.
+ */
+public class PixelNarrowphase {
+    public static final String MASK_PROPERTY = "pixelMask";
+    // How the hit of two entities is checked, see pixelCheckOf
+    public static final int NO_PIXEL_CHECK = 0;
+    public static final int ALIGNED_PIXEL_CHECK = 1;
+    public static final int ROTATED_PIXEL_CHECK = 2;
+    // Pose of an entity for the rotated check, see writePose
+    public static final int POSE_SIZE = 8;
+    private static final int POSE_X = 0;
+    private static final int POSE_Y = 1;
+    private static final int POSE_ORIGIN_X = 2;
+    private static final int POSE_ORIGIN_Y = 3;
+    private static final int POSE_COS = 4;
+    private static final int POSE_SIN = 5;
+    private static final int POSE_WIDTH = 6;
+    private static final int POSE_HEIGHT = 7;
+
+    private static PixelNarrowphase instance;
+
+    /**
+     * Summary :
+     * Told about every collision registered with onCollisionBegin, for the systems that find their hits themselves
+     */
+    public interface HandlerListener {
+        void onHandlerAdded(EntityType typeA, EntityType typeB, BiConsumer<Entity, Entity> action);
+    }
+
+    // The dinos have the most empty space around them, so they are checked by default
+    private final Set<EntityType> enabledTypes = EnumSet.of(EntityType.GREEN_DINO, EntityType.ORANGE_DINO,
+            EntityType.RED_DINO);
+    private final Map<EntityType, Long> rejectedByType = new EnumMap<>(EntityType.class);
+    private long checks;
+    private long rejected;
+    // Scratch of accepts, which only runs on the FX thread
+    private final int[] boxes = new int[8];
+    private final double[] poses = new double[2 * POSE_SIZE];
+    // Actions of the registered collisions, by the types of their two entities
+    private final Map<EntityType, Map<EntityType, BiConsumer<Entity, Entity>>> actions = new EnumMap<>(EntityType.class);
+    private final List<HandlerListener> handlerListeners = new ArrayList<>();
+
+    PixelNarrowphase() {
+    }
+
+    public static synchronized PixelNarrowphase getInstance() {
+        if (instance == null) {
+            instance = new PixelNarrowphase();
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Same as FXGL onCollisionBegin, but the action only runs once the pixels of the two entities
+     * overlap, and at most once while they keep touching. The pairs are found by the CollisionSystem when
+     * it is enabled, otherwise by FXGL; player bullets against enemy bullets are found by the
+     * BulletCancellation, and for the fast entities also by the SweptCollisions along their path. Their hits
+     * are posted to the CollisionQueue, which runs the action at the end of the tick. The HandlerListeners
+     * are given the action too, like the BulletSystem, whose bullets are not in the physics world.
+     */
+    public static void onCollisionBegin(EntityType typeA, EntityType typeB, BiConsumer<Entity, Entity> action) {
+        BiConsumer<Entity, Entity> queued = CollisionQueue.getInstance().queued(action);
+        if (BulletCancellation.handles(typeA, typeB)) {
+            BulletCancellation.getInstance().setAction(queued);
+        } else if (CollisionSystem.isEnabled()) {
+            CollisionSystem.getInstance().addHandler(typeA, typeB, queued);
+        } else {
+            getPhysicsWorld().addCollisionHandler(new MaskedCollisionHandler(typeA, typeB, queued, getInstance()));
+        }
+        SweptCollisions.getInstance().addHandler(typeA, typeB, queued);
+        getInstance().addAction(typeA, typeB, action);
+    }
+
+    private void addAction(EntityType typeA, EntityType typeB, BiConsumer<Entity, Entity> action) {
+        actions.computeIfAbsent(typeA, key -> new EnumMap<>(EntityType.class)).put(typeB, action);
+        for (HandlerListener listener : handlerListeners) {
+            listener.onHandlerAdded(typeA, typeB, action);
+        }
+    }
+
+    /**
+     * Summary :
+     * Adds a listener of the registered collisions, it is also given the ones registered before
+     */
+    public void addHandlerListener(HandlerListener listener) {
+        handlerListeners.add(listener);
+        actions.forEach((typeA, byTypeB) ->
+                byTypeB.forEach((typeB, action) -> listener.onHandlerAdded(typeA, typeB, action)));
+    }
+
+    public void setEnabled(EntityType type, boolean enabled) {
+        if (enabled) {
+            enabledTypes.add(type);
+        } else {
+            enabledTypes.remove(type);
+        }
+    }
+
+    public boolean isEnabled(EntityType type) {
+        return enabledTypes.contains(type);
+    }
+
+    /**
+     * Summary :
+     * Returns true when the hit between the two entities, whose hitboxes intersect, is accepted
+     */
+    public boolean accepts(Entity a, Entity b) {
+        EntityType typeA = typeOf(a);
+        EntityType typeB = typeOf(b);
+        if (!enabledTypes.contains(typeA) && !enabledTypes.contains(typeB)) {
+            return true;
+        }
+        PixelMask maskA = maskOf(a);
+        PixelMask maskB = maskOf(b);
+        if (maskA == null && maskB == null) {
+            return true;
+        }
+
+        boolean hit;
+        if (quarterTurnsOf(a) >= 0 && quarterTurnsOf(b) >= 0) {
+            alignedBox(a, maskA, boxes, 0);
+            alignedBox(b, maskB, boxes, 4);
+            hit = PixelMask.overlaps(alignedMask(a, maskA), boxes[0], boxes[1], boxes[2], boxes[3],
+                    alignedMask(b, maskB), boxes[4], boxes[5], boxes[6], boxes[7]);
+        } else {
+            writePose(a, maskA, poses, 0);
+            writePose(b, maskB, poses, POSE_SIZE);
+            hit = overlapsRotated(maskA, poses, 0, maskB, poses, POSE_SIZE);
+        }
+        count(typeA, typeB, hit);
+        return hit;
+    }
+
+    /**
+     * Summary :
+     * Tells how the hit of the two entities is checked, so it can be done away from the FX thread with
+     * copies of their masks and poses:
+     * NO_PIXEL_CHECK - the hit is accepted as soon as the hitboxes intersect
+     * ALIGNED_PIXEL_CHECK - both sprites are turned by a multiple of 90 degrees, see alignedMask,
+     * alignedBox and PixelMask.overlaps
+     * ROTATED_PIXEL_CHECK - see writePose and overlapsRotated
+     */
+    public int pixelCheckOf(Entity a, Entity b) {
+        return pixelCheckOf(a, maskOf(a), b, maskOf(b));
+    }
+
+    /**
+     * Summary :
+     * Same as pixelCheckOf, for two entities whose masks were already read with maskOf
+     */
+    public int pixelCheckOf(Entity a, PixelMask maskA, Entity b, PixelMask maskB) {
+        if (!enabledTypes.contains(typeOf(a)) && !enabledTypes.contains(typeOf(b))) {
+            return NO_PIXEL_CHECK;
+        }
+        if (maskA == null && maskB == null) {
+            return NO_PIXEL_CHECK;
+        }
+        return quarterTurnsOf(a) >= 0 && quarterTurnsOf(b) >= 0 ? ALIGNED_PIXEL_CHECK : ROTATED_PIXEL_CHECK;
+    }
+
+    /**
+     * Summary :
+     * Counts a pixel check done away from accepts, the same way it does
+     */
+    public void count(EntityType typeA, EntityType typeB, boolean hit) {
+        checks++;
+        if (!hit) {
+            rejected++;
+            if (typeA != null) {
+                rejectedByType.merge(typeA, 1L, Long::sum);
+            }
+            if (typeB != null && typeB != typeA) {
+                rejectedByType.merge(typeB, 1L, Long::sum);
+            }
+        }
+    }
+
+    public long getChecks() {
+        return checks;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getRejected(EntityType type) {
+        return rejectedByType.getOrDefault(type, 0L);
+    }
+
+    public void resetCounters() {
+        checks = 0;
+        rejected = 0;
+        rejectedByType.clear();
+    }
+
+    public void logCounters() {
+        System.out.println("Pixel narrowphase: " + checks + " AABB hits checked, " + rejected
+                + " rejected " + rejectedByType);
+    }
+
+    /**
+     * Summary :
+     * Returns the mask of the entity turned like it is drawn, for an entity turned by a multiple of
+     * 90 degrees, see quarterTurnsOf
+     */
+    public static PixelMask alignedMask(Entity entity, PixelMask mask) {
+        return mask == null ? null : mask.turned(quarterTurnsOf(entity));
+    }
+
+    /**
+     * Summary :
+     * Writes x, y, width and height in world pixels of the entity turned by a multiple of 90 degrees,
+     * its turned mask or its bounds, at boxes[at] to boxes[at + 3]
+     */
+    public static void alignedBox(Entity entity, PixelMask mask, int[] boxes, int at) {
+        if (mask == null) {
+            BoundingBoxComponent bbox = entity.getBoundingBoxComponent();
+            int minX = (int) Math.floor(bbox.getMinXWorld());
+            int minY = (int) Math.floor(bbox.getMinYWorld());
+            boxes[at] = minX;
+            boxes[at + 1] = minY;
+            boxes[at + 2] = (int) Math.ceil(bbox.getMaxXWorld()) - minX;
+            boxes[at + 3] = (int) Math.ceil(bbox.getMaxYWorld()) - minY;
+            return;
+        }
+        int quarterTurns = quarterTurnsOf(entity);
+        double x = entity.getX();
+        double y = entity.getY();
+        if (quarterTurns != 0) {
+            // Top left corner of the turned sprite, which turns around its rotation origin
+            TransformComponent transform = entity.getTransformComponent();
+            double originX = transform.rotationOriginXProperty().get();
+            double originY = transform.rotationOriginYProperty().get();
+            if (quarterTurns == 1) {
+                x += originX + originY - mask.getHeight();
+                y += originY - originX;
+            } else if (quarterTurns == 2) {
+                x += 2 * originX - mask.getWidth();
+                y += 2 * originY - mask.getHeight();
+            } else {
+                x += originX - originY;
+                y += originY + originX - mask.getWidth();
+            }
+        }
+        boolean sideways = (quarterTurns & 1) == 1;
+        boxes[at] = (int) Math.round(x);
+        boxes[at + 1] = (int) Math.round(y);
+        boxes[at + 2] = sideways ? mask.getHeight() : mask.getWidth();
+        boxes[at + 3] = sideways ? mask.getWidth() : mask.getHeight();
+    }
+
+    /**
+     * Summary :
+     * Writes the pose of the entity at poses[at] to poses[at + POSE_SIZE - 1]: x, y, rotation origin x and
+     * y, cosine and sine of the rotation, width and height of the sprite. An entity without a mask is
+     * posed as the unrotated box of its world bounds.
+     */
+    public static void writePose(Entity entity, PixelMask mask, double[] poses, int at) {
+        if (mask == null) {
+            BoundingBoxComponent bbox = entity.getBoundingBoxComponent();
+            poses[at + POSE_X] = bbox.getMinXWorld();
+            poses[at + POSE_Y] = bbox.getMinYWorld();
+            poses[at + POSE_ORIGIN_X] = 0;
+            poses[at + POSE_ORIGIN_Y] = 0;
+            poses[at + POSE_COS] = 1;
+            poses[at + POSE_SIN] = 0;
+            poses[at + POSE_WIDTH] = bbox.getMaxXWorld() - bbox.getMinXWorld();
+            poses[at + POSE_HEIGHT] = bbox.getMaxYWorld() - bbox.getMinYWorld();
+            return;
+        }
+        // The origin properties are read directly, getRotationOrigin allocates a Point2D
+        TransformComponent transform = entity.getTransformComponent();
+        double angle = Math.toRadians(entity.getRotation());
+        poses[at + POSE_X] = entity.getX();
+        poses[at + POSE_Y] = entity.getY();
+        poses[at + POSE_ORIGIN_X] = transform.rotationOriginXProperty().get();
+        poses[at + POSE_ORIGIN_Y] = transform.rotationOriginYProperty().get();
+        poses[at + POSE_COS] = Math.cos(angle);
+        poses[at + POSE_SIN] = Math.sin(angle);
+        poses[at + POSE_WIDTH] = mask.getWidth();
+        poses[at + POSE_HEIGHT] = mask.getHeight();
+    }
+
+    /**
+     * Summary :
+     * Moves the pose written by writePose at poses[at] by dx and dy
+     */
+    public static void movePose(double[] poses, int at, double dx, double dy) {
+        poses[at + POSE_X] += dx;
+        poses[at + POSE_Y] += dy;
+    }
+
+    /**
+     * Summary :
+     * Samples the centre of every pixel where the world bounds of the two posed sprites overlap, and
+     * returns true when it is solid in both. A null mask is solid everywhere in its pose.
+     * Only reads its arguments, so it can run on any thread.
+     */
+    public static boolean overlapsRotated(PixelMask maskA, double[] posesA, int a,
+                                          PixelMask maskB, double[] posesB, int b) {
+        int minX = (int) Math.floor(Math.max(worldX(posesA, a, false), worldX(posesB, b, false)));
+        int minY = (int) Math.floor(Math.max(worldY(posesA, a, false), worldY(posesB, b, false)));
+        int maxX = (int) Math.ceil(Math.min(worldX(posesA, a, true), worldX(posesB, b, true)));
+        int maxY = (int) Math.ceil(Math.min(worldY(posesA, a, true), worldY(posesB, b, true)));
+        for (int y = minY; y < maxY; y++) {
+            for (int x = minX; x < maxX; x++) {
+                if (isSolidAt(maskA, posesA, a, x + 0.5, y + 0.5) && isSolidAt(maskB, posesB, b, x + 0.5, y + 0.5)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Smallest or largest world x of the corners of the posed sprite
+    private static double worldX(double[] poses, int at, boolean max) {
+        double originX = poses[at + POSE_ORIGIN_X];
+        double originY = poses[at + POSE_ORIGIN_Y];
+        double cos = poses[at + POSE_COS];
+        double sin = poses[at + POSE_SIN];
+        double left = -originX * cos;
+        double right = (poses[at + POSE_WIDTH] - originX) * cos;
+        double top = originY * sin;
+        double bottom = -(poses[at + POSE_HEIGHT] - originY) * sin;
+        return poses[at + POSE_X] + originX + (max
+                ? Math.max(left, right) + Math.max(top, bottom)
+                : Math.min(left, right) + Math.min(top, bottom));
+    }
+
+    // Smallest or largest world y of the corners of the posed sprite
+    private static double worldY(double[] poses, int at, boolean max) {
+        double originX = poses[at + POSE_ORIGIN_X];
+        double originY = poses[at + POSE_ORIGIN_Y];
+        double cos = poses[at + POSE_COS];
+        double sin = poses[at + POSE_SIN];
+        double left = -originX * sin;
+        double right = (poses[at + POSE_WIDTH] - originX) * sin;
+        double top = -originY * cos;
+        double bottom = (poses[at + POSE_HEIGHT] - originY) * cos;
+        return poses[at + POSE_Y] + originY + (max
+                ? Math.max(left, right) + Math.max(top, bottom)
+                : Math.min(left, right) + Math.min(top, bottom));
+    }
+
+    // Maps the world point back into the posed sprite, turning it the other way around the origin
+    private static boolean isSolidAt(PixelMask mask, double[] poses, int at, double worldX, double worldY) {
+        if (mask == null) {
+            return true;
+        }
+        double originX = poses[at + POSE_ORIGIN_X];
+        double originY = poses[at + POSE_ORIGIN_Y];
+        double cos = poses[at + POSE_COS];
+        double sin = poses[at + POSE_SIN];
+        double dx = worldX - poses[at + POSE_X] - originX;
+        double dy = worldY - poses[at + POSE_Y] - originY;
+        int x = (int) Math.floor(originX + dx * cos + dy * sin);
+        int y = (int) Math.floor(originY - dx * sin + dy * cos);
+        return x >= 0 && y >= 0 && x < mask.getWidth() && y < mask.getHeight() && mask.isSolid(x, y);
+    }
+
+    /**
+     * Summary :
+     * Returns how many quarters of a turn the entity is rotated by, from 0 to 3, or -1 when its rotation
+     * is not a multiple of 90 degrees
+     */
+    public static int quarterTurnsOf(Entity entity) {
+        // Cheaper than rotation % 90, which is not an intrinsic
+        double turns = entity.getRotation() / 90;
+        if (turns != Math.rint(turns)) {
+            return -1;
+        }
+        return (int) (long) turns & 3;
+    }
+
+    /**
+     * Summary :
+     * Returns the mask of the entity, or null when it has none or is scaled (the masks are built
+     * at the drawn size)
+     */
+    public static PixelMask maskOf(Entity entity) {
+        if (!entity.getProperties().exists(MASK_PROPERTY)
+                || entity.getScaleX() != 1 || entity.getScaleY() != 1) {
+            return null;
+        }
+        return entity.getObject(MASK_PROPERTY);
+    }
+
+    private static EntityType typeOf(Entity entity) {
+        return entity.getType() instanceof EntityType ? (EntityType) entity.getType() : null;
+    }
+}
@@ -2,6 +2,7 @@ package com.dinosaur.dinosaurexploder.controller.core.collisions;
 
 import com.almasb.fxgl.entity.Entity;
 import com.dinosaur.dinosaurexploder.components.BombComponent;
+import com.dinosaur.dinosaurexploder.components.CoinComponent;
 import com.dinosaur.dinosaurexploder.components.CollectedCoinsComponent;
 import com.dinosaur.dinosaurexploder.components.ScoreComponent;
 import com.dinosaur.dinosaurexploder.constants.EntityType;
@@ -10,7 +11,8 @@ import com.dinosaur.dinosaurexploder.controller.core.GameInitializer;
 import com.dinosaur.dinosaurexploder.model.CollisionHandler;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
 
-import static com.almasb.fxgl.dsl.FXGL.onCollisionBegin;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionQueue.removeFromWorld;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.PixelNarrowphase.onCollisionBegin;
 
 public class PlayerCoinCollision implements CollisionHandlerInterface{
 
@@ -30,11 +32,12 @@ public class PlayerCoinCollision implements CollisionHandlerInterface{
     public void register() {
         onCollisionBegin(EntityType.PLAYER, EntityType.COIN, (player, coin) -> {
             AudioManager.getInstance().playSound(GameConstants.COIN_GAIN);
-            coin.removeFromWorld();
+            removeFromWorld(coin);
             System.out.println("You touched a coin!");
             BombComponent bombComponent = null;
             if (bomb.hasComponent(BombComponent.class)) bombComponent = bomb.getComponent(BombComponent.class);
-            collisionHandler.onPlayerGetCoin(collectedCoinsComponent, score.getComponent(ScoreComponent.class), bombComponent);
+            int value = coin.getComponent(CoinComponent.class).getValue();
+            collisionHandler.onPlayerGetCoin(collectedCoinsComponent, score.getComponent(ScoreComponent.class), bombComponent, value);
         });
     }
 }
@@ -5,7 +5,8 @@ import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.controller.core.GameActions;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
 
-import static com.almasb.fxgl.dsl.FXGL.onCollisionBegin;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionQueue.removeFromWorld;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.PixelNarrowphase.onCollisionBegin;
 
 public class PlayerGreenDinoCollision implements CollisionHandlerInterface{
 
@@ -19,7 +20,7 @@ public class PlayerGreenDinoCollision implements CollisionHandlerInterface{
     public void register() {
         onCollisionBegin(EntityType.PLAYER, EntityType.GREEN_DINO, (player, greenDino) -> {
             AudioManager.getInstance().playSound(GameConstants.PLAYER_HIT_SOUND);
-            greenDino.removeFromWorld();
+            removeFromWorld(greenDino);
             System.out.println("You touched a dino !");
             gameActions.damagePlayer();
         });
@@ -7,7 +7,8 @@ import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.controller.core.GameInitializer;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
 
-import static com.almasb.fxgl.dsl.FXGL.onCollisionBegin;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionQueue.removeFromWorld;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.PixelNarrowphase.onCollisionBegin;
 
 public class PlayerHeartCollision implements CollisionHandlerInterface{
 
@@ -21,7 +22,7 @@ public class PlayerHeartCollision implements CollisionHandlerInterface{
     public void register() {
         onCollisionBegin(EntityType.PLAYER, EntityType.HEART, (player, heart) -> {
             AudioManager.getInstance().playSound(GameConstants.HEART_HIT_SOUND);
-            heart.removeFromWorld();
+            removeFromWorld(heart);
             System.out.println("You touched a heart!");
             life.getComponent(LifeComponent.class).increaseLife(1);
         });
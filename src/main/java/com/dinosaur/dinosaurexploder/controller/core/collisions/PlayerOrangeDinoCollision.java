@@ -5,7 +5,7 @@ import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.controller.core.GameActions;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
 
-import static com.almasb.fxgl.dsl.FXGL.onCollisionBegin;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.PixelNarrowphase.onCollisionBegin;
 
 public class PlayerOrangeDinoCollision implements CollisionHandlerInterface{
 
@@ -3,18 +3,19 @@ package com.dinosaur.dinosaurexploder.controller.core.collisions;
 import com.dinosaur.dinosaurexploder.constants.EntityType;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
+import com.dinosaur.dinosaurexploder.view.ExplosionPool;
 
-import static com.almasb.fxgl.dsl.FXGL.onCollisionBegin;
-import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionQueue.removeFromWorld;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.PixelNarrowphase.onCollisionBegin;
 
 public class ProjectileEnemyProjectileCollision implements CollisionHandlerInterface{
     @Override
     public void register() {
         onCollisionBegin(EntityType.PROJECTILE, EntityType.ENEMY_PROJECTILE, (projectile, enemyProjectile) -> {
-            spawn("explosion", enemyProjectile.getX() - 25, enemyProjectile.getY() - 30);
+            ExplosionPool.getInstance().spawnAt(enemyProjectile.getX() - 25, enemyProjectile.getY() - 30);
             AudioManager.getInstance().playSound(GameConstants.ENEMY_EXPLODE_SOUND);
-            projectile.removeFromWorld();
-            enemyProjectile.removeFromWorld();
+            removeFromWorld(projectile);
+            removeFromWorld(enemyProjectile);
         });
     }
 }
@@ -9,8 +9,10 @@ import com.dinosaur.dinosaurexploder.controller.core.GameActions;
 import com.dinosaur.dinosaurexploder.controller.core.GameInitializer;
 import com.dinosaur.dinosaurexploder.model.CollisionHandler;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
+import com.dinosaur.dinosaurexploder.view.ExplosionPool;
 
-import static com.almasb.fxgl.dsl.FXGL.onCollisionBegin;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionQueue.removeFromWorld;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.PixelNarrowphase.onCollisionBegin;
 import static com.almasb.fxgl.dsl.FXGL.random;
 import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
 
@@ -32,13 +34,13 @@ public class ProjectileGreenDinoCollision implements CollisionHandlerInterface{
     @Override
     public void register() {
         onCollisionBegin(EntityType.PROJECTILE, EntityType.GREEN_DINO, (projectile, greenDino) -> {
-            spawn("explosion", greenDino.getX() - 25, greenDino.getY() - 30);
+            ExplosionPool.getInstance().spawnAt(greenDino.getX() - 25, greenDino.getY() - 30);
             if (random(0, 100) < 5) {
                 spawn("heart", greenDino.getX(), greenDino.getY());
             }
             AudioManager.getInstance().playSound(GameConstants.ENEMY_EXPLODE_SOUND);
-            projectile.removeFromWorld();
-            greenDino.removeFromWorld();
+            removeFromWorld(projectile);
+            removeFromWorld(greenDino);
             if (collisionHandler.isLevelUpAfterHitDino(
                     score.getComponent(ScoreComponent.class),
                     levelProgressBar.getComponent(LevelProgressBarComponent.class))) {
@@ -6,14 +6,16 @@ import com.dinosaur.dinosaurexploder.components.ScoreComponent;
 import com.dinosaur.dinosaurexploder.constants.EntityType;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.controller.BossSpawner;
+import com.dinosaur.dinosaurexploder.controller.CoinSpawner;
 import com.dinosaur.dinosaurexploder.controller.core.GameActions;
 import com.dinosaur.dinosaurexploder.controller.core.GameInitializer;
 import com.dinosaur.dinosaurexploder.model.CollisionHandler;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
+import com.dinosaur.dinosaurexploder.view.ExplosionPool;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
 
-import static com.almasb.fxgl.dsl.FXGL.onCollisionBegin;
-import static com.almasb.fxgl.dsl.FXGL.random;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionQueue.removeFromWorld;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.PixelNarrowphase.onCollisionBegin;
 import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
 
 public class ProjectileOrangeDinoCollision implements CollisionHandlerInterface{
@@ -36,8 +38,8 @@ public class ProjectileOrangeDinoCollision implements CollisionHandlerInterface{
     @Override
     public void register() {
         onCollisionBegin(EntityType.PROJECTILE, EntityType.ORANGE_DINO, (projectile, orangeDino) -> {
-            spawn("explosion", orangeDino.getX() - 25, orangeDino.getY() - 30);
-            projectile.removeFromWorld();
+            ExplosionPool.getInstance().spawnAt(orangeDino.getX() - 25, orangeDino.getY() - 30);
+            removeFromWorld(projectile);
             AudioManager.getInstance().playSound(GameConstants.ENEMY_EXPLODE_SOUND);
             collisionHandler.handleHitBoss(orangeDino.getComponent(OrangeDinoComponent.class));
 
@@ -45,9 +47,7 @@ public class ProjectileOrangeDinoCollision implements CollisionHandlerInterface{
                 // if the boss is defeated it drops 100% a heart
                 spawn("heart", orangeDino.getX(), orangeDino.getY());
                 // if the boss dino is defeated it drops twice as many coins as the current level
-                for (int i = 0; i < levelManager.getCurrentLevel()*2; i++) {
-                    spawn("coin", orangeDino.getX() + random(-25, 25), orangeDino.getY() + random(-25, 25));
-                }
+                CoinSpawner.spawnDrop(orangeDino.getX(), orangeDino.getY(), levelManager.getCurrentLevel() * 2);
                 bossSpawner.removeBossEntities();
 
                 collisionHandler.handleBossDefeat(score.getComponent(ScoreComponent.class));
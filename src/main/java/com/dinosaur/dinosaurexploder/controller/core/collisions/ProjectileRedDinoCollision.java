@@ -6,14 +6,16 @@ import com.dinosaur.dinosaurexploder.components.ScoreComponent;
 import com.dinosaur.dinosaurexploder.constants.EntityType;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
 import com.dinosaur.dinosaurexploder.controller.BossSpawner;
+import com.dinosaur.dinosaurexploder.controller.CoinSpawner;
 import com.dinosaur.dinosaurexploder.controller.core.GameActions;
 import com.dinosaur.dinosaurexploder.controller.core.GameInitializer;
 import com.dinosaur.dinosaurexploder.model.CollisionHandler;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
+import com.dinosaur.dinosaurexploder.view.ExplosionPool;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
 
-import static com.almasb.fxgl.dsl.FXGL.onCollisionBegin;
-import static com.almasb.fxgl.dsl.FXGL.random;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionQueue.removeFromWorld;
+import static com.dinosaur.dinosaurexploder.controller.core.collisions.PixelNarrowphase.onCollisionBegin;
 import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
 
 public class ProjectileRedDinoCollision implements CollisionHandlerInterface{
@@ -35,8 +37,8 @@ public class ProjectileRedDinoCollision implements CollisionHandlerInterface{
     @Override
     public void register() {
         onCollisionBegin(EntityType.PROJECTILE, EntityType.RED_DINO, (projectile, redDino) -> {
-            spawn("explosion", redDino.getX() - 25, redDino.getY() - 30);
-            projectile.removeFromWorld();
+            ExplosionPool.getInstance().spawnAt(redDino.getX() - 25, redDino.getY() - 30);
+            removeFromWorld(projectile);
             AudioManager.getInstance().playSound(GameConstants.ENEMY_EXPLODE_SOUND);
             collisionHandler.handleHitBoss(redDino.getComponent(RedDinoComponent.class));
 
@@ -44,9 +46,7 @@ public class ProjectileRedDinoCollision implements CollisionHandlerInterface{
                 // if the boss is defeated it drops 100% a heart
                 spawn("heart", redDino.getX(), redDino.getY());
                 // if the boss dino is defeated it drops as many coins as the current level
-                for (int i = 0; i < levelManager.getCurrentLevel(); i++) {
-                    spawn("coin", redDino.getX() + random(-25, 25), redDino.getY() + random(-25, 25));
-                }
+                CoinSpawner.spawnDrop(redDino.getX(), redDino.getY(), levelManager.getCurrentLevel());
                 bossSpawner.removeBossEntities();
 
                 collisionHandler.handleBossDefeat(score.getComponent(ScoreComponent.class));
@@ -0,0 +1,254 @@
+package com.dinosaur.dinosaurexploder.controller.core.collisions;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.components.BoundingBoxComponent;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary :
+ * Uniform grid over the playfield that tells which entities are close enough to collide.
+ * Every entity is stored in the cells its world bounds cover; entities outside the playfield are kept
+ * in the border cells. The grid is updated incrementally: an entity only changes cells when its
+ * covered cells changed since the last update, which for most entities is not every tick.
+ * Two entities are candidates when they share a cell. A pair sharing several cells is reported once,
+ * from the first cell of the overlap of their covered cells.
+ */
+public class SpatialHash {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int INITIAL_CELL_CAPACITY = 4;
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    // Slots of the entities in every cell
+    private final int[][] cells;
+    private final int[] cellSizes;
+
+    private final Map<Entity, Integer> slots = new IdentityHashMap<>();
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    // Covered cells of every slot, from the last update
+    private int[] minColumn = new int[INITIAL_CAPACITY];
+    private int[] minRow = new int[INITIAL_CAPACITY];
+    private int[] maxColumn = new int[INITIAL_CAPACITY];
+    private int[] maxRow = new int[INITIAL_CAPACITY];
+    private int size;
+    private long moves;
+
+    /**
+     * Summary :
+     * Parameters :
+     * double width, height - size of the playfield
+     * double cellSize - side of a cell, close to the size of the common sprites
+     */
+    public SpatialHash(double width, double height, double cellSize) {
+        this.cellSize = cellSize;
+        columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        cells = new int[columns * rows][INITIAL_CELL_CAPACITY];
+        cellSizes = new int[columns * rows];
+    }
+
+    public void add(Entity entity) {
+        if (slots.containsKey(entity)) {
+            return;
+        }
+        if (size == entities.length) {
+            grow();
+        }
+        int slot = size++;
+        entities[slot] = entity;
+        slots.put(entity, slot);
+        coveredCells(entity, slot);
+        insert(slot);
+    }
+
+    public void remove(Entity entity) {
+        Integer slot = slots.remove(entity);
+        if (slot == null) {
+            return;
+        }
+        erase(slot);
+        // Moves the last entity in the free slot
+        int last = --size;
+        if (slot != last) {
+            erase(last);
+            entities[slot] = entities[last];
+            minColumn[slot] = minColumn[last];
+            minRow[slot] = minRow[last];
+            maxColumn[slot] = maxColumn[last];
+            maxRow[slot] = maxRow[last];
+            slots.put(entities[slot], slot);
+            insert(slot);
+        }
+        entities[last] = null;
+    }
+
+    public void clear() {
+        slots.clear();
+        Arrays.fill(entities, 0, size, null);
+        Arrays.fill(cellSizes, 0);
+        size = 0;
+    }
+
+    /**
+     * Summary :
+     * Moves the entities whose bounds now cover other cells, the others are not touched
+     */
+    public void update() {
+        for (int slot = 0; slot < size; slot++) {
+            BoundingBoxComponent bbox = entities[slot].getBoundingBoxComponent();
+            int newMinColumn = column(bbox.getMinXWorld());
+            int newMinRow = row(bbox.getMinYWorld());
+            int newMaxColumn = column(bbox.getMaxXWorld());
+            int newMaxRow = row(bbox.getMaxYWorld());
+            if (newMinColumn == minColumn[slot] && newMinRow == minRow[slot]
+                    && newMaxColumn == maxColumn[slot] && newMaxRow == maxRow[slot]) {
+                continue;
+            }
+            erase(slot);
+            minColumn[slot] = newMinColumn;
+            minRow[slot] = newMinRow;
+            maxColumn[slot] = newMaxColumn;
+            maxRow[slot] = newMaxRow;
+            insert(slot);
+            moves++;
+        }
+    }
+
+    /**
+     * Summary :
+     * Adds every pair of an entity of typeA and an entity of typeB sharing a cell to the candidates,
+     * the entity of typeA first
+     */
+    public void collectPairs(Object typeA, Object typeB, CandidatePairs candidates) {
+        for (int a = 0; a < size; a++) {
+            Entity entityA = entities[a];
+            if (entityA.getType() != typeA) {
+                continue;
+            }
+            for (int row = minRow[a]; row <= maxRow[a]; row++) {
+                for (int column = minColumn[a]; column <= maxColumn[a]; column++) {
+                    int cell = row * columns + column;
+                    int[] cellSlots = cells[cell];
+                    for (int i = 0; i < cellSizes[cell]; i++) {
+                        int b = cellSlots[i];
+                        Entity entityB = entities[b];
+                        if (entityB.getType() != typeB || b == a || (typeA == typeB && b < a)) {
+                            continue;
+                        }
+                        // Only the first shared cell reports the pair
+                        if (column == Math.max(minColumn[a], minColumn[b]) && row == Math.max(minRow[a], minRow[b])) {
+                            candidates.add(entityA, entityB);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Summary :
+     * Adds every entity of the type in the cells the area covers to the found entities, once, as they were
+     * at the last update
+     */
+    public void collectInArea(Object type, double minX, double minY, double maxX, double maxY, List<Entity> found) {
+        int areaMinColumn = column(minX);
+        int areaMinRow = row(minY);
+        int areaMaxColumn = column(maxX);
+        int areaMaxRow = row(maxY);
+        for (int row = areaMinRow; row <= areaMaxRow; row++) {
+            for (int column = areaMinColumn; column <= areaMaxColumn; column++) {
+                int cell = row * columns + column;
+                int[] cellSlots = cells[cell];
+                for (int i = 0; i < cellSizes[cell]; i++) {
+                    int slot = cellSlots[i];
+                    // Only the first cell shared with the area reports the entity
+                    if (entities[slot].getType() == type && column == Math.max(minColumn[slot], areaMinColumn)
+                            && row == Math.max(minRow[slot], areaMinRow)) {
+                        found.add(entities[slot]);
+                    }
+                }
+            }
+        }
+    }
+
+    public boolean contains(Entity entity) {
+        return slots.containsKey(entity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Summary :
+     * Returns how many times an entity changed cells since the grid was created
+     */
+    public long getMoves() {
+        return moves;
+    }
+
+    private void coveredCells(Entity entity, int slot) {
+        BoundingBoxComponent bbox = entity.getBoundingBoxComponent();
+        minColumn[slot] = column(bbox.getMinXWorld());
+        minRow[slot] = row(bbox.getMinYWorld());
+        maxColumn[slot] = column(bbox.getMaxXWorld());
+        maxRow[slot] = row(bbox.getMaxYWorld());
+    }
+
+    private int column(double x) {
+        return Math.min(columns - 1, Math.max(0, (int) Math.floor(x / cellSize)));
+    }
+
+    private int row(double y) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor(y / cellSize)));
+    }
+
+    private void insert(int slot) {
+        for (int row = minRow[slot]; row <= maxRow[slot]; row++) {
+            for (int column = minColumn[slot]; column <= maxColumn[slot]; column++) {
+                int cell = row * columns + column;
+                if (cellSizes[cell] == cells[cell].length) {
+                    cells[cell] = Arrays.copyOf(cells[cell], cellSizes[cell] * 2);
+                }
+                cells[cell][cellSizes[cell]++] = slot;
+            }
+        }
+    }
+
+    private void erase(int slot) {
+        for (int row = minRow[slot]; row <= maxRow[slot]; row++) {
+            for (int column = minColumn[slot]; column <= maxColumn[slot]; column++) {
+                int cell = row * columns + column;
+                int[] cellSlots = cells[cell];
+                for (int i = 0; i < cellSizes[cell]; i++) {
+                    if (cellSlots[i] == slot) {
+                        cellSlots[i] = cellSlots[--cellSizes[cell]];
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        minColumn = Arrays.copyOf(minColumn, capacity);
+        minRow = Arrays.copyOf(minRow, capacity);
+        maxColumn = Arrays.copyOf(maxColumn, capacity);
+        maxRow = Arrays.copyOf(maxRow, capacity);
+    }
+}
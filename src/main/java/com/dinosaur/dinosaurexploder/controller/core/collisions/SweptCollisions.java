@@ -0,0 +1,328 @@
+package com.dinosaur.dinosaurexploder.controller.core.collisions;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.components.BoundingBoxComponent;
+import com.almasb.fxgl.physics.HitBox;
+import com.dinosaur.dinosaurexploder.components.ContinuousCollisionComponent;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.interfaces.GameSystem;
+import com.dinosaur.dinosaurexploder.utils.EntityRegistry;
+import com.dinosaur.dinosaurexploder.utils.PixelMask;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Summary :
+ * Continuous collision detection for the entities with a ContinuousCollisionComponent.
+ * FXGL and the CollisionSystem only test where the entities are at every tick, so a projectile that
+ * moves further than the height of a thin target in one tick can jump over it. Every tick, the bounds of
+ * a fast entity are swept from where they were at the previous tick to where they are now, against the
+ * targets of its registered collisions (swept AABB: the entry and exit times of the path through every
+ * axis of the target).
+ * The targets are taken from the SpatialHash of the CollisionSystem when it is enabled (the cells the path
+ * covers), otherwise from the EntityRegistry.
+ * Only the targets the entity went through without touching them now are handled here, the others are
+ * found by the usual collisions. On the path, copies of the bounds and pose of the entity are placed a few
+ * times between the entry and the exit, until the hitboxes and the pixels of the PixelNarrowphase overlap;
+ * the earliest hit runs its action. The entity itself is not moved.
+ * The targets are taken where they are now, they move much slower than the projectiles.
+ */
+public class SweptCollisions implements GameSystem {
+    private static SweptCollisions instance;
+
+    private final EntityRegistry registry;
+    private final PixelNarrowphase narrowphase = PixelNarrowphase.getInstance();
+    // Actions of the registered collisions, by the types of their two entities
+    private final Map<EntityType, Map<EntityType, BiConsumer<Entity, Entity>>> handlers = new EnumMap<>(EntityType.class);
+    private final Set<EntityType> types = EnumSet.noneOf(EntityType.class);
+    private SpatialHash grid;
+    // Targets found in the grid, kept between sweeps so the lookups allocate nothing
+    private final List<Entity> nearbyTargets = new ArrayList<>();
+    // Covered area of the path being swept
+    private double pathMinX;
+    private double pathMinY;
+    private double pathMaxX;
+    private double pathMaxY;
+    // Scratch of acceptedTime, which only runs on the FX thread
+    private final int[] boxes = new int[8];
+    private final double[] poses = new double[2 * PixelNarrowphase.POSE_SIZE];
+
+    // Result of the last call to sweep, in fractions of the path
+    private double entryTime;
+    private double exitTime;
+    // Earliest accepted hit of the entity being swept
+    private double hitTime;
+    private Entity hitTarget;
+    private BiConsumer<Entity, Entity> hitAction;
+    private boolean hitMoverFirst;
+
+    private int lastSwept;
+    private int lastHits;
+    private long hitTotal;
+
+    /**
+     * Summary :
+     * Parameters :
+     * EntityRegistry registry - where the fast entities and their targets are looked up
+     */
+    public SweptCollisions(EntityRegistry registry) {
+        this.registry = registry;
+    }
+
+    public static synchronized SweptCollisions getInstance() {
+        if (instance == null) {
+            instance = new SweptCollisions(EntityRegistry.getInstance());
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Registers the action of a collision, a new action for the same two types replaces the previous one
+     */
+    public void addHandler(EntityType typeA, EntityType typeB, BiConsumer<Entity, Entity> action) {
+        handlers.computeIfAbsent(typeA, key -> new EnumMap<>(EntityType.class)).put(typeB, action);
+        types.add(typeA);
+        types.add(typeB);
+    }
+
+    /**
+     * Summary :
+     * Takes the targets from the grid instead of the registry, the grid must be updated earlier in the tick.
+     * Null goes back to the registry.
+     */
+    public void setGrid(SpatialHash grid) {
+        this.grid = grid;
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        lastSwept = 0;
+        lastHits = 0;
+        for (EntityType type : types) {
+            List<Entity> movers = registry.getEntities(type);
+            for (int i = 0; i < movers.size(); i++) {
+                Entity mover = movers.get(i);
+                if (!mover.hasComponent(ContinuousCollisionComponent.class)) {
+                    continue;
+                }
+                ContinuousCollisionComponent path = mover.getComponent(ContinuousCollisionComponent.class);
+                lastSwept++;
+                if (sweepPath(mover, type, path)) {
+                    lastHits++;
+                }
+                path.recordBounds();
+            }
+        }
+        hitTotal += lastHits;
+    }
+
+    // Runs the action of the earliest target the entity went through, returns true when there was one
+    private boolean sweepPath(Entity mover, EntityType type, ContinuousCollisionComponent path) {
+        BoundingBoxComponent bbox = mover.getBoundingBoxComponent();
+        double dx = bbox.getMinXWorld() - path.getPreviousMinX();
+        double dy = bbox.getMinYWorld() - path.getPreviousMinY();
+        if (dx == 0 && dy == 0) {
+            return false;
+        }
+        pathMinX = Math.min(path.getPreviousMinX(), bbox.getMinXWorld());
+        pathMinY = Math.min(path.getPreviousMinY(), bbox.getMinYWorld());
+        pathMaxX = Math.max(path.getPreviousMaxX(), bbox.getMaxXWorld());
+        pathMaxY = Math.max(path.getPreviousMaxY(), bbox.getMaxYWorld());
+        hitTime = Double.MAX_VALUE;
+        hitTarget = null;
+        for (Map.Entry<EntityType, Map<EntityType, BiConsumer<Entity, Entity>>> byTypeA : handlers.entrySet()) {
+            for (Map.Entry<EntityType, BiConsumer<Entity, Entity>> byTypeB : byTypeA.getValue().entrySet()) {
+                if (byTypeA.getKey() == type) {
+                    sweepTargets(mover, path, dx, dy, byTypeB.getKey(), byTypeB.getValue(), true);
+                }
+                if (byTypeB.getKey() == type) {
+                    sweepTargets(mover, path, dx, dy, byTypeA.getKey(), byTypeB.getValue(), false);
+                }
+            }
+        }
+        if (hitTarget == null) {
+            return false;
+        }
+        Entity target = hitTarget;
+        hitTarget = null;
+        if (hitMoverFirst) {
+            hitAction.accept(mover, target);
+        } else {
+            hitAction.accept(target, mover);
+        }
+        return true;
+    }
+
+    private void sweepTargets(Entity mover, ContinuousCollisionComponent path, double dx, double dy,
+                              EntityType targetType, BiConsumer<Entity, Entity> action, boolean moverFirst) {
+        List<Entity> targets;
+        if (grid == null) {
+            targets = registry.getEntities(targetType);
+        } else {
+            nearbyTargets.clear();
+            grid.collectInArea(targetType, pathMinX, pathMinY, pathMaxX, pathMaxY, nearbyTargets);
+            targets = nearbyTargets;
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            Entity target = targets.get(i);
+            // The cheap sweep of the bounds first, the hitboxes only for the targets on the path
+            if (target == mover || !target.isActive() || !sweep(path, dx, dy, target.getBoundingBoxComponent())
+                    || entryTime >= hitTime || mover.isColliding(target)) {
+                continue;
+            }
+            double time = acceptedTime(mover, target, dx, dy, moverFirst);
+            if (time < hitTime) {
+                hitTime = time;
+                hitTarget = target;
+                hitAction = action;
+                hitMoverFirst = moverFirst;
+            }
+        }
+    }
+
+    /**
+     * Summary :
+     * Returns true when the previous bounds, moved by dx and dy, go through the target, and keeps the
+     * entry and exit times of the path
+     */
+    private boolean sweep(ContinuousCollisionComponent path, double dx, double dy, BoundingBoxComponent target) {
+        double entryX;
+        double exitX;
+        if (dx > 0) {
+            entryX = (target.getMinXWorld() - path.getPreviousMaxX()) / dx;
+            exitX = (target.getMaxXWorld() - path.getPreviousMinX()) / dx;
+        } else if (dx < 0) {
+            entryX = (target.getMaxXWorld() - path.getPreviousMinX()) / dx;
+            exitX = (target.getMinXWorld() - path.getPreviousMaxX()) / dx;
+        } else if (path.getPreviousMinX() < target.getMaxXWorld() && path.getPreviousMaxX() > target.getMinXWorld()) {
+            entryX = Double.NEGATIVE_INFINITY;
+            exitX = Double.POSITIVE_INFINITY;
+        } else {
+            return false;
+        }
+        double entryY;
+        double exitY;
+        if (dy > 0) {
+            entryY = (target.getMinYWorld() - path.getPreviousMaxY()) / dy;
+            exitY = (target.getMaxYWorld() - path.getPreviousMinY()) / dy;
+        } else if (dy < 0) {
+            entryY = (target.getMaxYWorld() - path.getPreviousMinY()) / dy;
+            exitY = (target.getMinYWorld() - path.getPreviousMaxY()) / dy;
+        } else if (path.getPreviousMinY() < target.getMaxYWorld() && path.getPreviousMaxY() > target.getMinYWorld()) {
+            entryY = Double.NEGATIVE_INFINITY;
+            exitY = Double.POSITIVE_INFINITY;
+        } else {
+            return false;
+        }
+        entryTime = Math.max(0, Math.max(entryX, entryY));
+        exitTime = Math.min(1, Math.min(exitX, exitY));
+        return entryTime < exitTime;
+    }
+
+    /**
+     * Summary :
+     * Moves copies of the bounds and pose of the entity along the path through the target, a step at most half
+     * as long as the smallest side of the two bounds, and returns the first time the hitboxes and the
+     * PixelNarrowphase accept the hit, or Double.MAX_VALUE
+     */
+    private double acceptedTime(Entity mover, Entity target, double dx, double dy, boolean moverFirst) {
+        BoundingBoxComponent moverBox = mover.getBoundingBoxComponent();
+        BoundingBoxComponent targetBox = target.getBoundingBoxComponent();
+        double smallestSide = Math.min(Math.min(moverBox.getWidth(), moverBox.getHeight()),
+                Math.min(targetBox.getWidth(), targetBox.getHeight()));
+        double step = Math.max(smallestSide / 2, 1) / Math.hypot(dx, dy);
+
+        PixelMask moverMask = PixelNarrowphase.maskOf(mover);
+        PixelMask targetMask = PixelNarrowphase.maskOf(target);
+        int pixelCheck = narrowphase.pixelCheckOf(mover, moverMask, target, targetMask);
+        PixelMask alignedMoverMask = null;
+        PixelMask alignedTargetMask = null;
+        if (pixelCheck == PixelNarrowphase.ALIGNED_PIXEL_CHECK) {
+            alignedMoverMask = PixelNarrowphase.alignedMask(mover, moverMask);
+            alignedTargetMask = PixelNarrowphase.alignedMask(target, targetMask);
+            PixelNarrowphase.alignedBox(mover, moverMask, boxes, 0);
+            PixelNarrowphase.alignedBox(target, targetMask, boxes, 4);
+        } else if (pixelCheck == PixelNarrowphase.ROTATED_PIXEL_CHECK) {
+            PixelNarrowphase.writePose(mover, moverMask, poses, 0);
+            PixelNarrowphase.writePose(target, targetMask, poses, PixelNarrowphase.POSE_SIZE);
+        }
+
+        for (double time = entryTime + step / 2; time < exitTime; time += step) {
+            // Offset from where the entity is now back to where it was at this time of the path
+            double offsetX = -dx * (1 - time);
+            double offsetY = -dy * (1 - time);
+            if (!hitBoxesOverlap(moverBox, offsetX, offsetY, targetBox)) {
+                continue;
+            }
+            if (pixelCheck == PixelNarrowphase.NO_PIXEL_CHECK) {
+                return time;
+            }
+            boolean hit;
+            if (pixelCheck == PixelNarrowphase.ALIGNED_PIXEL_CHECK) {
+                hit = PixelMask.overlaps(alignedMoverMask, boxes[0] + (int) Math.round(offsetX),
+                        boxes[1] + (int) Math.round(offsetY), boxes[2], boxes[3],
+                        alignedTargetMask, boxes[4], boxes[5], boxes[6], boxes[7]);
+            } else {
+                PixelNarrowphase.movePose(poses, 0, offsetX, offsetY);
+                hit = PixelNarrowphase.overlapsRotated(moverMask, poses, 0,
+                        targetMask, poses, PixelNarrowphase.POSE_SIZE);
+                PixelNarrowphase.movePose(poses, 0, -offsetX, -offsetY);
+            }
+            if (moverFirst) {
+                narrowphase.count(typeOf(mover), typeOf(target), hit);
+            } else {
+                narrowphase.count(typeOf(target), typeOf(mover), hit);
+            }
+            if (hit) {
+                return time;
+            }
+        }
+        return Double.MAX_VALUE;
+    }
+
+    // Same as the hitboxes of the two entities colliding, with the first one moved by offsetX and offsetY
+    private static boolean hitBoxesOverlap(BoundingBoxComponent moved, double offsetX, double offsetY,
+                                           BoundingBoxComponent other) {
+        List<HitBox> movedHitBoxes = moved.hitBoxesProperty();
+        List<HitBox> otherHitBoxes = other.hitBoxesProperty();
+        for (int i = 0; i < movedHitBoxes.size(); i++) {
+            HitBox a = movedHitBoxes.get(i);
+            double minX = a.getMinXWorld() + offsetX;
+            double minY = a.getMinYWorld() + offsetY;
+            double maxX = a.getMaxXWorld() + offsetX;
+            double maxY = a.getMaxYWorld() + offsetY;
+            for (int j = 0; j < otherHitBoxes.size(); j++) {
+                HitBox b = otherHitBoxes.get(j);
+                if (minX < b.getMaxXWorld() && maxX > b.getMinXWorld()
+                        && minY < b.getMaxYWorld() && maxY > b.getMinYWorld()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static EntityType typeOf(Entity entity) {
+        return entity.getType() instanceof EntityType ? (EntityType) entity.getType() : null;
+    }
+
+    public int getLastSwept() {
+        return lastSwept;
+    }
+
+    public int getLastHits() {
+        return lastHits;
+    }
+
+    public void logCounters() {
+        System.out.println("Swept collisions: " + lastSwept + " fast entities last tick, " + lastHits
+                + " hits found on their paths, " + hitTotal + " in total");
+    }
+}
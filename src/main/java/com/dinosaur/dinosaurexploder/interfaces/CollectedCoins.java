@@ -3,4 +3,6 @@ package com.dinosaur.dinosaurexploder.interfaces;
 public interface CollectedCoins {
 
     void incrementCoin();
+
+    void incrementCoin(int value);
 }
@@ -0,0 +1,16 @@
+package com.dinosaur.dinosaurexploder.interfaces;
+
+/**
+ * Summary :
+ *      This interface is implemented by the systems that update many entities at once, run in order
+ *      by the SystemScheduler
+ */
+public interface GameSystem {
+    /**
+     * Summary :
+     *      This method runs once per frame, in the phase the system was added to.
+     * Parameters :
+     *      double tpf
+     */
+    void onUpdate(double tpf);
+}
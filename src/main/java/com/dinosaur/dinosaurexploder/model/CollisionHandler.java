@@ -42,12 +42,25 @@ public class CollisionHandler {
             ScoreComponent scoreComponent,
             @Nullable BombComponent bombComponent
     ) {
-        collectedCoinsComponent.incrementCoin();
+        onPlayerGetCoin(collectedCoinsComponent, scoreComponent, bombComponent, 1);
+    }
+
+    /**
+     * Summary :
+     * Credits a coin worth several coins as if the player had collected that many single coins
+     */
+    public void onPlayerGetCoin(
+            CollectedCoinsComponent collectedCoinsComponent,
+            ScoreComponent scoreComponent,
+            @Nullable BombComponent bombComponent,
+            int value
+    ) {
+        collectedCoinsComponent.incrementCoin(value);
 
-        scoreComponent.incrementScore(2);
+        scoreComponent.incrementScore(2 * value);
         // Check for bomb regeneration when coin is collected
         if (bombComponent != null) {
-            bombComponent.trackCoinForBombRegeneration();
+            bombComponent.trackCoinForBombRegeneration(value);
         }
     }
 
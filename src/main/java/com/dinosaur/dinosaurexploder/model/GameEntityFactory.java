@@ -5,23 +5,30 @@ import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.dsl.components.ExpireCleanComponent;
 import com.almasb.fxgl.dsl.components.OffscreenCleanComponent;
 import com.almasb.fxgl.dsl.components.ProjectileComponent;
-import com.almasb.fxgl.dsl.views.SelfScrollingBackgroundView;
 import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.entity.EntityFactory;
 import com.almasb.fxgl.entity.SpawnData;
 import com.almasb.fxgl.entity.Spawns;
 import com.almasb.fxgl.physics.BoundingShape;
 import com.almasb.fxgl.physics.HitBox;
-import com.almasb.fxgl.texture.AnimatedTexture;
-import com.almasb.fxgl.texture.AnimationChannel;
 import com.dinosaur.dinosaurexploder.components.*;
 
+import com.dinosaur.dinosaurexploder.constants.CoinDenomination;
 import com.dinosaur.dinosaurexploder.constants.EntityType;
 import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.PixelNarrowphase;
+import com.dinosaur.dinosaurexploder.utils.EntityRegistry;
 import com.dinosaur.dinosaurexploder.utils.FXGLGameTimer;
+import com.dinosaur.dinosaurexploder.utils.HitboxTable;
+import com.dinosaur.dinosaurexploder.utils.ImageCache;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
+import com.dinosaur.dinosaurexploder.utils.PixelMask;
+import com.dinosaur.dinosaurexploder.utils.PixelMaskCache;
+import com.dinosaur.dinosaurexploder.utils.TextureAtlas;
+import com.dinosaur.dinosaurexploder.utils.ThumbnailCache;
 import com.dinosaur.dinosaurexploder.components.PlayerComponent;
-import javafx.geometry.Orientation;
+import com.dinosaur.dinosaurexploder.view.ExplosionPool;
+import com.dinosaur.dinosaurexploder.view.TiledBackgroundView;
 import javafx.geometry.Point2D;
 import javafx.scene.Group;
 import javafx.scene.image.Image;
@@ -30,9 +37,7 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
-import javafx.util.Duration;
 
-import java.util.Objects;
 
 import static com.almasb.fxgl.dsl.FXGLForKtKt.*;
 
@@ -42,18 +47,23 @@ import static com.almasb.fxgl.dsl.FXGLForKtKt.*;
  * Dino, Explosion
  */
 public class GameEntityFactory implements EntityFactory {
+    // Removed projectiles and green dinos are reinitialised instead of built again
+    private final RecyclingPool projectilePool = new RecyclingPool("basicProjectile");
+    private final RecyclingPool enemyProjectilePool = new RecyclingPool("basicEnemyProjectile");
+    private final RecyclingPool greenDinoPool = new RecyclingPool("greenDino");
+
     /**
      * Summary :
      * New Background creation will be handled in below Entity
      */
     @Spawns("background")
     public Entity newBackground(SpawnData data) {
-        Image img = new Image(Objects.requireNonNull(
-                Objects.requireNonNull(getClass().getResource(GameConstants.BACKGROUND_IMAGE_PATH))
-                        .toString()));
+        Image img = ImageCache.getInstance().getImage(GameConstants.BACKGROUND_IMAGE_PATH);
 
+        // Only window sized tiles of the image are drawn, recycled while they scroll
         return FXGL.entityBuilder()
-                .view(new SelfScrollingBackgroundView(img, 3000, 1500, Orientation.VERTICAL, -50))
+                .view(new TiledBackgroundView(getAppWidth(), getAppHeight())
+                        .addLayer(img, GameConstants.BACKGROUND_SCROLL_SPEED))
                 .zIndex(-1)
                 .buildAndAttach();
     }
@@ -66,21 +76,21 @@ public class GameEntityFactory implements EntityFactory {
     public Entity newPlayer(SpawnData data) {
         // Get the selected ship
         int selectedShip = GameData.getSelectedShip();
-        String shipImagePath = "assets/textures/spaceship" + selectedShip + ".png";
         System.out.println("Nave seleccionada en newPlayer: " + selectedShip);
 
-        // Set Ship Image
-        Image shipImage = new Image(getClass().getResourceAsStream("/" + shipImagePath));
+        // Set Ship view, a region of the shared atlas page
+        TextureAtlas atlas = TextureAtlas.getInstance();
+        String shipImagePath = ImageCache.shipImagePath(selectedShip);
 
         // Ship dimension
-        double width = shipImage.getWidth();
-        double height = shipImage.getHeight();
+        double width = atlas.getWidth(shipImagePath);
+        double height = atlas.getHeight(shipImagePath);
 
-        return entityBuilderBase(data, EntityType.PLAYER)
-                .view(new ImageView(shipImage))
-                .bbox(new HitBox(new Point2D(0, 0), BoundingShape.box(width, height))) // la nave
+        return withHitBoxes(entityBuilderBase(data, EntityType.PLAYER)
+                .view(atlas.newView(shipImagePath)), shipImagePath, width, height) // la nave
                 .collidable()
                 .with(new PlayerComponent())
+                .with(new ShipTrailComponent(shipImagePath))
                 .build();
     }
 
@@ -91,23 +101,30 @@ public class GameEntityFactory implements EntityFactory {
     @Spawns("basicProjectile")
     public Entity newBasicProjectile(SpawnData data) {
         Point2D direction = data.get("direction");
+        Entity pooled = projectilePool.take();
+        if (pooled != null) {
+            return reuseProjectile(pooled, data, direction);
+        }
         int selectedShip = GameData.getSelectedShip();
         int selectedWeapon = GameData.getSelectedWeapon();
-        int speed = 600 * (selectedWeapon);
-        String weaponImagePath = "assets/textures/projectiles/projectile" + selectedShip + "_" + selectedWeapon
-                + ".png";
+        double speed = GameConstants.PROJECTILE_SPEED_PER_WEAPON * selectedWeapon;
 
-        Image projectileImage = new Image(getClass().getResourceAsStream("/" + weaponImagePath));
-        return entityBuilderBase(data, EntityType.PROJECTILE)
+        TextureAtlas atlas = TextureAtlas.getInstance();
+        String projectileImagePath = ImageCache.projectileImagePath(selectedShip, selectedWeapon);
+        EntityBuilder builder = withHitBoxes(entityBuilderBase(data, EntityType.PROJECTILE)
                 // The OffscreenCleanComponent is used because when the projectiles move, if
                 // they
                 // move outside the screen we want them deleted.
                 .with(new OffscreenCleanComponent())
-                .view(new ImageView(projectileImage))
-                .bbox(new HitBox(BoundingShape.box(50, 50)))
+                .view(atlas.newView(projectileImagePath)),
+                projectileImagePath, atlas.getWidth(projectileImagePath), atlas.getHeight(projectileImagePath))
                 .collidable()
-                .with(new ProjectileComponent(direction, speed))
-                .build();
+                .with(new ProjectileComponent(direction, speed));
+        // The fast weapons are also tested along their path, so they don't go through thin targets
+        if (speed >= GameConstants.CONTINUOUS_COLLISION_MIN_SPEED) {
+            builder.with(new ContinuousCollisionComponent());
+        }
+        return projectilePool.track(builder.build());
 
     }
 
@@ -118,44 +135,93 @@ public class GameEntityFactory implements EntityFactory {
     @Spawns("basicEnemyProjectile")
     public Entity newBasicEnemyProjectile(SpawnData data) {
         Point2D direction = data.get("direction");
-        return entityBuilderBase(data, EntityType.ENEMY_PROJECTILE)
+        Entity pooled = enemyProjectilePool.take();
+        if (pooled != null) {
+            return reuseProjectile(pooled, data, direction);
+        }
+        return enemyProjectilePool.track(withHitBoxes(entityBuilderBase(data, EntityType.ENEMY_PROJECTILE)
                 .with(new OffscreenCleanComponent())
-                .view(texture(GameConstants.ENEMY_PROJECTILE_IMAGE_FILE, 30, 17))
-                .bbox(new HitBox(BoundingShape.box(20, 20)))
+                .view(TextureAtlas.getInstance().newView(GameConstants.ENEMY_PROJECTILE_IMAGE_PATH, 30, 17)),
+                GameConstants.ENEMY_PROJECTILE_IMAGE_PATH, 30, 17)
                 .collidable()
-                .with(new ProjectileComponent(direction, 300))
-                .build();
+                .with(new ProjectileComponent(direction, GameConstants.ENEMY_PROJECTILE_SPEED))
+                .build());
 
     }
 
+    /**
+     * Summary :
+     * Puts a pooled projectile at the spawn position and sends it in the new direction, which also
+     * turns it. Its view, hitboxes and components are kept from its first spawn.
+     */
+    private Entity reuseProjectile(Entity projectile, SpawnData data, Point2D direction) {
+        projectile.setPosition(data.getX(), data.getY());
+        projectile.getComponent(ProjectileComponent.class).setDirection(direction);
+        if (projectile.hasComponent(ContinuousCollisionComponent.class)) {
+            projectile.getComponent(ContinuousCollisionComponent.class).recordBounds();
+        }
+        return projectile;
+    }
+
+    public RecyclingPool getProjectilePool() {
+        return projectilePool;
+    }
+
+    public RecyclingPool getEnemyProjectilePool() {
+        return enemyProjectilePool;
+    }
+
+    public RecyclingPool getGreenDinoPool() {
+        return greenDinoPool;
+    }
+
+    /**
+     * Summary :
+     * Prints the size and reuse of the entity pools on one line, only called by the F11 debug key
+     */
+    public void logCounters() {
+        System.out.println("Entity pools: " + projectilePool + "; " + enemyProjectilePool + "; " + greenDinoPool);
+    }
+
     /**
      * Summary :
      * New Green Dino creation will be handled in below Entity
      */
     @Spawns("greenDino")
     public Entity newGreenDino(SpawnData data) {
-        return entityBuilderBase(data, EntityType.GREEN_DINO)
+        Entity pooled = greenDinoPool.take();
+        if (pooled != null) {
+            pooled.setPosition(data.getX(), data.getY());
+            pooled.getComponent(GreenDinoComponent.class).reset();
+            return pooled;
+        }
+        return greenDinoPool.track(withHitBoxes(entityBuilderBase(data, EntityType.GREEN_DINO)
                 .with(new OffscreenCleanComponent())
-                .view(texture(GameConstants.GREEN_DINO_IMAGE_FILE, 80, 60))
-                .bbox(new HitBox(BoundingShape.box(65, 55)))
+                .view(TextureAtlas.getInstance().newView(GameConstants.GREEN_DINO_IMAGE_PATH, 80, 60)),
+                GameConstants.GREEN_DINO_IMAGE_PATH, 80, 60)
                 .collidable()
                 .with(new GreenDinoComponent())
-                .build();
+                .build());
     }
 
     /**
-     * spawn random coin on the window
+     * spawn random coin on the window, worth one coin unless the "denomination" is given
      */
 
     @Spawns("coin")
     public Entity newCoin(SpawnData data) {
-        System.out.println("Loading coin texture: " + GameConstants.COIN_IMAGE_FILE);
-        return entityBuilderBase(data, EntityType.COIN)
+        CoinDenomination denomination = data.hasKey("denomination") ? data.get("denomination") : CoinDenomination.ONE;
+        double size = denomination.getSize();
+        // The tinted coins share one image per denomination, the plain one is drawn from the atlas
+        ImageView view = denomination.getHue() == 0
+                ? TextureAtlas.getInstance().newView(GameConstants.COIN_IMAGE_PATH, size, size)
+                : new ImageView(ThumbnailCache.getInstance().getTintedImage(GameConstants.COIN_IMAGE_PATH, size, denomination.getHue()));
+        return withHitBoxes(entityBuilderBase(data, EntityType.COIN)
                 .with(new OffscreenCleanComponent())
-                .view(texture(GameConstants.COIN_IMAGE_FILE, 40, 40))
-                .bbox(new HitBox(BoundingShape.box(40, 40)))
+                .view(view),
+                GameConstants.COIN_IMAGE_PATH, size, size)
                 .collidable()
-                .with(new CoinComponent())
+                .with(new CoinComponent(denomination))
                 .build();
     }
 
@@ -163,6 +229,7 @@ public class GameEntityFactory implements EntityFactory {
     public Entity newRedDino(SpawnData data) {
         return entityBuilderBase(data, EntityType.RED_DINO)
                 .with(new OffscreenCleanComponent())
+                // redDino.png is not part of the atlas, FXGL shows its placeholder texture when it is missing
                 .view(texture(GameConstants.RED_DINO_IMAGE_FILE, 100, 80))
                 .bbox(new HitBox(BoundingShape.box(65, 55)))
                 .collidable()
@@ -172,13 +239,12 @@ public class GameEntityFactory implements EntityFactory {
 
     @Spawns("orangeDino")
     public Entity newOrangeDino(SpawnData data) {
-        PlayerComponent player;
-        player = getGameWorld().getEntitiesByComponent(PlayerComponent.class).get(0).getComponent(PlayerComponent.class);
+        PlayerComponent player = EntityRegistry.getInstance().getPlayerComponent();
 
-        return entityBuilderBase(data, EntityType.ORANGE_DINO)
+        return withHitBoxes(entityBuilderBase(data, EntityType.ORANGE_DINO)
                 .with(new OffscreenCleanComponent())
-                .view(texture(GameConstants.ORANGE_DINO_IMAGE_FILE, 100, 150))
-                .bbox(new HitBox(BoundingShape.box(65, 55)))
+                .view(TextureAtlas.getInstance().newView(GameConstants.ORANGE_DINO_IMAGE_PATH, 100, 150)),
+                GameConstants.ORANGE_DINO_IMAGE_PATH, 100, 150)
                 .collidable()
                 .with(new OrangeDinoComponent(new FXGLGameTimer(), player))
                 .build();
@@ -201,10 +267,11 @@ public class GameEntityFactory implements EntityFactory {
     @Spawns("heart")
     public Entity newHeart(SpawnData data) {
         System.out.println("Loading heart texture: " + GameConstants.HEART_IMAGE_FILE);
-        return entityBuilderBase(data, EntityType.HEART)
+        TextureAtlas atlas = TextureAtlas.getInstance();
+        return withHitBoxes(entityBuilderBase(data, EntityType.HEART)
                 .with(new OffscreenCleanComponent())
-                .view(texture(GameConstants.HEART_IMAGE_FILE))
-                .bbox(new HitBox(BoundingShape.box(22, 22)))
+                .view(atlas.newView(GameConstants.HEART_IMAGE_PATH)), GameConstants.HEART_IMAGE_PATH,
+                atlas.getWidth(GameConstants.HEART_IMAGE_PATH), atlas.getHeight(GameConstants.HEART_IMAGE_PATH))
                 .collidable()
                 .with(new Heart())
                 .build();
@@ -212,7 +279,7 @@ public class GameEntityFactory implements EntityFactory {
 
     /**
      * Summary :
-     * Setting up the Score will be handled in below Entity
+     * Setting up the Score will be handled in below Entity, it is shown by the HudLayer
      */
     @Spawns("Score")
     public Entity newScore(SpawnData data) {
@@ -222,7 +289,7 @@ public class GameEntityFactory implements EntityFactory {
         return entityBuilderBase(data, EntityType.SCORE)
                 .view(scoreText)
                 .with(new ScoreComponent())
-                .with(new OffscreenCleanComponent()).build();
+                .build();
     }
 
     /**
@@ -236,7 +303,7 @@ public class GameEntityFactory implements EntityFactory {
                 .from(data)
                 .view(lifeText)
                 .with(new LifeComponent())
-                .with(new OffscreenCleanComponent()).build();
+                .build();
     }
 
     @Spawns("Bomb")
@@ -246,7 +313,7 @@ public class GameEntityFactory implements EntityFactory {
                 .from(data)
                 .view(bombText)
                 .with(new BombComponent())
-                .with(new OffscreenCleanComponent()).build();
+                .build();
     }
 
     /**
@@ -259,7 +326,7 @@ public class GameEntityFactory implements EntityFactory {
                 .from(data)
                 .view(coinText)
                 .with(new CollectedCoinsComponent())
-                .with(new OffscreenCleanComponent()).build();
+                .build();
     }
 
     /**
@@ -268,16 +335,11 @@ public class GameEntityFactory implements EntityFactory {
      */
     @Spawns("explosion")
     public Entity newExplosion(SpawnData data) {
-        Duration seconds = Duration.seconds(0.4);
-        AnimationChannel ac = new AnimationChannel(
-                FXGL.image("explosion.png"),
-                seconds, 16);
-
-        AnimatedTexture at = new AnimatedTexture(ac);
-        at.play();
+        // The channel is shared and the view comes back to the pool when the entity expires
+        ExplosionPool explosionPool = ExplosionPool.getInstance();
         return FXGL.entityBuilder(data)
-                .view(at)
-                .with(new ExpireCleanComponent(seconds))
+                .view(explosionPool.obtain())
+                .with(new ExpireCleanComponent(explosionPool.getDuration()))
                 .build();
     }
 
@@ -330,4 +392,20 @@ public class GameEntityFactory implements EntityFactory {
                 .type(type)
                 .from(data);
     }
+
+    /**
+     * Summary :
+     * Adds the tight hitboxes of the sprite, generated from its alpha channel, and its pixel mask
+     * for the PixelNarrowphase to the entity
+     */
+    private EntityBuilder withHitBoxes(EntityBuilder builder, String assetPath, double width, double height) {
+        for (HitBox hitBox : HitboxTable.getInstance().getHitBoxes(assetPath, width, height)) {
+            builder.bbox(hitBox);
+        }
+        PixelMask mask = PixelMaskCache.getInstance().getMask(assetPath, width, height);
+        if (mask != null) {
+            builder.with(PixelNarrowphase.MASK_PROPERTY, mask);
+        }
+        return builder;
+    }
 }
@@ -0,0 +1,92 @@
+package com.dinosaur.dinosaurexploder.model;
+
+import com.almasb.fxgl.entity.Entity;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Summary :
+ * Pool of removed entities of one kind that the GameEntityFactory reinitialises instead of building
+ * new ones.
+ * A tracked entity is reusable, so FXGL keeps its components, view and hitboxes when it is removed;
+ * it goes back to the pool as soon as it is removed from the world (offscreen or after a collision).
+ * FXGL detaches a removed entity from its world on the next update, only then it can be taken again.
+ * The pool is not shared between games: every game has its own GameEntityFactory.
+ */
+public class RecyclingPool {
+    // Set by FXGL on spawned entities, it would send them to the FXGL pool that reuses them as they are
+    private static final String SPAWN_NAME_PROPERTY = "spawnName";
+
+    private final String name;
+    private final Deque<Entity> free = new ArrayDeque<>();
+    private int highWaterMark;
+    private long created;
+    private long reused;
+
+    public RecyclingPool(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Summary :
+     * Returns a removed entity ready to be reinitialised and spawned again, or null when none is free
+     */
+    public Entity take() {
+        Entity entity = free.peekFirst();
+        if (entity == null || entity.isActive() || entity.getWorld() != null) {
+            return null;
+        }
+        free.pollFirst();
+        reused++;
+        return entity;
+    }
+
+    /**
+     * Summary :
+     * Makes a newly built entity go back to this pool when it is removed, and returns it
+     */
+    public Entity track(Entity entity) {
+        entity.setReusable(true);
+        entity.getProperties().remove(SPAWN_NAME_PROPERTY);
+        entity.setOnNotActive(() -> release(entity));
+        created++;
+        return entity;
+    }
+
+    void release(Entity entity) {
+        free.addLast(entity);
+        highWaterMark = Math.max(highWaterMark, free.size());
+    }
+
+    public int size() {
+        return free.size();
+    }
+
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getReused() {
+        return reused;
+    }
+
+    /**
+     * Summary :
+     * Part of the spawns that reused a pooled entity, between 0 and 1
+     */
+    public double getReuseRate() {
+        long spawns = created + reused;
+        return spawns == 0 ? 0 : (double) reused / spawns;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s pool: %d free (high-water mark %d), %d created, %d reused (%.0f%% reuse)",
+                name, size(), highWaterMark, created, reused, getReuseRate() * 100);
+    }
+}
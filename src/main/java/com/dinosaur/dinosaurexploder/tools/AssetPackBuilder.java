@@ -0,0 +1,101 @@
+package com.dinosaur.dinosaurexploder.tools;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Summary :
+ * Build tool that writes the textures, the texture atlas, the hitboxes and the translations into one asset pack
+ * that the game memory-maps at runtime (see AssetPack).
+ * It is run by the "assets" maven profile after the TextureAtlasPacker and the HitboxGenerator: mvn -Passets package
+ * Format :
+ * int magic, int version, int entry count,
+ * then for every entry: UTF path, long offset from the start of the file, int length,
+ * then the content of every entry.
+ * Parameters :
+ * args[0] - classes folder that contains the assets folder
+ * args[1] - folder the pack is written to, next to the jar so it is not compressed into it (default: args[0])
+ */
+public class AssetPackBuilder {
+    public static final int MAGIC = 0x44585043; // "DXPC"
+    public static final int VERSION = 1;
+    public static final String PACK_FILE = "assets.pack";
+
+    // The sounds are not packed, javafx Media can only be created from an URL
+    static final String[] PACKED_FOLDERS = {"assets/textures", "assets/atlas", "assets/hitboxes", "assets/translation"};
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: AssetPackBuilder <classes folder> [output folder]");
+            System.exit(1);
+        }
+        Path classes = Paths.get(args[0]);
+        Path output = args.length > 1 ? Paths.get(args[1]) : classes;
+
+        List<String> paths = new ArrayList<>();
+        for (String folder : PACKED_FOLDERS) {
+            Path root = classes.resolve(folder);
+            if (!Files.isDirectory(root)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(root)) {
+                files.filter(Files::isRegularFile)
+                        .map(file -> classes.relativize(file).toString().replace('\\', '/'))
+                        .sorted()
+                        .forEach(paths::add);
+            }
+        }
+
+        Files.createDirectories(output);
+        Path pack = output.resolve(PACK_FILE);
+        write(classes, paths, pack);
+        System.out.println("Packed " + paths.size() + " assets into " + pack + " (" + Files.size(pack) + " bytes)");
+    }
+
+    /**
+     * Summary :
+     * Writes the files (paths relative to root) into the pack file
+     */
+    public static void write(Path root, List<String> paths, Path pack) throws IOException {
+        // The header size depends on the path lengths, so it is built first to know the data offset
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerData = new DataOutputStream(header);
+        headerData.writeInt(MAGIC);
+        headerData.writeInt(VERSION);
+        headerData.writeInt(paths.size());
+
+        long offset = headerSize(paths);
+        for (String path : paths) {
+            long length = Files.size(root.resolve(path));
+            headerData.writeUTF(path);
+            headerData.writeLong(offset);
+            headerData.writeInt((int) length);
+            offset += length;
+        }
+
+        try (OutputStream out = Files.newOutputStream(pack)) {
+            header.writeTo(out);
+            for (String path : paths) {
+                Files.copy(root.resolve(path), out);
+            }
+        }
+    }
+
+    private static long headerSize(List<String> paths) throws IOException {
+        ByteArrayOutputStream names = new ByteArrayOutputStream();
+        DataOutputStream namesData = new DataOutputStream(names);
+        for (String path : paths) {
+            namesData.writeUTF(path);
+        }
+        // magic, version, count + offset and length of every entry
+        return 3 * Integer.BYTES + names.size() + (long) paths.size() * (Long.BYTES + Integer.BYTES);
+    }
+}
@@ -0,0 +1,63 @@
+package com.dinosaur.dinosaurexploder.tools;
+
+import com.dinosaur.dinosaurexploder.utils.AlphaBounds;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Summary :
+ * Build tool that computes the hitboxes of the game sprites from their alpha channel, at the size
+ * they are drawn with (the same sprites and sizes as the texture atlas), and writes them to a
+ * generated table read by the HitboxTable.
+ * It is run by the "assets" maven profile: mvn -Passets package
+ * Parameters :
+ * args[0] - resources folder that contains assets/textures
+ * args[1] - output folder, the table is written to assets/hitboxes inside it
+ */
+public class HitboxGenerator {
+    public static final String HITBOX_FOLDER = "assets/hitboxes/";
+    public static final String INDEX_FILE = HITBOX_FOLDER + "hitboxes.index";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: HitboxGenerator <resources folder> <output folder>");
+            System.exit(1);
+        }
+        Path resources = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+
+        List<TextureAtlasPacker.Sprite> sprites = TextureAtlasPacker.createSprites(resources);
+        Files.createDirectories(output.resolve(HITBOX_FOLDER));
+        try (Writer writer = Files.newBufferedWriter(output.resolve(INDEX_FILE), StandardCharsets.UTF_8)) {
+            writer.write("# Generated by HitboxGenerator, do not edit\n");
+            writer.write("# path@drawn size=x,y,width,height[;x,y,width,height...]\n");
+            for (TextureAtlasPacker.Sprite sprite : sprites) {
+                BufferedImage image = TextureAtlasPacker.render(resources, sprite);
+                int[] argb = image.getRGB(0, 0, sprite.width, sprite.height, null, 0, sprite.width);
+                List<int[]> boxes = AlphaBounds.hitBoxes(argb, sprite.width, sprite.height);
+                if (!boxes.isEmpty()) {
+                    writer.write(key(sprite.path, sprite.width, sprite.height) + "=" + format(boxes) + "\n");
+                }
+            }
+        }
+        System.out.println("Generated hitboxes of " + sprites.size() + " sprites");
+    }
+
+    public static String key(String assetPath, double width, double height) {
+        return assetPath + "@" + (int) width + "x" + (int) height;
+    }
+
+    static String format(List<int[]> boxes) {
+        return boxes.stream()
+                .map(box -> box[0] + "," + box[1] + "," + box[2] + "," + box[3])
+                .collect(Collectors.joining(";"));
+    }
+}
@@ -0,0 +1,189 @@
+package com.dinosaur.dinosaurexploder.tools;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Summary :
+ * Build tool that packs the game sprites into a few atlas pages plus a generated index.
+ * Every sprite is scaled to the size it is drawn with in the game, so the big source images
+ * (coin, orange dino...) only take a few pixels in the atlas.
+ * It is run by the "assets" maven profile: mvn -Passets package
+ * Parameters :
+ * args[0] - resources folder that contains assets/textures
+ * args[1] - output folder, the atlas is written to assets/atlas inside it
+ */
+public class TextureAtlasPacker {
+    public static final String ATLAS_FOLDER = "assets/atlas/";
+    public static final String INDEX_FILE = ATLAS_FOLDER + "atlas.index";
+    public static final String PAGE_FILE = ATLAS_FOLDER + "atlas%d.png";
+
+    static final int PAGE_SIZE = 1024;
+    static final int PADDING = 2;
+
+    /**
+     * Summary :
+     * One sprite of the atlas with the size it is packed with
+     */
+    static class Sprite {
+        final String path;
+        final int width;
+        final int height;
+        int page;
+        int x;
+        int y;
+
+        Sprite(String path, int width, int height) {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: TextureAtlasPacker <resources folder> <output folder>");
+            System.exit(1);
+        }
+        Path resources = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+
+        List<Sprite> sprites = createSprites(resources);
+        int pages = pack(sprites, PAGE_SIZE);
+        writePages(resources, output, sprites, pages);
+        writeIndex(output, sprites);
+
+        System.out.println("Packed " + sprites.size() + " sprites into " + pages + " atlas page(s)");
+    }
+
+    /**
+     * Summary :
+     * The sprites of the atlas with the size they are drawn with.
+     * explosion.png is already a sprite sheet used by an AnimationChannel and background.png is
+     * bigger than a page, so both stay separate images.
+     */
+    static List<Sprite> createSprites(Path resources) throws IOException {
+        List<Sprite> sprites = new ArrayList<>();
+        for (int ship = 1; ship <= 8; ship++) {
+            sprites.add(sourceSized(resources, "assets/textures/spaceship" + ship + ".png"));
+            for (int weapon = 1; weapon <= 3; weapon++) {
+                sprites.add(sourceSized(resources, "assets/textures/projectiles/projectile" + ship + "_" + weapon + ".png"));
+            }
+        }
+        sprites.add(sourceSized(resources, "assets/textures/basicProjectile.png"));
+        sprites.add(new Sprite("assets/textures/enemyProjectile.png", 30, 17));
+        sprites.add(new Sprite("assets/textures/greenDino.png", 80, 60));
+        sprites.add(new Sprite("assets/textures/orangeDino.png", 100, 150));
+        sprites.add(new Sprite("assets/textures/coin.png", 40, 40));
+        sprites.add(sourceSized(resources, "assets/textures/life.png"));
+        sprites.add(sourceSized(resources, "assets/textures/lifeLost.png"));
+        sprites.add(sourceSized(resources, "assets/textures/bomb.png"));
+        sprites.add(sourceSized(resources, "assets/textures/lock.png"));
+        return sprites;
+    }
+
+    private static Sprite sourceSized(Path resources, String path) throws IOException {
+        BufferedImage image = read(resources, path);
+        return new Sprite(path, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * Summary :
+     * Shelf packing, the sprites are sorted by height and placed row by row.
+     * A new page is started when a sprite does not fit anymore.
+     * Returns the number of pages
+     */
+    static int pack(List<Sprite> sprites, int pageSize) {
+        List<Sprite> sorted = new ArrayList<>(sprites);
+        sorted.sort(Comparator.comparingInt((Sprite sprite) -> sprite.height).reversed());
+
+        int page = 0;
+        int x = PADDING;
+        int y = PADDING;
+        int shelfHeight = 0;
+        for (Sprite sprite : sorted) {
+            if (sprite.width + 2 * PADDING > pageSize || sprite.height + 2 * PADDING > pageSize) {
+                throw new IllegalArgumentException("Sprite is bigger than an atlas page: " + sprite.path);
+            }
+            if (x + sprite.width + PADDING > pageSize) {
+                x = PADDING;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            if (y + sprite.height + PADDING > pageSize) {
+                page++;
+                x = PADDING;
+                y = PADDING;
+                shelfHeight = 0;
+            }
+            sprite.page = page;
+            sprite.x = x;
+            sprite.y = y;
+            x += sprite.width + PADDING;
+            shelfHeight = Math.max(shelfHeight, sprite.height);
+        }
+        return page + 1;
+    }
+
+    private static void writePages(Path resources, Path output, List<Sprite> sprites, int pages) throws IOException {
+        Files.createDirectories(output.resolve(ATLAS_FOLDER));
+        for (int page = 0; page < pages; page++) {
+            BufferedImage atlas = new BufferedImage(PAGE_SIZE, PAGE_SIZE, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = atlas.createGraphics();
+            for (Sprite sprite : sprites) {
+                if (sprite.page == page) {
+                    graphics.drawImage(render(resources, sprite), sprite.x, sprite.y, null);
+                }
+            }
+            graphics.dispose();
+            ImageIO.write(atlas, "png", output.resolve(String.format(PAGE_FILE, page)).toFile());
+        }
+    }
+
+    /**
+     * Summary :
+     * Returns the sprite scaled to the size it is drawn with
+     */
+    static BufferedImage render(Path resources, Sprite sprite) throws IOException {
+        BufferedImage scaled = new BufferedImage(sprite.width, sprite.height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.drawImage(read(resources, sprite.path), 0, 0, sprite.width, sprite.height, null);
+        graphics.dispose();
+        return scaled;
+    }
+
+    /**
+     * Summary :
+     * Writes one line per sprite: path=page,x,y,width,height
+     */
+    private static void writeIndex(Path output, List<Sprite> sprites) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(output.resolve(INDEX_FILE), StandardCharsets.UTF_8)) {
+            writer.write("# Generated by TextureAtlasPacker, do not edit\n");
+            for (Sprite sprite : sprites) {
+                writer.write(sprite.path + "=" + sprite.page + "," + sprite.x + "," + sprite.y + ","
+                        + sprite.width + "," + sprite.height + "\n");
+            }
+        }
+    }
+
+    private static BufferedImage read(Path resources, String path) throws IOException {
+        BufferedImage image = ImageIO.read(resources.resolve(path).toFile());
+        if (image == null) {
+            throw new IOException("Could not decode " + path);
+        }
+        return image;
+    }
+}
@@ -0,0 +1,99 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary :
+ * This class computes tight hitboxes from the alpha channel of a sprite.
+ * A pixel is solid when its alpha is above ALPHA_THRESHOLD. The result is one box around all solid
+ * pixels or, when the sprite has a shape that leaves a lot of empty space in that box (e.g. the
+ * orange dino), up to MAX_BOXES boxes made by slicing the sprite along its longest side.
+ * It only works on ARGB int arrays, so it is shared by the HitboxGenerator build tool (AWT images)
+ * and the runtime fallback of the HitboxTable (JavaFX images).
+ * Every box is an int array: x, y, width, height.
+ */
+public final class AlphaBounds {
+    public static final int ALPHA_THRESHOLD = 16;
+    public static final int MAX_BOXES = 3;
+    // Slices are only used when they cover at most this part of the single box area
+    static final double COMPOUND_AREA_RATIO = 0.8;
+
+    private AlphaBounds() {
+    }
+
+    /**
+     * Summary :
+     * Returns the hitboxes of the sprite, an empty list when it has no solid pixel
+     * Parameters :
+     * int[] argb - the pixels, row by row
+     * int width, int height - size of the sprite
+     */
+    public static List<int[]> hitBoxes(int[] argb, int width, int height) {
+        int[] single = bounds(argb, width, 0, 0, width, height);
+        List<int[]> best = new ArrayList<>();
+        if (single == null) {
+            return best;
+        }
+        best.add(single);
+        long bestArea = area(single);
+
+        boolean vertical = single[3] >= single[2];
+        for (int parts = 2; parts <= MAX_BOXES; parts++) {
+            List<int[]> slices = slices(argb, width, single, parts, vertical);
+            long slicesArea = slices.stream().mapToLong(AlphaBounds::area).sum();
+            if (slicesArea <= area(single) * COMPOUND_AREA_RATIO && slicesArea < bestArea) {
+                best = slices;
+                bestArea = slicesArea;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Summary :
+     * Returns the box around the solid pixels inside [x0, x1) x [y0, y1), or null when there are none
+     */
+    public static int[] bounds(int[] argb, int width, int x0, int y0, int x1, int y1) {
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = -1;
+        int maxY = -1;
+        for (int y = y0; y < y1; y++) {
+            int row = y * width;
+            for (int x = x0; x < x1; x++) {
+                if ((argb[row + x] >>> 24) > ALPHA_THRESHOLD) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                    minY = Math.min(minY, y);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        if (maxX < 0) {
+            return null;
+        }
+        return new int[]{minX, minY, maxX - minX + 1, maxY - minY + 1};
+    }
+
+    private static List<int[]> slices(int[] argb, int width, int[] single, int parts, boolean vertical) {
+        List<int[]> slices = new ArrayList<>();
+        int start = vertical ? single[1] : single[0];
+        int length = vertical ? single[3] : single[2];
+        for (int i = 0; i < parts; i++) {
+            int from = start + length * i / parts;
+            int to = start + length * (i + 1) / parts;
+            int[] slice = vertical
+                    ? bounds(argb, width, single[0], from, single[0] + single[2], to)
+                    : bounds(argb, width, from, single[1], to, single[1] + single[3]);
+            if (slice != null) {
+                slices.add(slice);
+            }
+        }
+        return slices;
+    }
+
+    private static long area(int[] box) {
+        return (long) box[2] * box[3];
+    }
+}
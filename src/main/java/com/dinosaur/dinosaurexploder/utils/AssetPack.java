@@ -0,0 +1,207 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.tools.AssetPackBuilder;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary :
+ * This class reads the assets from the asset pack written by the AssetPackBuilder.
+ * The pack is memory-mapped once, every lookup is a map access and every read is a slice of the
+ * mapped buffer, so there is no zip lookup or inflate per asset.
+ * The pack is shipped uncompressed next to the jar or in the root of the jlink image and mapped
+ * in place. The packed files also stay in the jar, so without a pack (built without the "assets"
+ * profile, or a layout the pack was not copied into) the assets are read from the classpath as before.
+ */
+public class AssetPack {
+    private static AssetPack instance;
+
+    private final MappedByteBuffer buffer;
+    private final Map<String, Entry> entries;
+
+    private static class Entry {
+        private final int offset;
+        private final int length;
+
+        Entry(long offset, int length) {
+            this.offset = (int) offset;
+            this.length = length;
+        }
+    }
+
+    private AssetPack() {
+        this(locatePack());
+    }
+
+    // Used by the tests to map their own pack
+    AssetPack(Path pack) {
+        MappedByteBuffer mapped = null;
+        Map<String, Entry> index = new HashMap<>();
+        if (pack != null) {
+            try (FileChannel channel = FileChannel.open(pack, StandardOpenOption.READ)) {
+                // The mapping stays valid after the channel is closed
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                index = readIndex(mapped);
+            } catch (IOException e) {
+                System.err.println("Error reading asset pack " + pack + ": " + e.getMessage());
+                mapped = null;
+                index = new HashMap<>();
+            }
+        }
+        this.buffer = mapped;
+        this.entries = index;
+    }
+
+    public static synchronized AssetPack getInstance() {
+        if (instance == null) {
+            instance = new AssetPack();
+        }
+        return instance;
+    }
+
+    public boolean isAvailable() {
+        return buffer != null;
+    }
+
+    public boolean contains(String assetPath) {
+        return entries.containsKey(normalize(assetPath));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Summary :
+     * Returns the sorted paths of the packed assets inside the folder, empty without a pack
+     * Parameters :
+     * String folder - folder inside the resources, with or without leading "/", e.g. "assets/translation/"
+     */
+    public List<String> list(String folder) {
+        String prefix = normalize(folder);
+        List<String> paths = new ArrayList<>();
+        for (String path : entries.keySet()) {
+            if (path.startsWith(prefix)) {
+                paths.add(path);
+            }
+        }
+        paths.sort(null);
+        return paths;
+    }
+
+    /**
+     * Summary :
+     * Opens the asset from the pack, or from the classpath when it is not packed.
+     * Returns null when the asset does not exist, like getResourceAsStream
+     * Parameters :
+     * String assetPath - path of the asset inside the resources, with or without leading "/"
+     */
+    public InputStream open(String assetPath) {
+        Entry entry = entries.get(normalize(assetPath));
+        if (entry == null) {
+            return AssetPack.class.getResourceAsStream("/" + normalize(assetPath));
+        }
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(entry.offset).limit(entry.offset + entry.length);
+        return new ByteBufferInputStream(slice.slice());
+    }
+
+    private static Map<String, Entry> readIndex(ByteBuffer pack) throws IOException {
+        DataInputStream header = new DataInputStream(new ByteBufferInputStream(pack.duplicate()));
+        if (header.readInt() != AssetPackBuilder.MAGIC || header.readInt() != AssetPackBuilder.VERSION) {
+            throw new IOException("Not an asset pack or unsupported version");
+        }
+        int count = header.readInt();
+        Map<String, Entry> index = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            index.put(header.readUTF(), new Entry(header.readLong(), header.readInt()));
+        }
+        return index;
+    }
+
+    private static Path locatePack() {
+        for (Path folder : packFolders()) {
+            Path pack = folder.resolve(AssetPackBuilder.PACK_FILE);
+            if (Files.isRegularFile(pack)) {
+                return pack;
+            }
+        }
+        // Built without the "assets" profile, the assets are read from the classpath
+        return null;
+    }
+
+    // Next to the jar (or the classes folder when run from the IDE), then the root of a jlink image
+    private static List<Path> packFolders() {
+        List<Path> folders = new ArrayList<>();
+        CodeSource source = AssetPack.class.getProtectionDomain().getCodeSource();
+        if (source != null && "file".equals(source.getLocation().getProtocol())) {
+            try {
+                Path parent = Paths.get(source.getLocation().toURI()).getParent();
+                if (parent != null) {
+                    folders.add(parent);
+                }
+            } catch (URISyntaxException e) {
+                System.err.println("Error locating the game folder: " + e.getMessage());
+            }
+        }
+        String javaHome = System.getProperty("java.home");
+        if (javaHome != null) {
+            folders.add(Paths.get(javaHome));
+        }
+        return folders;
+    }
+
+    private static String normalize(String assetPath) {
+        return assetPath.startsWith("/") ? assetPath.substring(1) : assetPath;
+    }
+
+    /**
+     * Summary :
+     * Reads a slice of the mapped pack without copying it
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.CoinDenomination;
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import javafx.application.Platform;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Summary :
+ * This class decodes the textures, sounds and translations of the game on a pool of background
+ * threads while the main menu is shown, so the first spawn of a dino, explosion or boss does not
+ * have to decode anything.
+ * The progress (0 to 1) is published on the JavaFX thread and the decode time of every asset
+ * is kept, logReport prints it (F9 debug key in game).
+ */
+public class AssetPreloader {
+    private static AssetPreloader instance;
+
+    private final List<Asset> assets;
+    private final Consumer<Runnable> uiThread;
+    private final DoubleProperty progress = new SimpleDoubleProperty(0);
+    private final Map<String, Long> decodeTimes = new ConcurrentHashMap<>();
+    private CompletableFuture<Void> loading;
+    private volatile long totalMillis;
+
+    /**
+     * Summary :
+     * One asset to preload, the name is used in the timing report
+     */
+    public static class Asset {
+        private final String name;
+        private final Runnable loader;
+
+        public Asset(String name, Runnable loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private AssetPreloader() {
+        this(createGameAssets(), Platform::runLater);
+    }
+
+    // Used by the tests to provide their own assets and run the progress updates directly
+    AssetPreloader(List<Asset> assets, Consumer<Runnable> uiThread) {
+        this.assets = assets;
+        this.uiThread = uiThread;
+    }
+
+    public static synchronized AssetPreloader getInstance() {
+        if (instance == null) {
+            instance = new AssetPreloader();
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Starts the preloading, calling it again returns the loading that is already running
+     */
+    public synchronized CompletableFuture<Void> start() {
+        if (loading != null) {
+            return loading;
+        }
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount(), backgroundThreads());
+        AtomicInteger loaded = new AtomicInteger();
+
+        CompletableFuture<?>[] tasks = assets.stream()
+                .map(asset -> CompletableFuture.runAsync(() -> {
+                    load(asset);
+                    double done = loaded.incrementAndGet() / (double) assets.size();
+                    uiThread.accept(() -> progress.set(done));
+                }, executor))
+                .toArray(CompletableFuture[]::new);
+
+        loading = CompletableFuture.allOf(tasks).whenComplete((result, error) -> {
+            executor.shutdown();
+            uiThread.accept(() -> progress.set(1));
+            totalMillis = (System.nanoTime() - start) / 1_000_000;
+        });
+        return loading;
+    }
+
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress;
+    }
+
+    public boolean isDone() {
+        return loading != null && loading.isDone();
+    }
+
+    /**
+     * Summary :
+     * The decode time of every preloaded asset in milliseconds
+     */
+    public Map<String, Long> getDecodeTimes() {
+        return decodeTimes;
+    }
+
+    private void load(Asset asset) {
+        long start = System.nanoTime();
+        try {
+            asset.loader.run();
+        } catch (RuntimeException e) {
+            // The asset is loaded lazily again when the game needs it
+            System.err.println("Could not preload " + asset.name + ": " + e.getMessage());
+        }
+        decodeTimes.put(asset.name, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void logReport() {
+        if (!isDone()) {
+            System.out.println("Preloading " + decodeTimes.size() + " of " + assets.size() + " assets done");
+            return;
+        }
+        System.out.println("Preloaded " + decodeTimes.size() + " assets in " + totalMillis + " ms");
+        decodeTimes.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> System.out.println("  " + entry.getKey() + ": " + entry.getValue() + " ms"));
+    }
+
+    private static int threadCount() {
+        return Math.max(2, Runtime.getRuntime().availableProcessors() - 1);
+    }
+
+    private static ThreadFactory backgroundThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "asset-preloader-" + count.incrementAndGet());
+            // Never keep the game alive when it is closed during the loading
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Summary :
+     * Everything the GameEntityFactory, the components, the AudioManager and the LanguageManager
+     * load during the game, with the sizes they are drawn with
+     */
+    private static List<Asset> createGameAssets() {
+        TextureAtlas atlas = TextureAtlas.getInstance();
+        ImageCache imageCache = ImageCache.getInstance();
+        List<Asset> assets = new ArrayList<>();
+
+        for (int ship = 1; ship <= 8; ship++) {
+            String shipImagePath = ImageCache.shipImagePath(ship);
+            assets.add(new Asset(shipImagePath, () -> atlas.preload(shipImagePath)));
+            for (int weapon = 1; weapon <= 3; weapon++) {
+                String projectileImagePath = ImageCache.projectileImagePath(ship, weapon);
+                assets.add(new Asset(projectileImagePath, () -> atlas.preload(projectileImagePath)));
+            }
+        }
+        addTexture(assets, atlas, GameConstants.BASE_PROJECTILE_IMAGE_PATH);
+        addTexture(assets, atlas, GameConstants.ENEMY_PROJECTILE_IMAGE_PATH, 30, 17);
+        addTexture(assets, atlas, GameConstants.GREEN_DINO_IMAGE_PATH, 80, 60);
+        addTexture(assets, atlas, GameConstants.GREEN_DINO_IMAGE_PATH, 25, 20);
+        addTexture(assets, atlas, GameConstants.ORANGE_DINO_IMAGE_PATH, 100, 150);
+        for (CoinDenomination denomination : CoinDenomination.values()) {
+            addTexture(assets, atlas, GameConstants.COIN_IMAGE_PATH, denomination.getSize(), denomination.getSize());
+        }
+        addTexture(assets, atlas, GameConstants.COIN_IMAGE_PATH, 25, 20);
+        addTexture(assets, atlas, GameConstants.HEART_IMAGE_PATH);
+        addTexture(assets, atlas, GameConstants.HEART_LOST_IMAGE_PATH);
+        addTexture(assets, atlas, GameConstants.BOMB_IMAGE_PATH);
+        addPixelMask(assets, GameConstants.GREEN_DINO_IMAGE_PATH, 80, 60);
+        addPixelMask(assets, GameConstants.ORANGE_DINO_IMAGE_PATH, 100, 150);
+        assets.add(new Asset(GameConstants.EXPLOSION_IMAGE_PATH,
+                () -> imageCache.getImage(GameConstants.EXPLOSION_IMAGE_PATH)));
+        assets.add(new Asset(GameConstants.BACKGROUND_IMAGE_PATH,
+                () -> imageCache.getImage(GameConstants.BACKGROUND_IMAGE_PATH)));
+
+        AudioManager audioManager = AudioManager.getInstance();
+        for (String sound : List.of(GameConstants.ENEMY_SHOOT_SOUND, GameConstants.SHOOT_SOUND,
+                GameConstants.BACKGROUND_SOUND, GameConstants.ENEMY_EXPLODE_SOUND, GameConstants.PLAYER_HIT_SOUND,
+                GameConstants.COIN_GAIN, GameConstants.HEART_HIT_SOUND)) {
+            assets.add(new Asset(sound, () -> audioManager.getMedia(sound)));
+        }
+
+        LanguageManager languageManager = LanguageManager.getInstance();
+        for (String language : languageManager.getAvailableLanguages()) {
+            assets.add(new Asset(language, () -> languageManager.loadTranslations(language)));
+        }
+        return assets;
+    }
+
+    private static void addTexture(List<Asset> assets, TextureAtlas atlas, String assetPath) {
+        assets.add(new Asset(assetPath, () -> atlas.preload(assetPath)));
+    }
+
+    private static void addTexture(List<Asset> assets, TextureAtlas atlas, String assetPath, double width, double height) {
+        assets.add(new Asset(assetPath + " " + (int) width + "x" + (int) height,
+                () -> atlas.preload(assetPath, width, height)));
+    }
+
+    private static void addPixelMask(List<Asset> assets, String assetPath, double width, double height) {
+        assets.add(new Asset(assetPath + " mask", () -> PixelMaskCache.getInstance().getMask(assetPath, width, height)));
+    }
+}
@@ -4,17 +4,22 @@ import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AudioManager {
+    private static final String SOUND_PATH = "/assets/sounds/";
     private static AudioManager instance;
     private boolean isMuted = false;
     private double volume = 1.0;
     private final List<MediaPlayer> activePlayers = new ArrayList<>();
     private MediaPlayer backgroundPlayer;
+    // Media is parsed only once per sound file, the players are still created per play
+    private final Map<String, Media> mediaCache = new ConcurrentHashMap<>();
 
     private AudioManager() {}
 
-    public static AudioManager getInstance() {
+    public static synchronized AudioManager getInstance() {
         if (instance == null) {
             instance = new AudioManager();
         }
@@ -47,16 +52,33 @@ public class AudioManager {
         return volume;
     }
 
+    /**
+     * Summary :
+     * Returns the parsed Media of the sound file, it is only created the first time.
+     * Can be called from any thread, the AssetPreloader uses it to warm the sounds.
+     * Returns null when the sound does not exist
+     */
+    public Media getMedia(String soundFile) {
+        Media media = mediaCache.get(soundFile);
+        if (media != null) {
+            return media;
+        }
+        var url = getClass().getResource(SOUND_PATH + soundFile);
+        if (url == null) {
+            return null;
+        }
+        return mediaCache.computeIfAbsent(soundFile, file -> new Media(url.toExternalForm()));
+    }
+
     public void playSound(String soundFile) {
         if (isMuted) return;
         try {
-            String resourcePath = "/assets/sounds/" + soundFile;
-            var url = getClass().getResource(resourcePath);
-            if (url == null) {
-                System.err.println("Sound resource not found: " + resourcePath);
+            Media media = getMedia(soundFile);
+            if (media == null) {
+                System.err.println("Sound resource not found: " + SOUND_PATH + soundFile);
                 return;
             }
-            MediaPlayer player = new MediaPlayer(new Media(url.toExternalForm()));
+            MediaPlayer player = new MediaPlayer(media);
             player.setVolume(volume);
             player.setMute(isMuted);
             player.play();
@@ -74,13 +96,12 @@ public class AudioManager {
     public void playMusic(String soundFile) {
         stopMusic();
         try {
-            String resourcePath = "/assets/sounds/" + soundFile;
-            var url = getClass().getResource(resourcePath);
-            if (url == null) {
-                System.err.println("Music resource not found: " + resourcePath);
+            Media media = getMedia(soundFile);
+            if (media == null) {
+                System.err.println("Music resource not found: " + SOUND_PATH + soundFile);
                 return;
             }
-            backgroundPlayer = new MediaPlayer(new Media(url.toExternalForm()));
+            backgroundPlayer = new MediaPlayer(media);
             backgroundPlayer.setMute(isMuted);
             backgroundPlayer.setVolume(volume);
             backgroundPlayer.setCycleCount(MediaPlayer.INDEFINITE);
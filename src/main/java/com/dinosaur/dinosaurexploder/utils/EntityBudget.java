@@ -0,0 +1,101 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Summary :
+ * This class puts a ceiling on the number of entities alive at the same time, per EntityType and
+ * in total, so the work done every frame stays bounded on slow hosts.
+ * It reads the live counts of the EntityRegistry. The spawners ask canSpawn before spawning: a
+ * refused spawn is deferred by the timer based spawners (the next tick tries again) and skipped by
+ * the dino shots. Refused spawns are counted per type.
+ */
+public class EntityBudget {
+    private static EntityBudget instance;
+
+    private final EntityRegistry registry;
+    private final Map<EntityType, Integer> caps = new EnumMap<>(EntityType.class);
+    private final Map<EntityType, Long> deferred = new EnumMap<>(EntityType.class);
+    private int globalCap;
+
+    private EntityBudget() {
+        this(EntityRegistry.getInstance(), GameConstants.MAX_ENTITIES);
+        setCap(EntityType.GREEN_DINO, GameConstants.MAX_GREEN_DINOS);
+        setCap(EntityType.ENEMY_PROJECTILE, GameConstants.MAX_ENEMY_PROJECTILES);
+        setCap(EntityType.COIN, GameConstants.MAX_COINS);
+    }
+
+    // Used by the tests to start without caps per type
+    EntityBudget(EntityRegistry registry, int globalCap) {
+        this.registry = registry;
+        this.globalCap = globalCap;
+    }
+
+    public static synchronized EntityBudget getInstance() {
+        if (instance == null) {
+            instance = new EntityBudget();
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Returns true when one more entity of the type fits in the budget, otherwise counts a deferred spawn
+     */
+    public boolean canSpawn(EntityType type) {
+        Integer cap = caps.get(type);
+        if (getTotal() < globalCap && (cap == null || getCount(type) < cap)) {
+            return true;
+        }
+        deferred.merge(type, 1L, Long::sum);
+        return false;
+    }
+
+    /**
+     * Summary :
+     * Raises the caps of the green dinos and of the total to the swarm sizes, for the swarm mode
+     */
+    public void useSwarmCaps() {
+        setCap(EntityType.GREEN_DINO, GameConstants.SWARM_MAX_GREEN_DINOS);
+        setGlobalCap(GameConstants.SWARM_MAX_ENTITIES);
+    }
+
+    public void setCap(EntityType type, int cap) {
+        caps.put(type, cap);
+    }
+
+    public void setGlobalCap(int globalCap) {
+        this.globalCap = globalCap;
+    }
+
+    public int getCount(EntityType type) {
+        return registry.getCount(type);
+    }
+
+    public int getTotal() {
+        return registry.getTotal();
+    }
+
+    public long getDeferred(EntityType type) {
+        return deferred.getOrDefault(type, 0L);
+    }
+
+    public void resetCounters() {
+        deferred.clear();
+    }
+
+    public void logCounters() {
+        StringBuilder alive = new StringBuilder();
+        for (EntityType type : EntityType.values()) {
+            if (getCount(type) > 0) {
+                alive.append(' ').append(type).append('=').append(getCount(type));
+            }
+        }
+        System.out.println("Entity budget: " + getTotal() + "/" + globalCap + " alive" + alive
+                + ", deferred spawns " + deferred);
+    }
+}
@@ -0,0 +1,183 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.almasb.fxgl.core.collection.PropertyMap;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.EntityWorldListener;
+import com.almasb.fxgl.entity.GameWorld;
+import com.dinosaur.dinosaurexploder.components.PlayerComponent;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary :
+ * This class keeps the live entities of the game world per EntityType, and direct handles to the
+ * objects there is only one of in a game (the player and the LevelManager).
+ * It is filled by a world listener when entities are added and removed, so the spawners, collisions
+ * and level transitions look entities up without querying the whole world: a lookup is a map access
+ * and returns a read-only view of the live list, nothing is allocated.
+ */
+public class EntityRegistry implements EntityWorldListener {
+    // Position of the entity in the list of its type, kept on the entity for removals in constant time
+    static final String SLOT_PROPERTY = "registrySlot";
+    private static final int NO_SLOT = -1;
+
+    private static EntityRegistry instance;
+
+    private final Map<EntityType, List<Entity>> live = new EnumMap<>(EntityType.class);
+    private final Map<EntityType, List<Entity>> liveViews = new EnumMap<>(EntityType.class);
+    private int total;
+    private GameWorld world;
+    private Entity player;
+    private PlayerComponent playerComponent;
+    private LevelManager levelManager;
+
+    // Package-private so the tests can use their own registry
+    EntityRegistry() {
+        for (EntityType type : EntityType.values()) {
+            List<Entity> entities = new ArrayList<>();
+            live.put(type, entities);
+            liveViews.put(type, Collections.unmodifiableList(entities));
+        }
+    }
+
+    public static synchronized EntityRegistry getInstance() {
+        if (instance == null) {
+            instance = new EntityRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Starts following the entities of a new game world, the entities of the previous one are dropped
+     */
+    public void attach(GameWorld gameWorld) {
+        detach();
+        world = gameWorld;
+        for (Entity entity : gameWorld.getEntities()) {
+            onEntityAdded(entity);
+        }
+        gameWorld.addWorldListener(this);
+    }
+
+    /**
+     * Summary :
+     * Stops following the game world and drops its entities, the LevelManager is kept
+     */
+    public void detach() {
+        if (world != null) {
+            world.removeWorldListener(this);
+            world = null;
+        }
+        for (List<Entity> entities : live.values()) {
+            for (Entity entity : entities) {
+                setSlot(entity, NO_SLOT);
+            }
+            entities.clear();
+        }
+        total = 0;
+        player = null;
+        playerComponent = null;
+    }
+
+    /**
+     * Summary :
+     * Returns the live entities of a type, the list is read-only and follows the world
+     */
+    public List<Entity> getEntities(EntityType type) {
+        return liveViews.get(type);
+    }
+
+    public int getCount(EntityType type) {
+        return live.get(type).size();
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public Entity getPlayer() {
+        return player;
+    }
+
+    public PlayerComponent getPlayerComponent() {
+        return playerComponent;
+    }
+
+    public LevelManager getLevelManager() {
+        return levelManager;
+    }
+
+    public void setLevelManager(LevelManager levelManager) {
+        this.levelManager = levelManager;
+    }
+
+    @Override
+    public void onEntityAdded(Entity entity) {
+        if (!(entity.getType() instanceof EntityType) || isFollowed(entity)) {
+            return;
+        }
+        EntityType type = (EntityType) entity.getType();
+        List<Entity> entities = live.get(type);
+        setSlot(entity, entities.size());
+        entities.add(entity);
+        total++;
+        if (type == EntityType.PLAYER) {
+            player = entity;
+            playerComponent = entity.hasComponent(PlayerComponent.class)
+                    ? entity.getComponent(PlayerComponent.class)
+                    : null;
+        }
+    }
+
+    @Override
+    public void onEntityRemoved(Entity entity) {
+        if (!isFollowed(entity)) {
+            return;
+        }
+        int slot = slotOf(entity);
+        setSlot(entity, NO_SLOT);
+        total--;
+        // Moves the last entity of the list in the free slot
+        List<Entity> entities = live.get((EntityType) entity.getType());
+        Entity last = entities.remove(entities.size() - 1);
+        if (last != entity) {
+            entities.set(slot, last);
+            setSlot(last, slot);
+        }
+        if (entity == player) {
+            player = null;
+            playerComponent = null;
+        }
+    }
+
+    // The slot is also checked against the list, an entity can carry the slot of another registry
+    private boolean isFollowed(Entity entity) {
+        if (!(entity.getType() instanceof EntityType)) {
+            return false;
+        }
+        int slot = slotOf(entity);
+        List<Entity> entities = live.get((EntityType) entity.getType());
+        return slot >= 0 && slot < entities.size() && entities.get(slot) == entity;
+    }
+
+    private static int slotOf(Entity entity) {
+        PropertyMap properties = entity.getProperties();
+        return properties.exists(SLOT_PROPERTY) ? properties.intProperty(SLOT_PROPERTY).get() : NO_SLOT;
+    }
+
+    private static void setSlot(Entity entity, int slot) {
+        PropertyMap properties = entity.getProperties();
+        if (properties.exists(SLOT_PROPERTY)) {
+            properties.intProperty(SLOT_PROPERTY).set(slot);
+        } else {
+            // Only boxed the first time, then the int property is updated in place
+            properties.setValue(SLOT_PROPERTY, slot);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.almasb.fxgl.physics.BoundingShape;
+import com.almasb.fxgl.physics.HitBox;
+import com.dinosaur.dinosaurexploder.tools.HitboxGenerator;
+import javafx.geometry.Point2D;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Summary :
+ * This class hands out the tight hitboxes of the sprites, generated at build time by the
+ * HitboxGenerator from the alpha channel of the textures.
+ * When the game was built without the "assets" profile the boxes are computed once at runtime
+ * from the decoded sprite with the same AlphaBounds algorithm.
+ */
+public class HitboxTable {
+    private static final String INDEX_PATH = HitboxGenerator.INDEX_FILE;
+    private static final String HITBOX_NAME = "HITBOX_";
+
+    private static HitboxTable instance;
+
+    // Boxes in drawn pixels by HitboxGenerator.key(path, width, height)
+    private final Map<String, List<int[]>> boxes;
+
+    private HitboxTable() {
+        this(loadIndex());
+    }
+
+    // Used by the tests to provide their own table
+    HitboxTable(Map<String, List<int[]>> boxes) {
+        this.boxes = new ConcurrentHashMap<>(boxes);
+    }
+
+    public static synchronized HitboxTable getInstance() {
+        if (instance == null) {
+            instance = new HitboxTable();
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Returns the hitboxes of the sprite drawn with the given size, a new HitBox per call because
+     * FXGL binds every HitBox to its entity
+     * Parameters :
+     * String assetPath - the texture of the sprite
+     * double width, double height - the size the sprite is drawn with
+     */
+    public List<HitBox> getHitBoxes(String assetPath, double width, double height) {
+        List<int[]> spriteBoxes = boxes.computeIfAbsent(HitboxGenerator.key(assetPath, width, height),
+                key -> computeBoxes(assetPath, width, height));
+        List<HitBox> hitBoxes = new ArrayList<>(spriteBoxes.size());
+        for (int i = 0; i < spriteBoxes.size(); i++) {
+            int[] box = spriteBoxes.get(i);
+            hitBoxes.add(new HitBox(HITBOX_NAME + i, new Point2D(box[0], box[1]), BoundingShape.box(box[2], box[3])));
+        }
+        return hitBoxes;
+    }
+
+    public boolean contains(String assetPath, double width, double height) {
+        return boxes.containsKey(HitboxGenerator.key(assetPath, width, height));
+    }
+
+    static Map<String, List<int[]>> parseIndex(Properties index) {
+        Map<String, List<int[]>> boxes = new ConcurrentHashMap<>();
+        for (String key : index.stringPropertyNames()) {
+            List<int[]> spriteBoxes = new ArrayList<>();
+            for (String box : index.getProperty(key).split(";")) {
+                String[] values = box.split(",");
+                spriteBoxes.add(new int[]{
+                        Integer.parseInt(values[0].trim()),
+                        Integer.parseInt(values[1].trim()),
+                        Integer.parseInt(values[2].trim()),
+                        Integer.parseInt(values[3].trim())});
+            }
+            boxes.put(key, spriteBoxes);
+        }
+        return boxes;
+    }
+
+    /**
+     * Summary :
+     * Runtime fallback: reads the pixels of the sprite at the drawn size (from its atlas region or its
+     * sized image) and computes the boxes. Falls back to a box of the drawn size on any error.
+     */
+    private static List<int[]> computeBoxes(String assetPath, double width, double height) {
+        try {
+            int[] argb = TextureAtlas.getInstance().readPixels(assetPath, width, height);
+            List<int[]> spriteBoxes = AlphaBounds.hitBoxes(argb, (int) width, (int) height);
+            if (!spriteBoxes.isEmpty()) {
+                return spriteBoxes;
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Could not compute hitboxes of " + assetPath + ": " + e.getMessage());
+        }
+        List<int[]> whole = new ArrayList<>();
+        whole.add(new int[]{0, 0, (int) width, (int) height});
+        return whole;
+    }
+
+    private static Map<String, List<int[]>> loadIndex() {
+        try (InputStream inputStream = AssetPack.getInstance().open(INDEX_PATH)) {
+            if (inputStream == null) {
+                // Built without the "assets" profile, the hitboxes are computed at runtime
+                return new ConcurrentHashMap<>();
+            }
+            Properties index = new Properties();
+            index.load(inputStream);
+            return parseIndex(index);
+        } catch (IOException e) {
+            System.err.println("Error loading hitbox table: " + e.getMessage());
+            return new ConcurrentHashMap<>();
+        }
+    }
+}
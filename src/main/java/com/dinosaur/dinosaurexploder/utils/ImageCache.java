@@ -0,0 +1,153 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Summary :
+ * This class decodes every game image only once and hands out the same shared Image afterwards.
+ * Images are keyed by their asset path (e.g. "assets/textures/spaceship1.png"), the ship and weapon
+ * helpers build that path from the selected ship and weapon.
+ * The hit and miss counters show whether any decoding still happens during gameplay.
+ */
+public class ImageCache {
+    private static final String SIZE_SEPARATOR = "@";
+    private static ImageCache instance;
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final Map<String, Image> images = new ConcurrentHashMap<>();
+    private final Function<String, Image> loader;
+    private final ImageRegistry registry;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private ImageCache() {
+        this(ImageCache::decode, ImageRegistry.getInstance());
+    }
+
+    // Used by the tests to replace the decoding of the resources
+    ImageCache(Function<String, Image> loader) {
+        this(loader, new ImageRegistry(GameConstants.IMAGE_MEMORY_BUDGET_MB));
+    }
+
+    ImageCache(Function<String, Image> loader, ImageRegistry registry) {
+        this.loader = loader;
+        this.registry = registry;
+    }
+
+    public static synchronized ImageCache getInstance() {
+        if (instance == null) {
+            instance = new ImageCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Returns the decoded image of the given asset path, the image is only decoded the first time
+     * Parameters :
+     * String assetPath - path of the image inside the resources, with or without leading "/"
+     */
+    public Image getImage(String assetPath) {
+        String key = normalize(assetPath);
+        Image image = images.get(key);
+        if (image != null) {
+            hits.incrementAndGet();
+            return image;
+        }
+        // Looked up before decoding, so the registry knows which class needed the image
+        Class<?> origin = callerClass();
+        return images.computeIfAbsent(key, path -> {
+            misses.incrementAndGet();
+            return registry.register(loader.apply(path), origin, path);
+        });
+    }
+
+    /**
+     * Summary :
+     * Returns the image decoded directly at the requested size, used for big source images
+     * that are only drawn small (e.g. the 3000x3000 coin)
+     */
+    public Image getImage(String assetPath, double width, double height) {
+        return getImage(normalize(assetPath) + SIZE_SEPARATOR + (int) width + "x" + (int) height);
+    }
+
+    public Image getShipImage(int selectedShip) {
+        return getImage(shipImagePath(selectedShip));
+    }
+
+    public Image getProjectileImage(int selectedShip, int selectedWeapon) {
+        return getImage(projectileImagePath(selectedShip, selectedWeapon));
+    }
+
+    public static String shipImagePath(int selectedShip) {
+        return "assets/textures/spaceship" + selectedShip + ".png";
+    }
+
+    public static String projectileImagePath(int selectedShip, int selectedWeapon) {
+        return "assets/textures/projectiles/projectile" + selectedShip + "_" + selectedWeapon + ".png";
+    }
+
+    public boolean isCached(String assetPath) {
+        return images.containsKey(normalize(assetPath));
+    }
+
+    public int size() {
+        return images.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public void resetCounters() {
+        hits.set(0);
+        misses.set(0);
+    }
+
+    public void clear() {
+        images.clear();
+        resetCounters();
+    }
+
+    private static Class<?> callerClass() {
+        return STACK_WALKER.walk(frames -> frames
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .filter(type -> type != ImageCache.class && type != TextureAtlas.class)
+                .findFirst()
+                .orElse(ImageCache.class));
+    }
+
+    private static String normalize(String assetPath) {
+        return assetPath.startsWith("/") ? assetPath.substring(1) : assetPath;
+    }
+
+    private static Image decode(String key) {
+        int separator = key.indexOf(SIZE_SEPARATOR);
+        String assetPath = separator < 0 ? key : key.substring(0, separator);
+        try (InputStream stream = AssetPack.getInstance().open(assetPath)) {
+            Objects.requireNonNull(stream, "Image resource not found: " + assetPath);
+            if (separator < 0) {
+                return new Image(stream);
+            }
+            String[] size = key.substring(separator + 1).split("x");
+            return new Image(stream, Double.parseDouble(size[0]), Double.parseDouble(size[1]), false, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read image " + assetPath, e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import javafx.scene.image.Image;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Summary :
+ * This class keeps track of every decoded image with the class that loaded it, its asset path and
+ * the bytes its pixels take (width * height * 4, JavaFX keeps decoded images as 32 bit pixels).
+ * The images are held weakly, so the report only shows the images that are still alive.
+ * A warning is printed when the total goes over the budget, which is GameConstants.IMAGE_MEMORY_BUDGET_MB
+ * or the value of the "dinosaur.imageBudgetMb" system property.
+ */
+public class ImageRegistry {
+    public static final String BUDGET_PROPERTY = "dinosaur.imageBudgetMb";
+    private static final int BYTES_PER_PIXEL = 4;
+    private static final double BYTES_PER_MB = 1024 * 1024;
+
+    private static ImageRegistry instance;
+
+    private final Map<Image, Entry> images = new WeakHashMap<>();
+    private final long budgetBytes;
+    private boolean overBudget;
+
+    /**
+     * Summary :
+     * One decoded image of the registry
+     */
+    public static class Entry {
+        private final String origin;
+        private final String assetPath;
+        private final int width;
+        private final int height;
+
+        Entry(String origin, String assetPath, int width, int height) {
+            this.origin = origin;
+            this.assetPath = assetPath;
+            this.width = width;
+            this.height = height;
+        }
+
+        public String getOrigin() {
+            return origin;
+        }
+
+        public String getAssetPath() {
+            return assetPath;
+        }
+
+        public long getBytes() {
+            return (long) width * height * BYTES_PER_PIXEL;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%8.2f MB  %5dx%-5d %s  %s", getBytes() / BYTES_PER_MB, width, height, origin, assetPath);
+        }
+    }
+
+    private ImageRegistry() {
+        this(readBudgetMb());
+    }
+
+    // Used by the tests to set their own budget
+    ImageRegistry(double budgetMb) {
+        this.budgetBytes = (long) (budgetMb * BYTES_PER_MB);
+    }
+
+    public static synchronized ImageRegistry getInstance() {
+        if (instance == null) {
+            instance = new ImageRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Registers a decoded image and returns it
+     * Parameters :
+     * Image image - the decoded image
+     * Class<?> origin - the class that decoded the image
+     * String assetPath - the asset the image was decoded from
+     */
+    public Image register(Image image, Class<?> origin, String assetPath) {
+        Entry entry = new Entry(origin.getSimpleName(), assetPath, (int) image.getWidth(), (int) image.getHeight());
+        boolean exceeded;
+        synchronized (this) {
+            images.put(image, entry);
+            long total = getTotalBytes();
+            exceeded = !overBudget && total > budgetBytes;
+            overBudget = total > budgetBytes;
+        }
+        if (exceeded) {
+            System.err.println("Image memory budget exceeded after decoding " + assetPath + " in " + entry.getOrigin());
+            System.err.println(getReport());
+        }
+        return image;
+    }
+
+    public synchronized long getTotalBytes() {
+        return images.values().stream().mapToLong(Entry::getBytes).sum();
+    }
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    public synchronized boolean isOverBudget() {
+        return getTotalBytes() > budgetBytes;
+    }
+
+    public synchronized int size() {
+        return images.size();
+    }
+
+    /**
+     * Summary :
+     * The alive images, biggest first
+     */
+    public synchronized List<Entry> getEntries() {
+        List<Entry> entries = new ArrayList<>(images.values());
+        entries.sort(Comparator.comparingLong(Entry::getBytes).reversed());
+        return entries;
+    }
+
+    public String getReport() {
+        List<Entry> entries = getEntries();
+        StringBuilder report = new StringBuilder(String.format("Decoded images: %d, %.2f MB of %.2f MB budget",
+                entries.size(), getTotalBytes() / BYTES_PER_MB, budgetBytes / BYTES_PER_MB));
+        for (Entry entry : entries) {
+            report.append(System.lineSeparator()).append(entry);
+        }
+        return report.toString();
+    }
+
+    /**
+     * Summary :
+     * Prints the report, used by the debug key and on scene transitions
+     * Parameters :
+     * String reason - why the report is printed (e.g. "Entered main menu")
+     */
+    public void logReport(String reason) {
+        System.out.println("[" + reason + "] " + getReport());
+    }
+
+    private static double readBudgetMb() {
+        String budget = System.getProperty(BUDGET_PROPERTY);
+        if (budget == null) {
+            return GameConstants.IMAGE_MEMORY_BUDGET_MB;
+        }
+        try {
+            return Double.parseDouble(budget);
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid " + BUDGET_PROPERTY + ": " + budget + ", using " + GameConstants.IMAGE_MEMORY_BUDGET_MB);
+            return GameConstants.IMAGE_MEMORY_BUDGET_MB;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -15,6 +16,8 @@ public class LanguageManager {
     private final StringProperty selectedLanguage = new SimpleStringProperty("English");
     private final String TRANSLATION_PATH = "/assets/translation/";
     private Map<String, String> translations = new HashMap<>();
+    // Parsed translation files by language, so switching language does not parse the json again
+    private final Map<String, Map<String, String>> translationCache = new ConcurrentHashMap<>();
 
     private static LanguageManager instance;
 
@@ -44,8 +47,10 @@ public class LanguageManager {
     public List<String> getAvailableLanguages() {
         List<String> languages;
 
-        // Try loading languages from resources or JAR file based on environment
-        if (isRunningInsideJar()) {
+        // Try loading languages from the asset pack, resources or JAR file based on environment
+        if (AssetPack.getInstance().isAvailable()) {
+            languages = loadLanguagesFromPack();
+        } else if (isRunningInsideJar()) {
             languages = loadLanguagesFromJar();
         } else {
             languages = loadLanguagesFromResources();
@@ -79,6 +84,17 @@ public class LanguageManager {
         return languages;
     }
 
+    // Load language files from the asset pack, which saves scanning the JAR
+    private List<String> loadLanguagesFromPack() {
+        List<String> languages = new ArrayList<>();
+        for (String path : AssetPack.getInstance().list("assets/translation/")) {
+            if (path.endsWith(".json")) {
+                languages.add(extractLanguageName(path));
+            }
+        }
+        return languages;
+    }
+
     // Extract language name from file path (e.g. "assets/translation/english.json" => "English")
     private String extractLanguageName(String path) {
         String lang = path.substring("assets/translation/".length(), path.length() - 5); // Remove "assets/translation/" and ".json"
@@ -103,10 +119,22 @@ public class LanguageManager {
         return languages;
     }
 
-    // Load the translations for the selected language
+    // Load the translations for the selected language, parsed only the first time
     public Map<String, String> loadTranslations(String language) {
+        Map<String, String> cached = translationCache.get(language.toLowerCase());
+        if (cached != null) {
+            return cached;
+        }
+        Map<String, String> loaded = readTranslations(language);
+        if (!loaded.isEmpty()) {
+            translationCache.put(language.toLowerCase(), loaded);
+        }
+        return loaded;
+    }
+
+    private Map<String, String> readTranslations(String language) {
         String filePath = TRANSLATION_PATH + language.toLowerCase() + ".json";
-        try (InputStream inputStream = getClass().getResourceAsStream(filePath)) {
+        try (InputStream inputStream = AssetPack.getInstance().open(filePath)) {
             if (inputStream == null) {
                 throw new RuntimeException("Translation file not found: " + filePath);
             }
@@ -0,0 +1,153 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+/**
+ * Summary :
+ * Packed bitmask of the solid pixels of a sprite, one bit per pixel and 64 pixels per long.
+ * A pixel is solid when its alpha is above AlphaBounds.ALPHA_THRESHOLD, like for the hitboxes.
+ * Every row starts on a new long so a row can be read 64 pixels at a time, which lets two masks
+ * be tested against each other by ANDing longs instead of comparing pixels one by one.
+ * The masks of the sprite turned by a quarter, a half and three quarters of a turn are built with it,
+ * so the sprites rotated by a multiple of 90 degrees (every straight shot) are tested the same way.
+ */
+public final class PixelMask {
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+    // The mask turned by 0 to 3 quarters of a turn, shared by the four masks, and where this one is
+    private final PixelMask[] turns;
+    private final int turn;
+
+    private PixelMask(int width, int height, PixelMask[] turns, int turn) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + Long.SIZE - 1) / Long.SIZE;
+        this.bits = new long[wordsPerRow * height];
+        this.turns = turns;
+        this.turn = turn;
+        turns[turn] = this;
+    }
+
+    /**
+     * Summary :
+     * Builds the mask of a sprite
+     * Parameters :
+     * int[] argb - the pixels, row by row
+     * int width, int height - size of the sprite
+     */
+    public static PixelMask fromArgb(int[] argb, int width, int height) {
+        PixelMask[] turns = new PixelMask[4];
+        PixelMask mask = new PixelMask(width, height, turns, 0);
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            int wordRow = y * mask.wordsPerRow;
+            for (int x = 0; x < width; x++) {
+                if ((argb[row + x] >>> 24) > AlphaBounds.ALPHA_THRESHOLD) {
+                    mask.bits[wordRow + (x >>> 6)] |= 1L << (x & 63);
+                }
+            }
+        }
+        for (int turn = 1; turn < 4; turn++) {
+            mask.buildTurn(turns, turn);
+        }
+        return mask;
+    }
+
+    /**
+     * Summary :
+     * Builds this mask turned clockwise (as seen on screen, where y goes down) by the given number of
+     * quarters of a turn: its pixel (u, v) is the pixel of this mask drawn there once turned
+     */
+    private void buildTurn(PixelMask[] turns, int quarterTurns) {
+        boolean sideways = (quarterTurns & 1) == 1;
+        PixelMask turned = new PixelMask(sideways ? height : width, sideways ? width : height, turns, quarterTurns);
+        for (int v = 0; v < turned.height; v++) {
+            for (int u = 0; u < turned.width; u++) {
+                boolean solid;
+                if (quarterTurns == 1) {
+                    solid = isSolid(v, height - 1 - u);
+                } else if (quarterTurns == 2) {
+                    solid = isSolid(width - 1 - u, height - 1 - v);
+                } else {
+                    solid = isSolid(width - 1 - v, u);
+                }
+                if (solid) {
+                    turned.bits[v * turned.wordsPerRow + (u >>> 6)] |= 1L << (u & 63);
+                }
+            }
+        }
+    }
+
+    /**
+     * Summary :
+     * Returns the mask turned clockwise by the given number of quarters of a turn (any int, -1 is
+     * three quarters). An odd number of quarters swaps the width and the height.
+     */
+    public PixelMask turned(int quarterTurns) {
+        return turns[(turn + quarterTurns) & 3];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public boolean isSolid(int x, int y) {
+        return (bits[y * wordsPerRow + (x >>> 6)] & (1L << (x & 63))) != 0;
+    }
+
+    /**
+     * Summary :
+     * Returns up to 64 pixels of a row starting at x: bit i is the pixel (x + i, y).
+     * Pixels past the end of the row are empty.
+     */
+    long row(int x, int y, int count) {
+        int word = x >>> 6;
+        int shift = x & 63;
+        int rowStart = y * wordsPerRow;
+        long value = bits[rowStart + word] >>> shift;
+        if (shift != 0 && word + 1 < wordsPerRow) {
+            value |= bits[rowStart + word + 1] << (Long.SIZE - shift);
+        }
+        return count < Long.SIZE ? value & ((1L << count) - 1) : value;
+    }
+
+    /**
+     * Summary :
+     * Returns true when the two sprites have a solid pixel at the same place.
+     * Only the rows and columns where the two sprites overlap are read. A null mask stands for a
+     * fully solid rectangle of the given size (e.g. a sprite that has no mask or is rotated).
+     * Parameters :
+     * PixelMask a, int ax, int ay, int aw, int ah - first mask (or null), its position and size
+     * PixelMask b, int bx, int by, int bw, int bh - second mask (or null), its position and size
+     */
+    public static boolean overlaps(PixelMask a, int ax, int ay, int aw, int ah,
+                                   PixelMask b, int bx, int by, int bw, int bh) {
+        int minX = Math.max(ax, bx);
+        int minY = Math.max(ay, by);
+        int maxX = Math.min(ax + aw, bx + bw);
+        int maxY = Math.min(ay + ah, by + bh);
+        if (minX >= maxX || minY >= maxY) {
+            return false;
+        }
+        for (int y = minY; y < maxY; y++) {
+            for (int x = minX; x < maxX; x += Long.SIZE) {
+                int count = Math.min(Long.SIZE, maxX - x);
+                if ((rowOf(a, x - ax, y - ay, count) & rowOf(b, x - bx, y - by, count)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long rowOf(PixelMask mask, int x, int y, int count) {
+        if (mask == null) {
+            return count < Long.SIZE ? (1L << count) - 1 : -1L;
+        }
+        return mask.row(x, y, count);
+    }
+}
@@ -0,0 +1,52 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.tools.HitboxGenerator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Summary :
+ * This class builds the pixel mask of every sprite once, at the size it is drawn with, and keeps
+ * it for the rest of the game. The masks are read from the atlas page (or the sized image) like
+ * the runtime hitboxes of the HitboxTable.
+ */
+public class PixelMaskCache {
+    private static PixelMaskCache instance;
+
+    // Masks by HitboxGenerator.key(path, width, height)
+    private final Map<String, PixelMask> masks = new ConcurrentHashMap<>();
+
+    private PixelMaskCache() {
+    }
+
+    public static synchronized PixelMaskCache getInstance() {
+        if (instance == null) {
+            instance = new PixelMaskCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Returns the mask of the sprite drawn with the given size, or null when its pixels can't be read
+     */
+    public PixelMask getMask(String assetPath, double width, double height) {
+        String key = HitboxGenerator.key(assetPath, width, height);
+        PixelMask mask = masks.get(key);
+        if (mask == null) {
+            try {
+                int[] argb = TextureAtlas.getInstance().readPixels(assetPath, width, height);
+                mask = PixelMask.fromArgb(argb, (int) width, (int) height);
+                masks.putIfAbsent(key, mask);
+            } catch (RuntimeException e) {
+                System.err.println("Could not build the pixel mask of " + assetPath + ": " + e.getMessage());
+            }
+        }
+        return mask;
+    }
+
+    public int size() {
+        return masks.size();
+    }
+}
@@ -0,0 +1,222 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Summary :
+ * This class builds the sprite views from the atlas pages generated by the TextureAtlasPacker.
+ * Every view shares the page image and only shows its own region (viewport) of it.
+ * When the game was built without the "assets" profile there is no atlas, then the views
+ * fall back to the single images of the ImageCache.
+ */
+public class TextureAtlas {
+    private static final String INDEX_PATH = "/assets/atlas/atlas.index";
+    private static final String PAGE_PATH = "assets/atlas/atlas%d.png";
+
+    private static TextureAtlas instance;
+
+    private final ImageCache imageCache;
+    private final Map<String, Region> regions;
+
+    /**
+     * Summary :
+     * The place of one sprite inside an atlas page
+     */
+    public static class Region {
+        private final int page;
+        private final Rectangle2D viewport;
+
+        Region(int page, Rectangle2D viewport) {
+            this.page = page;
+            this.viewport = viewport;
+        }
+
+        public int getPage() {
+            return page;
+        }
+
+        public Rectangle2D getViewport() {
+            return viewport;
+        }
+    }
+
+    private TextureAtlas() {
+        this(ImageCache.getInstance(), loadIndex());
+    }
+
+    // Used by the tests to provide their own index
+    TextureAtlas(ImageCache imageCache, Map<String, Region> regions) {
+        this.imageCache = imageCache;
+        this.regions = regions;
+    }
+
+    public static synchronized TextureAtlas getInstance() {
+        if (instance == null) {
+            instance = new TextureAtlas();
+        }
+        return instance;
+    }
+
+    public boolean isAvailable() {
+        return !regions.isEmpty();
+    }
+
+    public boolean hasRegion(String assetPath) {
+        return regions.containsKey(normalize(assetPath));
+    }
+
+    public Map<String, Region> getRegions() {
+        return regions;
+    }
+
+    public Region getRegion(String assetPath) {
+        return regions.get(normalize(assetPath));
+    }
+
+    /**
+     * Summary :
+     * Creates a view of the sprite in its original size
+     */
+    public ImageView newView(String assetPath) {
+        ImageView view = new ImageView();
+        applyRegion(view, assetPath);
+        return view;
+    }
+
+    /**
+     * Summary :
+     * Creates a view of the sprite drawn with the given size
+     */
+    public ImageView newView(String assetPath, double width, double height) {
+        ImageView view = new ImageView();
+        Region region = regions.get(normalize(assetPath));
+        if (region == null) {
+            // Decode the single image directly at the drawn size
+            view.setImage(imageCache.getImage(assetPath, width, height));
+        } else {
+            showRegion(view, region);
+        }
+        view.setFitWidth(width);
+        view.setFitHeight(height);
+        return view;
+    }
+
+    /**
+     * Summary :
+     * Shows the sprite in an existing view, used to swap sprites (e.g. heart and lost heart)
+     */
+    public void applyRegion(ImageView view, String assetPath) {
+        Region region = regions.get(normalize(assetPath));
+        if (region == null) {
+            view.setImage(imageCache.getImage(assetPath));
+            view.setViewport(null);
+        } else {
+            showRegion(view, region);
+        }
+    }
+
+    private void showRegion(ImageView view, Region region) {
+        view.setImage(getPage(region.getPage()));
+        view.setViewport(region.getViewport());
+    }
+
+    /**
+     * Summary :
+     * Decodes the image a view of the sprite will show (its atlas page or its single image)
+     * without creating the view, used by the AssetPreloader from its background threads
+     */
+    public Image preload(String assetPath) {
+        Region region = regions.get(normalize(assetPath));
+        return region == null ? imageCache.getImage(assetPath) : getPage(region.getPage());
+    }
+
+    public Image preload(String assetPath, double width, double height) {
+        Region region = regions.get(normalize(assetPath));
+        return region == null ? imageCache.getImage(assetPath, width, height) : getPage(region.getPage());
+    }
+
+    /**
+     * Summary :
+     * Returns the ARGB pixels of the sprite at the given size, row by row. They are read from the atlas
+     * page when the region has that size, otherwise from the image decoded at that size.
+     */
+    public int[] readPixels(String assetPath, double width, double height) {
+        Region region = regions.get(normalize(assetPath));
+        Image image;
+        Rectangle2D area;
+        if (region != null && region.getViewport().getWidth() == (int) width && region.getViewport().getHeight() == (int) height) {
+            image = getPage(region.getPage());
+            area = region.getViewport();
+        } else {
+            image = imageCache.getImage(assetPath, width, height);
+            area = new Rectangle2D(0, 0, (int) width, (int) height);
+        }
+        int[] argb = new int[(int) area.getWidth() * (int) area.getHeight()];
+        image.getPixelReader().getPixels((int) area.getMinX(), (int) area.getMinY(),
+                (int) area.getWidth(), (int) area.getHeight(), PixelFormat.getIntArgbInstance(), argb, 0, (int) area.getWidth());
+        return argb;
+    }
+
+    /**
+     * Summary :
+     * Returns the width and height of the sprite as it is drawn by a view of its original size
+     */
+    public double getWidth(String assetPath) {
+        Region region = regions.get(normalize(assetPath));
+        return region == null ? imageCache.getImage(assetPath).getWidth() : region.getViewport().getWidth();
+    }
+
+    public double getHeight(String assetPath) {
+        Region region = regions.get(normalize(assetPath));
+        return region == null ? imageCache.getImage(assetPath).getHeight() : region.getViewport().getHeight();
+    }
+
+    public Image getPage(int page) {
+        return imageCache.getImage(String.format(PAGE_PATH, page));
+    }
+
+    public int getPageCount() {
+        return (int) regions.values().stream().mapToInt(Region::getPage).distinct().count();
+    }
+
+    static Map<String, Region> parseIndex(Properties index) {
+        Map<String, Region> regions = new HashMap<>();
+        for (String path : index.stringPropertyNames()) {
+            String[] values = index.getProperty(path).split(",");
+            regions.put(path, new Region(Integer.parseInt(values[0].trim()), new Rectangle2D(
+                    Double.parseDouble(values[1].trim()),
+                    Double.parseDouble(values[2].trim()),
+                    Double.parseDouble(values[3].trim()),
+                    Double.parseDouble(values[4].trim()))));
+        }
+        return regions;
+    }
+
+    private static Map<String, Region> loadIndex() {
+        try (InputStream inputStream = AssetPack.getInstance().open(INDEX_PATH)) {
+            if (inputStream == null) {
+                // Built without the "assets" profile, the views use the single images
+                return new HashMap<>();
+            }
+            Properties index = new Properties();
+            index.load(inputStream);
+            return parseIndex(index);
+        } catch (IOException e) {
+            System.err.println("Error loading texture atlas index: " + e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    private static String normalize(String assetPath) {
+        return assetPath.startsWith("/") ? assetPath.substring(1) : assetPath;
+    }
+}
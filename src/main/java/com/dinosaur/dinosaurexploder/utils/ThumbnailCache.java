@@ -0,0 +1,139 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Summary :
+ * This class provides the thumbnails of the ship and weapon selection menus.
+ * Every thumbnail is decoded once at the size it is shown with, and its "locked" variant is
+ * darkened once in its pixels, instead of a ColorAdjust effect that is rendered every frame.
+ * The lock icon is also kept at its shown size with its transparency applied, and the tinted coins
+ * get one hue shifted image per denomination that all their views share.
+ * The thumbnails stay in memory for the whole game, so opening the menus again costs no decoding.
+ */
+public class ThumbnailCache {
+    // Same result as the ColorAdjust with a brightness of -0.5 used before
+    static final double LOCKED_BRIGHTNESS = 0.5;
+    public static final int LOCK_ICON_SIZE = 30;
+    static final double LOCK_ICON_OPACITY = 0.6;
+
+    private static ThumbnailCache instance;
+
+    private final ImageCache imageCache;
+    private final Map<String, Image> thumbnails = new ConcurrentHashMap<>();
+
+    private ThumbnailCache() {
+        this(ImageCache.getInstance());
+    }
+
+    // Used by the tests to provide their own image cache
+    ThumbnailCache(ImageCache imageCache) {
+        this.imageCache = imageCache;
+    }
+
+    public static synchronized ThumbnailCache getInstance() {
+        if (instance == null) {
+            instance = new ThumbnailCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Returns the thumbnail of the image with the given size, darkened when it is locked
+     */
+    public Image getThumbnail(String assetPath, double size, boolean locked) {
+        Image thumbnail = imageCache.getImage(assetPath, size, size);
+        if (!locked) {
+            return thumbnail;
+        }
+        return thumbnails.computeIfAbsent(key(assetPath, size, "locked"),
+                key -> ImageRegistry.getInstance().register(filter(thumbnail, pixel -> filterPixel(pixel, LOCKED_BRIGHTNESS, 1)),
+                        ThumbnailCache.class, assetPath));
+    }
+
+    public Image getLockIcon() {
+        Image lock = imageCache.getImage(GameConstants.LOCK_IMAGE_PATH, LOCK_ICON_SIZE, LOCK_ICON_SIZE);
+        return thumbnails.computeIfAbsent(key(GameConstants.LOCK_IMAGE_PATH, LOCK_ICON_SIZE, "icon"),
+                key -> ImageRegistry.getInstance().register(filter(lock, pixel -> filterPixel(pixel, 1, LOCK_ICON_OPACITY)),
+                        ThumbnailCache.class, GameConstants.LOCK_IMAGE_PATH));
+    }
+
+    /**
+     * Summary :
+     * Returns the image with the given size and its hue shifted in its pixels, instead of a ColorAdjust
+     * effect on every view that shows it
+     * Parameters :
+     * double hue - hue shift between -1 and 1, like the ColorAdjust
+     */
+    public Image getTintedImage(String assetPath, double size, double hue) {
+        Image image = imageCache.getImage(assetPath, size, size);
+        if (hue == 0) {
+            return image;
+        }
+        return thumbnails.computeIfAbsent(key(assetPath, size, "hue" + hue),
+                key -> ImageRegistry.getInstance().register(filter(image, pixel -> tintPixel(pixel, hue)),
+                        ThumbnailCache.class, assetPath));
+    }
+
+    public int size() {
+        return thumbnails.size();
+    }
+
+    /**
+     * Summary :
+     * Returns a copy of the image with every ARGB pixel passed through the pixel filter
+     */
+    private static Image filter(Image image, IntUnaryOperator pixelFilter) {
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        int[] argb = new int[width * height];
+        image.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+        for (int i = 0; i < argb.length; i++) {
+            argb[i] = pixelFilter.applyAsInt(argb[i]);
+        }
+        WritableImage filtered = new WritableImage(width, height);
+        filtered.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+        return filtered;
+    }
+
+    /**
+     * Summary :
+     * Multiplies the colour channels of an ARGB pixel by brightness and its alpha by opacity
+     */
+    static int filterPixel(int argb, double brightness, double opacity) {
+        int a = (int) Math.round((argb >>> 24) * opacity);
+        int r = (int) Math.round(((argb >> 16) & 0xFF) * brightness);
+        int g = (int) Math.round(((argb >> 8) & 0xFF) * brightness);
+        int b = (int) Math.round((argb & 0xFF) * brightness);
+        return a << 24 | r << 16 | g << 8 | b;
+    }
+
+    /**
+     * Summary :
+     * Shifts the hue of an ARGB pixel like a ColorAdjust, whose hue of 1 is half a turn of the colour wheel
+     */
+    static int tintPixel(int argb, double hue) {
+        int a = argb >>> 24;
+        if (a == 0) {
+            return argb;
+        }
+        Color tinted = Color.rgb((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF).deriveColor(hue * 180, 1, 1, 1);
+        int r = (int) Math.round(tinted.getRed() * 255);
+        int g = (int) Math.round(tinted.getGreen() * 255);
+        int b = (int) Math.round(tinted.getBlue() * 255);
+        return a << 24 | r << 16 | g << 8 | b;
+    }
+
+    private static String key(String assetPath, double size, String variant) {
+        return assetPath + "@" + (int) size + ":" + variant;
+    }
+}
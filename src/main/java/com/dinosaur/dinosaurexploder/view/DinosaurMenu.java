@@ -16,6 +16,7 @@ import javafx.animation.TranslateTransition;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.Slider;
 
 import javafx.scene.control.ComboBox;
@@ -37,6 +38,10 @@ import org.jetbrains.annotations.NotNull;
 import java.io.FileNotFoundException;
 import java.util.Objects;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
+import com.dinosaur.dinosaurexploder.utils.AssetPack;
+import com.dinosaur.dinosaurexploder.utils.ImageCache;
+import com.dinosaur.dinosaurexploder.utils.ImageRegistry;
+import com.dinosaur.dinosaurexploder.utils.AssetPreloader;
 
 public class DinosaurMenu extends FXGLMenu {
     private final MediaPlayer mainMenuSound;
@@ -46,6 +51,7 @@ public class DinosaurMenu extends FXGLMenu {
     private final Label languageLabel = new Label("Select Language:");
 
     private final Settings settings = SettingsProvider.loadSettings();
+    private final ImageRegistry imageRegistry = ImageRegistry.getInstance();
 
     public DinosaurMenu() {
         super(MenuType.MAIN_MENU);
@@ -121,24 +127,20 @@ public class DinosaurMenu extends FXGLMenu {
         try {
 
             // Using InputStream for efficient fetching of images
-            InputStream menuImage = getClass().getClassLoader().getResourceAsStream("assets/textures/dinomenu.png");
+            InputStream menuImage = AssetPack.getInstance().open("assets/textures/dinomenu.png");
             if (menuImage == null) {
                 throw new FileNotFoundException("Resource not found: assets/textures/dinomenu.png");
             }
-            InputStream muteButton = getClass().getClassLoader().getResourceAsStream("assets/textures/silent.png");
+            InputStream muteButton = AssetPack.getInstance().open("assets/textures/silent.png");
             if (muteButton == null) {
                 throw new FileNotFoundException("Resource not found: assets/textures/silent.png");
             }
-            InputStream soundButton = getClass().getClassLoader().getResourceAsStream("assets/textures/playing.png");
+            InputStream soundButton = AssetPack.getInstance().open("assets/textures/playing.png");
             if (soundButton == null) {
                 throw new FileNotFoundException("Resource not found: assets/textures/playing.png");
             }
-            InputStream backGround = getClass().getClassLoader().getResourceAsStream("assets/textures/background.png");
-            if (backGround == null) {
-                throw new FileNotFoundException("Resource not found: assets/textures/background.png");
-            }
-
-            Image Background = new Image(backGround);
+            // Shared with the selection menus and the game background
+            Image Background = ImageCache.getInstance().getImage(GameConstants.BACKGROUND_IMAGE_PATH);
             ImageView imageViewB = new ImageView(Background);
             imageViewB.setFitHeight(DinosaurGUI.HEIGHT);
             imageViewB.setX(0);
@@ -152,7 +154,7 @@ public class DinosaurMenu extends FXGLMenu {
             translateTransition.play();
 
             // image for dino in main menu
-            Image image = new Image(menuImage);
+            Image image = imageRegistry.register(new Image(menuImage), DinosaurMenu.class, "assets/textures/dinomenu.png");
             ImageView imageView = new ImageView(image);
             imageView.setFitHeight(250);
             imageView.setFitWidth(200);
@@ -161,9 +163,9 @@ public class DinosaurMenu extends FXGLMenu {
             imageView.setPreserveRatio(true);
 
             // adding image to manually mute music
-            Image mute = new Image(muteButton);
+            Image mute = imageRegistry.register(new Image(muteButton), DinosaurMenu.class, "assets/textures/silent.png");
 
-            Image audioOn = new Image(soundButton);
+            Image audioOn = imageRegistry.register(new Image(soundButton), DinosaurMenu.class, "assets/textures/playing.png");
             ImageView imageViewPlaying = new ImageView(settings.isMuted() ? mute : audioOn);
             imageViewPlaying.setFitHeight(50);
             imageViewPlaying.setFitWidth(60);
@@ -223,8 +225,12 @@ public class DinosaurMenu extends FXGLMenu {
 
             quitButton.setOnAction(event -> fireExit());
 
+            // Decode the game assets in the background while the menu is shown
+            ProgressBar loadingBar = createLoadingBar();
+
             getContentRoot().getChildren().addAll(
-                    imageViewB, title, startButton, quitButton, imageView, imageViewPlaying, volumeLabel, volumeSlider, languageBox
+                    imageViewB, title, startButton, quitButton, imageView, imageViewPlaying, volumeLabel, volumeSlider, languageBox,
+                    loadingBar
             );
         }
         catch (FileNotFoundException e){
@@ -246,6 +252,19 @@ public class DinosaurMenu extends FXGLMenu {
         return translateTransition;
     }
 
+    private ProgressBar createLoadingBar() {
+        AssetPreloader preloader = AssetPreloader.getInstance();
+        ProgressBar loadingBar = new ProgressBar();
+        loadingBar.progressProperty().bind(preloader.progressProperty());
+        loadingBar.setPrefWidth(200);
+        loadingBar.setTranslateX(getAppWidth() / 2.0 - 100);
+        loadingBar.setTranslateY(700);
+        // The bar is only shown until every asset is loaded
+        loadingBar.visibleProperty().bind(preloader.progressProperty().lessThan(1));
+        preloader.start();
+        return loadingBar;
+    }
+
     private void changeLanguage(String selectedLanguage){
         languageManager.setSelectedLanguage(selectedLanguage);
         languageManager.loadTranslations(selectedLanguage);
@@ -0,0 +1,162 @@
+package com.dinosaur.dinosaurexploder.view;
+
+import com.almasb.fxgl.core.View;
+import com.almasb.fxgl.texture.AnimatedTexture;
+import com.almasb.fxgl.texture.AnimationChannel;
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.utils.ImageCache;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.util.Duration;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static com.almasb.fxgl.dsl.FXGLForKtKt.spawn;
+
+/**
+ * Summary :
+ * This class keeps the explosion animation: one AnimationChannel shared by every explosion and a
+ * pool of AnimatedTexture views that are played again instead of being created for every kill.
+ * The FXGL ViewComponent disposes its views when the entity is removed; the pooled view uses that
+ * to go back to the pool, so its texture is never disposed.
+ * At most maxActive explosions play at the same time, the others are skipped, so a bomb or a
+ * boss coin shower does not create dozens of views in a few frames.
+ */
+public class ExplosionPool {
+    private static ExplosionPool instance;
+
+    private final AnimationChannel channel;
+    private final Duration duration;
+    private final Deque<ExplosionView> free = new ArrayDeque<>();
+    private int maxActive;
+    private int active;
+    private long created;
+    private long reused;
+    private long skipped;
+
+    /**
+     * Summary :
+     * Explosion view that plays its texture while attached to an entity and goes back to the pool
+     * when the entity is removed
+     */
+    private class ExplosionView extends Group implements View {
+        private final AnimatedTexture texture;
+        private boolean inUse;
+
+        ExplosionView(AnimatedTexture texture) {
+            super(texture);
+            this.texture = texture;
+        }
+
+        @Override
+        public void onUpdate(double tpf) {
+            texture.onUpdate(tpf);
+        }
+
+        @Override
+        public Node getNode() {
+            return this;
+        }
+
+        @Override
+        public void dispose() {
+            release(this);
+        }
+    }
+
+    ExplosionPool(AnimationChannel channel, Duration duration, int maxActive) {
+        this.channel = channel;
+        this.duration = duration;
+        this.maxActive = maxActive;
+    }
+
+    public static synchronized ExplosionPool getInstance() {
+        if (instance == null) {
+            Duration duration = Duration.seconds(GameConstants.EXPLOSION_DURATION_SECONDS);
+            AnimationChannel channel = new AnimationChannel(
+                    ImageCache.getInstance().getImage(GameConstants.EXPLOSION_IMAGE_PATH),
+                    duration, GameConstants.EXPLOSION_FRAMES);
+            instance = new ExplosionPool(channel, duration, GameConstants.MAX_CONCURRENT_EXPLOSIONS);
+        }
+        return instance;
+    }
+
+    /**
+     * Summary :
+     * Spawns an explosion entity at the given position, unless maxActive explosions are already
+     * playing. Returns false when it was skipped.
+     */
+    public boolean spawnAt(double x, double y) {
+        if (!canSpawn()) {
+            skipped++;
+            return false;
+        }
+        spawn("explosion", x, y);
+        return true;
+    }
+
+    public boolean canSpawn() {
+        return active < maxActive;
+    }
+
+    /**
+     * Summary :
+     * Returns a view that plays the explosion from its first frame, taken from the pool when one is free
+     */
+    public Node obtain() {
+        ExplosionView view = free.poll();
+        if (view == null) {
+            view = new ExplosionView(new AnimatedTexture(channel));
+            created++;
+        } else {
+            reused++;
+        }
+        active++;
+        view.inUse = true;
+        view.texture.play();
+        return view;
+    }
+
+    private void release(ExplosionView view) {
+        if (!view.inUse) {
+            return;
+        }
+        view.inUse = false;
+        view.texture.stop();
+        active--;
+        free.push(view);
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public int getMaxActive() {
+        return maxActive;
+    }
+
+    public void setMaxActive(int maxActive) {
+        this.maxActive = maxActive;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getFree() {
+        return free.size();
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getReused() {
+        return reused;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+}
@@ -0,0 +1,56 @@
+package com.dinosaur.dinosaurexploder.view;
+
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.SpawnData;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary :
+ * The heads-up display (score, lives, bombs, coins, level) drawn above the game.
+ * The HUD elements are built by the GameEntityFactory like the other entities, so their components keep
+ * their state and logic, but they are never added to the GameWorld: their views are UI nodes of the game
+ * scene. The world only iterates the gameplay objects, and the HUD components refresh their nodes when
+ * their values change instead of every frame.
+ */
+public class HudLayer {
+    private final List<Entity> elements = new ArrayList<>();
+
+    /**
+     * Summary :
+     * Builds the HUD element spawned with the given name at a position of the screen and shows it
+     */
+    public Entity add(String spawnName, double x, double y) {
+        return add(spawnName, new SpawnData(x, y));
+    }
+
+    public Entity add(String spawnName, SpawnData data) {
+        Entity element = FXGL.getGameWorld().create(spawnName, data);
+        elements.add(element);
+        FXGL.getGameScene().addUINode(getNode(element));
+        return element;
+    }
+
+    /**
+     * Summary :
+     * Removes the HUD of the previous game from the screen
+     */
+    public void clear() {
+        for (Entity element : elements) {
+            FXGL.getGameScene().removeUINode(getNode(element));
+        }
+        elements.clear();
+    }
+
+    public List<Entity> getElements() {
+        return elements;
+    }
+
+    // The view root follows the position of the entity even outside of the world
+    private static Node getNode(Entity element) {
+        return element.getViewComponent().getParent();
+    }
+}
@@ -14,7 +14,6 @@ import javafx.animation.Interpolator;
 import javafx.animation.TranslateTransition;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
-import javafx.scene.effect.ColorAdjust;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -28,13 +27,16 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
-import java.io.InputStream;
+import com.dinosaur.dinosaurexploder.utils.ImageCache;
+import com.dinosaur.dinosaurexploder.utils.ThumbnailCache;
 import java.util.Objects;
 
 import static com.almasb.fxgl.dsl.FXGLForKtKt.getDialogService;
 import static com.almasb.fxgl.dsl.FXGLForKtKt.getUIFactoryService;
 
 public class ShipSelectionMenu extends FXGLMenu {
+    // Shared by all the buttons, only the hovered one shows it
+    private static final DropShadow HOVER_EFFECT = new DropShadow(10, Color.rgb(0, 255, 0));
   
     private final LanguageManager languageManager = LanguageManager.getInstance();
     private final Settings settings = SettingsProvider.loadSettings();
@@ -48,8 +50,7 @@ public class ShipSelectionMenu extends FXGLMenu {
         
 
         // background image
-        InputStream backGround = getClass().getClassLoader().getResourceAsStream("assets/textures/background.png");
-        Image Background = new Image(backGround);
+        Image Background = ImageCache.getInstance().getImage(GameConstants.BACKGROUND_IMAGE_PATH);
         ImageView imageViewB = new ImageView(Background);
         imageViewB.setFitHeight(DinosaurGUI.HEIGHT);
         imageViewB.setX(0);
@@ -133,17 +134,14 @@ public class ShipSelectionMenu extends FXGLMenu {
     private void showSelectionButton(double imageSize, int columns, GridPane shipGrid) {
         // button for each ship
         for (int i = 1; i <= 8; i++) {
-            Image shipImage = new Image(
-                    Objects.requireNonNull(getClass().getResourceAsStream("/assets/textures/spaceship" + i + ".png")));
             boolean isLocked = !GameData.checkUnlockedShip(i);
+            Image shipImage = ThumbnailCache.getInstance().getThumbnail(ImageCache.shipImagePath(i), imageSize, isLocked);
 
             ImageView shipView = new ImageView(shipImage);
             shipView.setFitHeight(imageSize);
             shipView.setFitWidth(imageSize);
-            applyDarkFilterIfLocked(isLocked, shipView);
 
-            ImageView lockIcon = new ImageView(
-                    new Image(Objects.requireNonNull(getClass().getResourceAsStream("/assets/textures/lock.png"))));
+            ImageView lockIcon = new ImageView(ThumbnailCache.getInstance().getLockIcon());
             setLockProperties(lockIcon, isLocked);
 
             Button shipButton = new Button();
@@ -161,9 +159,8 @@ public class ShipSelectionMenu extends FXGLMenu {
             });
             shipButton.setStyle("-fx-background-color: transparent; -fx-border-color: transparent; -fx-padding: 0;");
 
-            DropShadow hoverEffect = new DropShadow(10, Color.rgb(0, 255, 0));
             shipButton.setOnMouseEntered(event -> {
-                shipButton.setEffect(hoverEffect); // Shadow effect
+                shipButton.setEffect(HOVER_EFFECT); // Shadow effect
                 shipButton
                         .setStyle("-fx-background-color: transparent; -fx-border-color: transparent; -fx-padding: 0;");
             });
@@ -184,19 +181,8 @@ public class ShipSelectionMenu extends FXGLMenu {
         }
     }
 
-    private void applyDarkFilterIfLocked(boolean isLocked, ImageView shipView) {
-        if (isLocked) {
-            ColorAdjust grayscale = new ColorAdjust();
-            grayscale.setBrightness(-0.5);
-            shipView.setEffect(grayscale);
-        }
-    }
-
     private void setLockProperties(ImageView lockIcon, boolean isLocked) {
-        lockIcon.setFitWidth(30);
-        lockIcon.setFitHeight(30);
         lockIcon.setMouseTransparent(true);
-        lockIcon.setOpacity(0.6);
         lockIcon.setVisible(isLocked);
     }
 
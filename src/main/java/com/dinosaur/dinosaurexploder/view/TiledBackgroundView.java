@@ -0,0 +1,115 @@
+package com.dinosaur.dinosaurexploder.view;
+
+import com.almasb.fxgl.core.View;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary :
+ * Vertically scrolling background made of window sized tiles.
+ * Every layer only shows the part of its image that fits the window width and stacks just enough
+ * tiles to cover the window plus one; a tile that leaves the bottom of the window is moved back
+ * above the top. All tiles of a layer share the same Image.
+ * Layers are drawn in the order they are added and each one scrolls with its own speed (parallax).
+ * The FXGL ViewComponent calls onUpdate every frame.
+ */
+public class TiledBackgroundView extends Group implements View {
+    private final double width;
+    private final double height;
+    private final List<Layer> layers = new ArrayList<>();
+
+    /**
+     * Summary :
+     * One image of the background and its recycled tiles
+     */
+    private static class Layer {
+        private final double speed;
+        private final double tileHeight;
+        private final ImageView[] tiles;
+        private double offset;
+
+        Layer(Image image, double speed, double width, double height) {
+            this.speed = speed;
+            // Narrow images are stretched to the window width, wide ones are cropped to it
+            double scale = image.getWidth() < width ? width / image.getWidth() : 1;
+            this.tileHeight = image.getHeight() * scale;
+            this.tiles = new ImageView[tileCount(height, tileHeight)];
+            for (int i = 0; i < tiles.length; i++) {
+                ImageView tile = new ImageView(image);
+                tile.setViewport(new Rectangle2D(0, 0, Math.min(image.getWidth(), width), image.getHeight()));
+                tile.setFitWidth(width);
+                tile.setFitHeight(tileHeight);
+                tiles[i] = tile;
+            }
+            scroll(0);
+        }
+
+        void scroll(double distance) {
+            offset = wrap(offset + distance, tileHeight);
+            // The first tile starts above the window, so the top is covered while the tiles move down
+            for (int i = 0; i < tiles.length; i++) {
+                tiles[i].setTranslateY(offset + (i - 1) * tileHeight);
+            }
+        }
+    }
+
+    public TiledBackgroundView(double width, double height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Summary :
+     * Adds a layer on top of the previous ones
+     * Parameters :
+     * Image image - the image of the layer, tiled vertically
+     * double speed - pixels per second, positive values scroll down
+     */
+    public TiledBackgroundView addLayer(Image image, double speed) {
+        Layer layer = new Layer(image, speed, width, height);
+        layers.add(layer);
+        getChildren().addAll(layer.tiles);
+        return this;
+    }
+
+    public int getTileCount() {
+        return getChildren().size();
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        for (Layer layer : layers) {
+            layer.scroll(layer.speed * tpf);
+        }
+    }
+
+    @Override
+    public Node getNode() {
+        return this;
+    }
+
+    @Override
+    public void dispose() {
+        layers.clear();
+        getChildren().clear();
+    }
+
+    /**
+     * Summary :
+     * Number of tiles needed so the window is always covered: one more than fits in the window
+     */
+    static int tileCount(double viewHeight, double tileHeight) {
+        return (int) Math.ceil(viewHeight / tileHeight) + 1;
+    }
+
+    static double wrap(double offset, double tileHeight) {
+        double wrapped = offset % tileHeight;
+        return wrapped < 0 ? wrapped + tileHeight : wrapped;
+    }
+}
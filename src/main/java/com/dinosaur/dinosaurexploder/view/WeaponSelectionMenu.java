@@ -14,7 +14,6 @@ import javafx.animation.Interpolator;
 import javafx.animation.TranslateTransition;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
-import javafx.scene.effect.ColorAdjust;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -28,13 +27,16 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
-import java.io.InputStream;
+import com.dinosaur.dinosaurexploder.utils.ImageCache;
+import com.dinosaur.dinosaurexploder.utils.ThumbnailCache;
 import java.util.Objects;
 
 import static com.almasb.fxgl.dsl.FXGLForKtKt.getDialogService;
 import static com.almasb.fxgl.dsl.FXGLForKtKt.getUIFactoryService;
 
 public class WeaponSelectionMenu extends FXGLMenu {
+    // Shared by all the buttons, only the hovered one shows it
+    private static final DropShadow HOVER_EFFECT = new DropShadow(10, Color.rgb(0, 255, 0));
     
     LanguageManager languageManager = LanguageManager.getInstance();
     private final Settings settings = SettingsProvider.loadSettings();
@@ -47,8 +49,7 @@ public class WeaponSelectionMenu extends FXGLMenu {
         
 
         // background image
-        InputStream backGround = getClass().getClassLoader().getResourceAsStream("assets/textures/background.png");
-        Image Background = new Image(backGround);
+        Image Background = ImageCache.getInstance().getImage(GameConstants.BACKGROUND_IMAGE_PATH);
         ImageView imageViewB = new ImageView(Background);
         imageViewB.setFitHeight(DinosaurGUI.HEIGHT);
         imageViewB.setX(0);
@@ -121,18 +122,16 @@ public class WeaponSelectionMenu extends FXGLMenu {
         int selectedShip = GameData.getSelectedShip();
         // button for each weapon
         for (int i = 1; i <= 3; i++) {
-            Image weaponImage = new Image(
-                    Objects.requireNonNull(getClass().getResourceAsStream(
-                            "/assets/textures/projectiles/projectile" + selectedShip + "_" + i + ".png")));
             boolean isLocked = !GameData.checkUnlockedWeapon(i);
+            Image weaponImage = ThumbnailCache.getInstance()
+                    .getThumbnail(ImageCache.projectileImagePath(selectedShip, i), imageSize, isLocked);
 
             ImageView weaponView = new ImageView(weaponImage);
             weaponView.setRotate(-90);
             weaponView.setFitHeight(imageSize);
             weaponView.setFitWidth(imageSize);
-            applyDarkFilterIfLocked(isLocked, weaponView);
 
-            ImageView lockIcon = new ImageView(new Image(getClass().getResourceAsStream("/assets/textures/lock.png")));
+            ImageView lockIcon = new ImageView(ThumbnailCache.getInstance().getLockIcon());
             setLockProperties(lockIcon, isLocked);
 
             Button weaponButton = new Button();
@@ -150,9 +149,8 @@ public class WeaponSelectionMenu extends FXGLMenu {
             });
             weaponButton.setStyle("-fx-background-color: transparent; -fx-border-color: transparent; -fx-padding: 0;");
 
-            DropShadow hoverEffect = new DropShadow(10, Color.rgb(0, 255, 0));
             weaponButton.setOnMouseEntered(event -> {
-                weaponButton.setEffect(hoverEffect); // Shadow effect
+                weaponButton.setEffect(HOVER_EFFECT); // Shadow effect
                 weaponButton
                         .setStyle("-fx-background-color: transparent; -fx-border-color: transparent; -fx-padding: 0;");
             });
@@ -173,19 +171,8 @@ public class WeaponSelectionMenu extends FXGLMenu {
         }
     }
 
-    private void applyDarkFilterIfLocked(boolean isLocked, ImageView weaponView) {
-        if (isLocked) {
-            ColorAdjust grayscale = new ColorAdjust();
-            grayscale.setBrightness(-0.5);
-            weaponView.setEffect(grayscale);
-        }
-    }
-
     private void setLockProperties(ImageView lockIcon, boolean isLocked) {
-        lockIcon.setFitWidth(30);
-        lockIcon.setFitHeight(30);
         lockIcon.setMouseTransparent(true);
-        lockIcon.setOpacity(0.6);
         lockIcon.setVisible(isLocked);
     }
 
@@ -14,6 +14,7 @@ module com.dinosaur.dinosaurexploder {
     requires javafx.base;
     requires com.almasb.fxgl.entity;
     requires com.almasb.fxgl.core;
+    requires java.desktop;
 
     opens assets.textures;
     opens assets.sounds;
@@ -0,0 +1,66 @@
+package com.dinosaur.dinosaurexploder.benchmark;
+
+import com.dinosaur.dinosaurexploder.controller.core.collisions.BulletSweep;
+
+import java.util.Random;
+
+/**
+ * Summary :
+ * Measures how the time of a BulletSweep grows with the number of bullets, player bullets against
+ * enemy bullets spread over the playfield. Every overlapping pair cancels, like in the game, so the more
+ * bullets there are the more of them are removed. The time per bullet should stay about the same while
+ * the bullets double.
+ * It is run by the "benchmark" maven profile: mvn -Pbenchmark test-compile
+ * Parameters :
+ * args[0] - largest number of bullets per side (default 16000)
+ * args[1] - number of measured sweeps per size (default 200)
+ */
+public class BulletSweepBenchmark {
+    private static final int WIDTH = 550;
+    private static final int HEIGHT = 750;
+    private static final int WARMUP_SWEEPS = 200;
+
+    public static void main(String[] args) {
+        int largest = args.length > 0 ? Integer.parseInt(args[0]) : 16000;
+        int sweeps = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        for (int bullets = 1000; bullets <= largest; bullets *= 2) {
+            BulletSweep sweep = new BulletSweep();
+            double[] positions = randomPositions(bullets, new Random(42));
+            for (int i = 0; i < WARMUP_SWEEPS; i++) {
+                run(sweep, positions, bullets);
+            }
+            long tests = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < sweeps; i++) {
+                run(sweep, positions, bullets);
+                tests += sweep.getTests();
+            }
+            double microsPerSweep = (System.nanoTime() - start) / 1000.0 / sweeps;
+            System.out.printf("%d + %d bullets: %.1f us/sweep, %.1f ns/bullet, %d overlapping pairs tested%n",
+                    bullets, bullets, microsPerSweep, microsPerSweep * 1000 / (2.0 * bullets), tests / sweeps);
+        }
+    }
+
+    private static void run(BulletSweep sweep, double[] positions, int bullets) {
+        sweep.clear();
+        for (int i = 0; i < bullets; i++) {
+            double x = positions[4 * i];
+            double y = positions[4 * i + 1];
+            sweep.addFirst(x, y, x + 12, y + 30);
+            x = positions[4 * i + 2];
+            y = positions[4 * i + 3];
+            sweep.addSecond(x, y, x + 30, y + 17);
+        }
+        sweep.sweep((first, second) -> true);
+    }
+
+    private static double[] randomPositions(int bullets, Random random) {
+        double[] positions = new double[4 * bullets];
+        for (int i = 0; i < positions.length; i += 2) {
+            positions[i] = random.nextDouble() * WIDTH;
+            positions[i + 1] = random.nextDouble() * HEIGHT;
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,91 @@
+package com.dinosaur.dinosaurexploder.benchmark;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+import com.almasb.fxgl.entity.SpawnData;
+import com.almasb.fxgl.physics.BoundingShape;
+import com.almasb.fxgl.physics.HitBox;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.controller.core.BulletSystem;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionQueue;
+import com.dinosaur.dinosaurexploder.utils.EntityRegistry;
+import javafx.geometry.Point2D;
+
+import java.util.Random;
+
+/**
+ * Summary :
+ * Measures the time of a BulletSystem tick (move, collisions, removal) with the screen kept full of
+ * bullets, half of them shot up by the player at the green dinos and half shot down at the player.
+ * Drawing is not measured, it needs a running JavaFX toolkit.
+ * It is run by the "benchmark" maven profile: mvn -Pbenchmark test-compile
+ * Parameters :
+ * args[0] - number of bullets (default 10000)
+ * args[1] - number of measured frames (default 2000)
+ */
+public class BulletSystemBenchmark {
+    private static final double TPF = 1.0 / 60;
+    private static final int WARMUP_FRAMES = 1000;
+    private static final int WIDTH = 600;
+    private static final int HEIGHT = 800;
+    private static final int GREEN_DINOS = 20;
+
+    private static final Random random = new Random(42);
+    private static final CollisionQueue queue = new CollisionQueue();
+
+    public static void main(String[] args) {
+        int bullets = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+        GameWorld world = new GameWorld();
+        EntityRegistry registry = EntityRegistry.getInstance();
+        registry.attach(world);
+        for (int i = 0; i < GREEN_DINOS; i++) {
+            world.addEntity(newEntity(EntityType.GREEN_DINO, random.nextInt(WIDTH - 80), random.nextInt(HEIGHT / 2), 80, 60));
+        }
+        world.addEntity(newEntity(EntityType.PLAYER, WIDTH / 2.0 - 45, HEIGHT - 200, 90, 90));
+
+        BulletSystem system = new BulletSystem(registry, queue, bullets);
+        system.define("basicProjectile", EntityType.PROJECTILE, 12, 30, 600, null, null);
+        system.define("basicEnemyProjectile", EntityType.ENEMY_PROJECTILE, 30, 17, 300, null, null);
+        // The hits are counted by the system, the entities are not removed so the targets stay the same
+        system.addHandler(EntityType.PROJECTILE, EntityType.GREEN_DINO, (projectile, greenDino) -> { });
+        system.addHandler(EntityType.ENEMY_PROJECTILE, EntityType.PLAYER, (projectile, player) -> { });
+        system.start(WIDTH, HEIGHT, null);
+
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            update(system);
+        }
+        long hitsBefore = system.getHits();
+        long start = System.nanoTime();
+        for (int i = 0; i < frames; i++) {
+            update(system);
+        }
+        double microsPerFrame = (System.nanoTime() - start) / 1000.0 / frames;
+        System.out.printf("%d bullets: %.2f us/frame (%.1f%% of a 60 ticks/s frame), %d hits%n",
+                system.size(), microsPerFrame, microsPerFrame / 1e6 / TPF * 100, system.getHits() - hitsBefore);
+    }
+
+    // Fills the free slots with new shots, then runs a tick
+    private static void update(BulletSystem system) {
+        while (system.size() < system.getCapacity()) {
+            if (random.nextBoolean()) {
+                system.fire("basicProjectile", new SpawnData(random.nextInt(WIDTH), HEIGHT)
+                        .put("direction", new Point2D(random.nextDouble() - 0.5, -1)));
+            } else {
+                system.fire("basicEnemyProjectile", new SpawnData(random.nextInt(WIDTH), 0)
+                        .put("direction", new Point2D(random.nextDouble() - 0.5, 1)));
+            }
+        }
+        system.onUpdate(TPF);
+        queue.resolve();
+    }
+
+    private static Entity newEntity(EntityType type, double x, double y, double width, double height) {
+        Entity entity = new Entity();
+        entity.setType(type);
+        entity.setPosition(x, y);
+        entity.getBoundingBoxComponent().addHitBox(new HitBox(BoundingShape.box(width, height)));
+        return entity;
+    }
+}
@@ -0,0 +1,133 @@
+package com.dinosaur.dinosaurexploder.benchmark;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+import com.almasb.fxgl.entity.components.CollidableComponent;
+import com.almasb.fxgl.physics.BoundingShape;
+import com.almasb.fxgl.physics.HitBox;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.constants.GameConstants;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionSystem;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.PixelNarrowphase;
+import com.dinosaur.dinosaurexploder.utils.PixelMask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Summary :
+ * Measures how the CollisionSystem tick scales from 1 to all the cores (at least 2 threads): projectiles
+ * fly up through green dinos whose pixel masks are ellipses, a projectile that hits a dino starts again
+ * from the bottom. Like in the game, the projectiles are turned by -90 degrees and have a pixel mask.
+ * With 1 thread the candidates are checked on the calling thread like below the parallel threshold,
+ * with more their hitboxes and pixels are tested on a ForkJoinPool of that many threads. The copies of
+ * the candidates, the contacts and the actions stay on the calling thread, so the speedup is bounded by
+ * their share of the tick. Only the collision tick is timed, not the moves of the projectiles.
+ * On a host with a single core the threads share it, so the times only show the overhead of the batch
+ * (and what it saves by skipping the hitbox tests of pairs whose bounds are apart), not a speedup.
+ * It is run by the "benchmark" maven profile: mvn -Pbenchmark test-compile
+ * Parameters :
+ * args[0] - number of projectiles (default 3000)
+ * args[1] - number of green dinos (default 40)
+ * args[2] - number of measured frames per thread count (default 100)
+ */
+public class CollisionSystemBenchmark {
+    private static final int WIDTH = 550;
+    private static final int HEIGHT = 750;
+    private static final int WARMUP_FRAMES = 100;
+    private static final double PROJECTILE_STEP = 10;
+
+    public static void main(String[] args) {
+        int projectiles = args.length > 0 ? Integer.parseInt(args[0]) : 3000;
+        int greenDinos = args.length > 1 ? Integer.parseInt(args[1]) : 40;
+        int frames = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        PixelMask dinoMask = ellipseMask(80, 60);
+
+        double singleThreadMillis = 0;
+        int maxThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        for (int threads = 1; threads <= maxThreads; threads = threads < maxThreads ? Math.min(maxThreads, threads * 2) : maxThreads + 1) {
+            Random random = new Random(42);
+            GameWorld world = new GameWorld();
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            CollisionSystem collisions = new CollisionSystem(WIDTH, HEIGHT, GameConstants.COLLISION_CELL_SIZE, pool);
+            collisions.setParallelThreshold(0);
+            collisions.attach(world);
+            // Like the CollisionQueue in the game, the hit projectiles are only moved after the tick
+            List<Entity> hit = new ArrayList<>();
+            collisions.addHandler(EntityType.PROJECTILE, EntityType.GREEN_DINO,
+                    (projectile, greenDino) -> hit.add(projectile));
+            for (int i = 0; i < greenDinos; i++) {
+                Entity greenDino = newEntity(world, EntityType.GREEN_DINO, random.nextInt(WIDTH - 80),
+                        random.nextInt(HEIGHT - 60), 80, 60);
+                greenDino.setProperty(PixelNarrowphase.MASK_PROPERTY, dinoMask);
+            }
+            // Drawn 30 wide and 10 high, turned to point up around their top left corner
+            PixelMask projectileMask = ellipseMask(30, 10);
+            List<Entity> flying = new ArrayList<>();
+            for (int i = 0; i < projectiles; i++) {
+                Entity projectile = newEntity(world, EntityType.PROJECTILE, random.nextInt(WIDTH - 10),
+                        30 + random.nextInt(HEIGHT - 30), 30, 10);
+                projectile.setRotation(-90);
+                projectile.setProperty(PixelNarrowphase.MASK_PROPERTY, projectileMask);
+                flying.add(projectile);
+            }
+
+            for (int i = 0; i < WARMUP_FRAMES; i++) {
+                update(collisions, flying, hit);
+            }
+            long hits = 0;
+            long nanos = 0;
+            for (int i = 0; i < frames; i++) {
+                nanos += update(collisions, flying, hit);
+                hits += collisions.getLastHits();
+            }
+            double millis = nanos / 1e6 / frames;
+            if (threads == 1) {
+                singleThreadMillis = millis;
+            }
+            System.out.printf("%d thread(s): %.3f ms/tick, speedup %.2fx, %d candidates and %d hits per frame%n",
+                    threads, millis, singleThreadMillis / millis, collisions.getLastCandidates(), hits / frames);
+            pool.shutdown();
+        }
+    }
+
+    // Moves the projectiles and returns how long the collision tick took in nanoseconds
+    private static long update(CollisionSystem collisions, List<Entity> flying, List<Entity> hit) {
+        for (Entity projectile : flying) {
+            double y = projectile.getY() - PROJECTILE_STEP;
+            projectile.setY(y < 30 ? HEIGHT : y);
+        }
+        long start = System.nanoTime();
+        collisions.onUpdate(1.0 / 60);
+        long nanos = System.nanoTime() - start;
+        for (Entity projectile : hit) {
+            projectile.setY(HEIGHT);
+        }
+        hit.clear();
+        return nanos;
+    }
+
+    private static Entity newEntity(GameWorld world, EntityType type, double x, double y, double width, double height) {
+        Entity entity = new Entity();
+        entity.setType(type);
+        entity.setPosition(x, y);
+        entity.getBoundingBoxComponent().addHitBox(new HitBox(BoundingShape.box(width, height)));
+        entity.addComponent(new CollidableComponent(true));
+        world.addEntity(entity);
+        return entity;
+    }
+
+    private static PixelMask ellipseMask(int width, int height) {
+        int[] argb = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                double dx = (x + 0.5 - width / 2.0) / (width / 2.0);
+                double dy = (y + 0.5 - height / 2.0) / (height / 2.0);
+                argb[y * width + x] = dx * dx + dy * dy <= 1 ? 0xFF000000 : 0;
+            }
+        }
+        return PixelMask.fromArgb(argb, width, height);
+    }
+}
@@ -0,0 +1,108 @@
+package com.dinosaur.dinosaurexploder.benchmark;
+
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+import com.almasb.fxgl.time.LocalTimer;
+import com.dinosaur.dinosaurexploder.components.GreenDinoComponent;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.controller.core.GreenDinoSwarm;
+import com.dinosaur.dinosaurexploder.utils.EntityBudget;
+import com.dinosaur.dinosaurexploder.utils.EntityRegistry;
+import com.dinosaur.dinosaurexploder.utils.LevelManager;
+import javafx.util.Duration;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+/**
+ * Summary :
+ * Compares the time of a game world update with green dinos updated by their components and
+ * with green dinos updated by the GreenDinoSwarm.
+ * It is run by the "benchmark" maven profile: mvn -Pbenchmark test-compile
+ * Parameters :
+ * args[0] - number of green dinos (default 500)
+ * args[1] - number of measured frames (default 5000)
+ */
+public class GreenDinoSwarmBenchmark {
+    private static final double TPF = 1.0 / 60;
+    private static final int WARMUP_FRAMES = 2000;
+
+    // Game time of the benchmark, the dino timers read it
+    private static double now;
+
+    public static void main(String[] args) {
+        int dinos = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+
+        // The dinos need an FXGL timer, the benchmark runs without the engine
+        try (MockedStatic<FXGL> fxgl = Mockito.mockStatic(FXGL.class)) {
+            fxgl.when(FXGL::newLocalTimer).thenAnswer(invocation -> new BenchmarkTimer());
+            EntityRegistry.getInstance().setLevelManager(new LevelManager());
+            // Every shot is refused by the budget, so it is checked but nothing is spawned
+            EntityBudget.getInstance().setGlobalCap(0);
+
+            for (int round = 0; round < 3; round++) {
+                double components = measure(dinos, frames, false);
+                double swarm = measure(dinos, frames, true);
+                System.out.printf("%d green dinos: components %.2f us/frame, swarm %.2f us/frame (x%.1f)%n",
+                        dinos, components, swarm, components / swarm);
+            }
+        }
+        System.out.println("Shots: " + EntityBudget.getInstance().getDeferred(EntityType.ENEMY_PROJECTILE));
+    }
+
+    // Microseconds per frame, after a warmup
+    private static double measure(int dinos, int frames, boolean useSwarm) {
+        GameWorld world = new GameWorld();
+        GreenDinoSwarm swarm = new GreenDinoSwarm();
+        if (useSwarm) {
+            swarm.attach(world);
+        }
+        for (int i = 0; i < dinos; i++) {
+            world.addEntity(newGreenDino(-i % 600));
+        }
+
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            update(world, swarm, useSwarm);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < frames; i++) {
+            update(world, swarm, useSwarm);
+        }
+        return (System.nanoTime() - start) / 1000.0 / frames;
+    }
+
+    private static void update(GameWorld world, GreenDinoSwarm swarm, boolean useSwarm) {
+        now += TPF;
+        world.onUpdate(TPF);
+        if (useSwarm) {
+            swarm.onUpdate(TPF);
+        }
+    }
+
+    private static Entity newGreenDino(double y) {
+        Entity entity = new Entity();
+        entity.setType(EntityType.GREEN_DINO);
+        entity.setY(y);
+        entity.addComponent(new GreenDinoComponent());
+        return entity;
+    }
+
+    /**
+     * Summary :
+     * Timer of the dinos that follows the game time of the benchmark
+     */
+    private static class BenchmarkTimer implements LocalTimer {
+        private double captured = now;
+
+        @Override
+        public void capture() {
+            captured = now;
+        }
+
+        @Override
+        public boolean elapsed(Duration duration) {
+            return now - captured >= duration.toSeconds();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.dinosaur.dinosaurexploder.components;
+
+import com.almasb.fxgl.app.Engine;
+import com.almasb.fxgl.app.FXGLApplication;
+import com.almasb.fxgl.app.GameApplication;
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
+import com.dinosaur.dinosaurexploder.utils.ImageCache;
+import javafx.scene.image.ImageView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+class ShipTrailComponentTest {
+    private static final int LENGTH = 3;
+    private static final double SAMPLE_SECONDS = 0.1;
+    // Long enough that no ghost fades out during a test
+    private static final double FADE_SECONDS = 10;
+
+    private ShipTrailComponent trail;
+    private Entity ship;
+
+    @BeforeEach
+    void setUp() {
+        // The trail entity is attached to the mocked game world
+        Engine engine = mock(Engine.class, RETURNS_DEEP_STUBS);
+        doReturn(mock(FXGLApplication.GameApplicationService.class, RETURNS_DEEP_STUBS))
+                .when(engine).getService(FXGLApplication.GameApplicationService.class);
+        FXGL.inject$fxgl(engine, mock(GameApplication.class), mock(FXGLApplication.class));
+        trail = new ShipTrailComponent(ImageCache.shipImagePath(1), LENGTH, SAMPLE_SECONDS, FADE_SECONDS);
+        ship = new Entity();
+        ship.addComponent(trail);
+    }
+
+    @Test
+    void noGhostWhileTheShipStandsStill() {
+        for (int i = 0; i < 5; i++) {
+            trail.onUpdate(SAMPLE_SECONDS);
+        }
+
+        assertTrue(visibleGhostsX().isEmpty());
+    }
+
+    @Test
+    void keepsTheLastSamplesAndReusesTheOldestGhost() {
+        // The first sample only records where the ship is, the next five each place a ghost
+        for (int i = 0; i <= 5; i++) {
+            ship.setPosition(i * 10, 0);
+            trail.onUpdate(SAMPLE_SECONDS);
+        }
+
+        assertEquals(List.of(30.0, 40.0, 50.0), visibleGhostsX());
+    }
+
+    @Test
+    void placesNoGhostBetweenTwoSamples() {
+        ship.setPosition(0, 0);
+        trail.onUpdate(SAMPLE_SECONDS);
+        ship.setPosition(10, 0);
+        trail.onUpdate(SAMPLE_SECONDS / 4);
+
+        assertTrue(visibleGhostsX().isEmpty());
+    }
+
+    private List<Double> visibleGhostsX() {
+        List<Double> xs = new ArrayList<>();
+        for (int i = 0; i < LENGTH; i++) {
+            ImageView ghost = trail.getGhost(i);
+            if (ghost.isVisible()) {
+                xs.add(ghost.getTranslateX());
+            }
+        }
+        xs.sort(null);
+        return xs;
+    }
+}
@@ -0,0 +1,29 @@
+package com.dinosaur.dinosaurexploder.constants;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.dinosaur.dinosaurexploder.constants.CoinDenomination.FIVE;
+import static com.dinosaur.dinosaurexploder.constants.CoinDenomination.ONE;
+import static com.dinosaur.dinosaurexploder.constants.CoinDenomination.TWENTY_FIVE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoinDenominationTest {
+
+    @Test
+    void dropIsSplitIntoTheFewestCoins() {
+        assertEquals(List.of(TWENTY_FIVE, TWENTY_FIVE, FIVE, ONE, ONE), CoinDenomination.split(57));
+        assertEquals(List.of(ONE, ONE, ONE), CoinDenomination.split(3));
+        assertTrue(CoinDenomination.split(0).isEmpty());
+    }
+
+    @Test
+    void splitKeepsTheTotalValue() {
+        for (int amount = 0; amount <= 200; amount++) {
+            int total = CoinDenomination.split(amount).stream().mapToInt(CoinDenomination::getValue).sum();
+            assertEquals(amount, total);
+        }
+    }
+}
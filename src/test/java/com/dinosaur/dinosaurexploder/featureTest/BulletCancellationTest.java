@@ -0,0 +1,80 @@
+package com.dinosaur.dinosaurexploder.featureTest;
+
+import com.almasb.fxgl.entity.Entity;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.BulletCancellation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulletCancellationTest {
+
+    private TestWorld testWorld;
+    private BulletCancellation cancellation;
+    private final List<Entity[]> cancelled = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        testWorld = new TestWorld();
+        cancellation = new BulletCancellation(testWorld.getRegistry());
+        cancellation.setAction((projectile, enemyProjectile) -> {
+            cancelled.add(new Entity[]{projectile, enemyProjectile});
+            projectile.removeFromWorld();
+            enemyProjectile.removeFromWorld();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        testWorld.reset();
+    }
+
+    @Test
+    void touchingBulletsCancelEachOther() {
+        Entity projectile = testWorld.newEntity(EntityType.PROJECTILE, 100, 100, 10, 20);
+        Entity enemyProjectile = testWorld.newEntity(EntityType.ENEMY_PROJECTILE, 105, 110, 10, 20);
+
+        cancellation.onUpdate(0.016);
+
+        assertEquals(1, cancelled.size());
+        assertSame(projectile, cancelled.get(0)[0]);
+        assertSame(enemyProjectile, cancelled.get(0)[1]);
+        assertFalse(projectile.isActive());
+        assertFalse(enemyProjectile.isActive());
+        assertEquals(1, cancellation.getLastCancelled());
+    }
+
+    @Test
+    void distantBulletsAreKept() {
+        Entity projectile = testWorld.newEntity(EntityType.PROJECTILE, 100, 100, 10, 20);
+        Entity enemyProjectile = testWorld.newEntity(EntityType.ENEMY_PROJECTILE, 300, 100, 10, 20);
+
+        cancellation.onUpdate(0.016);
+
+        assertTrue(cancelled.isEmpty());
+        assertTrue(projectile.isActive());
+        assertTrue(enemyProjectile.isActive());
+    }
+
+    @Test
+    void bulletCancelsOneBulletOfTheOtherSide() {
+        testWorld.newEntity(EntityType.PROJECTILE, 100, 100, 10, 20);
+        Entity first = testWorld.newEntity(EntityType.ENEMY_PROJECTILE, 100, 90, 10, 20);
+        Entity second = testWorld.newEntity(EntityType.ENEMY_PROJECTILE, 100, 110, 10, 20);
+
+        cancellation.onUpdate(0.016);
+
+        assertEquals(1, cancelled.size());
+        assertSame(first, cancelled.get(0)[1]);
+        assertTrue(second.isActive());
+        assertEquals(1, cancellation.getCancelledTotal());
+    }
+}
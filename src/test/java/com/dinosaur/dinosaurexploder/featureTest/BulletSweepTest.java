@@ -0,0 +1,110 @@
+package com.dinosaur.dinosaurexploder.featureTest;
+
+import com.dinosaur.dinosaurexploder.controller.core.collisions.BulletSweep;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulletSweepTest {
+
+    private BulletSweep sweep;
+
+    @BeforeEach
+    void setUp() {
+        sweep = new BulletSweep();
+    }
+
+    @Test
+    void overlappingBoxesArePaired() {
+        sweep.addFirst(100, 100, 110, 130);
+        sweep.addFirst(300, 100, 310, 130);
+        sweep.addSecond(105, 120, 135, 137);
+
+        assertEquals(1, sweep.sweep((first, second) -> true));
+        assertEquals(0, sweep.getPairFirst(0));
+        assertEquals(0, sweep.getPairSecond(0));
+    }
+
+    @Test
+    void boxesTouchingOnlyOnAnEdgeAreNotPaired() {
+        sweep.addFirst(100, 100, 110, 130);
+        sweep.addSecond(100, 130, 110, 150);
+        sweep.addSecond(110, 100, 120, 130);
+
+        assertEquals(0, sweep.sweep((first, second) -> true));
+    }
+
+    @Test
+    void boxCancelsOnlyOneBoxOfTheOtherSet() {
+        sweep.addFirst(100, 100, 110, 130);
+        sweep.addSecond(100, 90, 110, 105);
+        sweep.addSecond(100, 110, 110, 120);
+
+        assertEquals(1, sweep.sweep((first, second) -> true));
+        assertEquals(0, sweep.getPairSecond(0));
+    }
+
+    @Test
+    void rejectedPairIsNotCancelled() {
+        sweep.addFirst(100, 100, 110, 130);
+        sweep.addSecond(100, 90, 110, 105);
+        sweep.addSecond(100, 110, 110, 120);
+
+        assertEquals(1, sweep.sweep((first, second) -> second == 1));
+        assertEquals(1, sweep.getPairSecond(0));
+    }
+
+    @Test
+    void boxesAboveThePlayfieldAreSortedToo() {
+        sweep.addFirst(0, -40, 10, -10);
+        sweep.addSecond(0, -20, 10, 5);
+
+        assertEquals(1, sweep.sweep((first, second) -> true));
+    }
+
+    @Test
+    void everyPairFoundOverlapsAndEveryBoxIsUsedOnce() {
+        Random random = new Random(7);
+        double[][] firstBoxes = new double[300][];
+        double[][] secondBoxes = new double[300][];
+        for (int i = 0; i < 300; i++) {
+            firstBoxes[i] = box(random, 12, 30);
+            secondBoxes[i] = box(random, 30, 17);
+            sweep.addFirst(firstBoxes[i][0], firstBoxes[i][1], firstBoxes[i][2], firstBoxes[i][3]);
+            sweep.addSecond(secondBoxes[i][0], secondBoxes[i][1], secondBoxes[i][2], secondBoxes[i][3]);
+        }
+
+        int pairs = sweep.sweep((first, second) -> true);
+
+        Set<Integer> usedFirst = new HashSet<>();
+        Set<Integer> usedSecond = new HashSet<>();
+        for (int p = 0; p < pairs; p++) {
+            double[] a = firstBoxes[sweep.getPairFirst(p)];
+            double[] b = secondBoxes[sweep.getPairSecond(p)];
+            assertTrue(a[0] < b[2] && a[2] > b[0] && a[1] < b[3] && a[3] > b[1]);
+            assertTrue(usedFirst.add(sweep.getPairFirst(p)));
+            assertTrue(usedSecond.add(sweep.getPairSecond(p)));
+        }
+        // No overlapping pair is left with both boxes unused
+        for (int i = 0; i < 300; i++) {
+            for (int j = 0; j < 300; j++) {
+                double[] a = firstBoxes[i];
+                double[] b = secondBoxes[j];
+                boolean overlap = a[0] < b[2] && a[2] > b[0] && a[1] < b[3] && a[3] > b[1];
+                assertTrue(!overlap || usedFirst.contains(i) || usedSecond.contains(j));
+            }
+        }
+    }
+
+    private static double[] box(Random random, double width, double height) {
+        double x = random.nextInt(550);
+        double y = random.nextInt(750);
+        return new double[]{x, y, x + width, y + height};
+    }
+}
@@ -0,0 +1,162 @@
+package com.dinosaur.dinosaurexploder.featureTest;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.SpawnData;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.controller.core.BulletSystem;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionQueue;
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class BulletSystemTest {
+
+    private TestWorld testWorld;
+    private BulletSystem bullets;
+    private final CollisionQueue queue = new CollisionQueue();
+    private final List<Entity[]> hits = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        testWorld = new TestWorld();
+        bullets = new BulletSystem(testWorld.getRegistry(), queue, 4);
+        bullets.define("bullet", EntityType.PROJECTILE, 10, 10, 100, null, null);
+        bullets.define("enemyBullet", EntityType.ENEMY_PROJECTILE, 10, 10, 100, null, null);
+        bullets.start(600, 800, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testWorld.reset();
+    }
+
+    // Runs a tick of the bullets, then resolves the hits it posted like the CLEANUP phase does
+    private void update(double tpf) {
+        bullets.onUpdate(tpf);
+        queue.resolve();
+    }
+
+    private void fire(String spawnName, double x, double y, Point2D direction) {
+        bullets.fire(spawnName, new SpawnData(x, y).put("direction", direction));
+    }
+
+    @Test
+    void bulletMovesInItsDirection() {
+        fire("bullet", 100, 400, new Point2D(0, -2));
+
+        update(0.5);
+
+        assertEquals(1, bullets.size());
+        assertEquals(100, bullets.getX(0), 1e-9);
+        assertEquals(350, bullets.getY(0), 1e-9);
+    }
+
+    @Test
+    void bulletOutsideTheScreenIsRemoved() {
+        fire("bullet", 100, 10, new Point2D(0, -1));
+
+        update(1);
+
+        assertEquals(0, bullets.size());
+    }
+
+    @Test
+    void hitRunsTheCollisionActionAndRemovesTheBullet() {
+        Entity greenDino = testWorld.newEntity(EntityType.GREEN_DINO, 90, 300, 50, 50);
+        bullets.addHandler(EntityType.PROJECTILE, EntityType.GREEN_DINO,
+                (projectile, dino) -> hits.add(new Entity[]{projectile, dino}));
+        fire("bullet", 100, 400, new Point2D(0, -1));
+
+        update(0.5);
+        update(0.5);
+
+        assertEquals(1, hits.size());
+        assertEquals(EntityType.PROJECTILE, hits.get(0)[0].getType());
+        assertSame(greenDino, hits.get(0)[1]);
+        assertEquals(0, bullets.size());
+        assertEquals(1, bullets.getHits());
+    }
+
+    @Test
+    void bulletIsGivenInTheOrderOfTheCollisionTypes() {
+        Entity player = testWorld.newEntity(EntityType.PLAYER, 90, 400, 50, 50);
+        bullets.addHandler(EntityType.PLAYER, EntityType.ENEMY_PROJECTILE,
+                (ship, projectile) -> hits.add(new Entity[]{ship, projectile}));
+        fire("enemyBullet", 100, 300, new Point2D(0, 1));
+
+        update(1);
+
+        assertEquals(1, hits.size());
+        assertSame(player, hits.get(0)[0]);
+        assertEquals(EntityType.ENEMY_PROJECTILE, hits.get(0)[1].getType());
+    }
+
+    @Test
+    void removedEntityIsNotHitAgain() {
+        bullets.addHandler(EntityType.PROJECTILE, EntityType.GREEN_DINO,
+                (projectile, dino) -> {
+                    hits.add(new Entity[]{projectile, dino});
+                    queue.remove(dino);
+                });
+        testWorld.newEntity(EntityType.GREEN_DINO, 90, 320, 50, 50);
+        fire("bullet", 100, 360, new Point2D(0, -1));
+        fire("bullet", 105, 360, new Point2D(0, -1));
+
+        update(0.1);
+
+        assertEquals(1, hits.size());
+        assertEquals(1, queue.getLastDropped());
+    }
+
+    @Test
+    void everyHitKeepsWhereItsBulletWas() {
+        bullets.addHandler(EntityType.PROJECTILE, EntityType.GREEN_DINO,
+                (projectile, dino) -> hits.add(new Entity[]{projectile, dino}));
+        testWorld.newEntity(EntityType.GREEN_DINO, 90, 300, 50, 50);
+        testWorld.newEntity(EntityType.GREEN_DINO, 290, 300, 50, 50);
+        fire("bullet", 100, 360, new Point2D(0, -1));
+        fire("bullet", 300, 360, new Point2D(0, -1));
+
+        bullets.onUpdate(0.1);
+        assertEquals(0, hits.size());
+        queue.resolve();
+
+        assertEquals(2, hits.size());
+        assertEquals(100, hits.get(0)[0].getX(), 1e-9);
+        assertEquals(300, hits.get(1)[0].getX(), 1e-9);
+    }
+
+    @Test
+    void playerAndEnemyBulletsCancelEachOther() {
+        bullets.addHandler(EntityType.PROJECTILE, EntityType.ENEMY_PROJECTILE,
+                (projectile, enemyProjectile) -> hits.add(new Entity[]{projectile, enemyProjectile}));
+        fire("bullet", 100, 400, new Point2D(0, -1));
+        fire("enemyBullet", 105, 300, new Point2D(0, 1));
+        fire("enemyBullet", 300, 300, new Point2D(0, 1));
+
+        update(0.45);
+
+        assertEquals(1, hits.size());
+        assertEquals(EntityType.PROJECTILE, hits.get(0)[0].getType());
+        assertEquals(EntityType.ENEMY_PROJECTILE, hits.get(0)[1].getType());
+        assertEquals(1, bullets.size());
+        assertEquals(1, bullets.getCancelled());
+    }
+
+    @Test
+    void shotsAboveTheCapacityAreDropped() {
+        for (int i = 0; i < 5; i++) {
+            fire("bullet", 100 + i, 400, new Point2D(0, -1));
+        }
+
+        assertEquals(4, bullets.size());
+        assertEquals(1, bullets.getDropped());
+    }
+}
@@ -0,0 +1,113 @@
+package com.dinosaur.dinosaurexploder.featureTest;
+
+import com.almasb.fxgl.entity.Entity;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CollisionQueueTest {
+
+    private TestWorld testWorld;
+    private CollisionQueue queue;
+    private final List<Entity[]> hits = new ArrayList<>();
+    private BiConsumer<Entity, Entity> projectileGreenDino;
+
+    @BeforeEach
+    void setUp() {
+        testWorld = new TestWorld();
+        queue = new CollisionQueue();
+        // Like ProjectileGreenDinoCollision: both entities are removed
+        projectileGreenDino = queue.queued((projectile, greenDino) -> {
+            hits.add(new Entity[]{projectile, greenDino});
+            assertTrue(greenDino.isActive());
+            queue.remove(projectile);
+            queue.remove(greenDino);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        testWorld.reset();
+    }
+
+    @Test
+    void hitsRunAtTheEndOfTheTick() {
+        Entity projectile = testWorld.newEntity(EntityType.PROJECTILE, 0, 0);
+        Entity greenDino = testWorld.newEntity(EntityType.GREEN_DINO, 0, 0);
+
+        projectileGreenDino.accept(projectile, greenDino);
+        assertTrue(hits.isEmpty());
+
+        queue.onUpdate(0.016);
+
+        assertEquals(1, hits.size());
+        assertFalse(projectile.isActive());
+        assertFalse(greenDino.isActive());
+        assertEquals(2, queue.getLastRemoved());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void secondProjectileOnTheSameDinoIsDropped() {
+        Entity first = testWorld.newEntity(EntityType.PROJECTILE, 0, 0);
+        Entity second = testWorld.newEntity(EntityType.PROJECTILE, 0, 0);
+        Entity greenDino = testWorld.newEntity(EntityType.GREEN_DINO, 0, 0);
+
+        projectileGreenDino.accept(first, greenDino);
+        projectileGreenDino.accept(second, greenDino);
+        queue.onUpdate(0.016);
+
+        assertEquals(1, hits.size());
+        assertSame(first, hits.get(0)[0]);
+        assertTrue(second.isActive());
+        assertEquals(1, queue.getLastDropped());
+    }
+
+    @Test
+    void sameHitPostedTwiceRunsOnce() {
+        List<Entity> touched = new ArrayList<>();
+        BiConsumer<Entity, Entity> playerRedDino = queue.queued((player, redDino) -> touched.add(redDino));
+        Entity player = testWorld.newEntity(EntityType.PLAYER, 0, 0);
+        Entity redDino = testWorld.newEntity(EntityType.RED_DINO, 0, 0);
+
+        playerRedDino.accept(player, redDino);
+        playerRedDino.accept(player, redDino);
+        queue.onUpdate(0.016);
+
+        assertEquals(1, touched.size());
+        assertEquals(1, queue.getLastDropped());
+    }
+
+    @Test
+    void entityRemovedBeforeTheEndOfTheTickIsNotHit() {
+        Entity projectile = testWorld.newEntity(EntityType.PROJECTILE, 0, 0);
+        Entity greenDino = testWorld.newEntity(EntityType.GREEN_DINO, 0, 0);
+
+        projectileGreenDino.accept(projectile, greenDino);
+        greenDino.removeFromWorld();
+        queue.onUpdate(0.016);
+
+        assertTrue(hits.isEmpty());
+        assertTrue(projectile.isActive());
+    }
+
+    @Test
+    void removalOutsideOfTheBatchIsImmediate() {
+        Entity coin = testWorld.newEntity(EntityType.COIN, 0, 0);
+
+        queue.remove(coin);
+
+        assertFalse(coin.isActive());
+    }
+}
@@ -0,0 +1,215 @@
+package com.dinosaur.dinosaurexploder.featureTest;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.components.CollidableComponent;
+import com.almasb.fxgl.physics.BoundingShape;
+import com.almasb.fxgl.physics.HitBox;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.CollisionSystem;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.PixelNarrowphase;
+import com.dinosaur.dinosaurexploder.utils.PixelMask;
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CollisionSystemTest {
+
+    private TestWorld testWorld;
+    private CollisionSystem collisions;
+    private final List<Entity> hitDinos = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        testWorld = new TestWorld();
+        collisions = new CollisionSystem(550, 750, 64);
+        collisions.attach(testWorld.getWorld());
+        collisions.addHandler(EntityType.PROJECTILE, EntityType.GREEN_DINO, (projectile, greenDino) -> hitDinos.add(greenDino));
+    }
+
+    @AfterEach
+    void tearDown() {
+        testWorld.reset();
+    }
+
+    @Test
+    void touchingPairRunsItsActionOncePerContact() {
+        testWorld.newEntity(EntityType.PROJECTILE, 100, 100, 10, 10, new CollidableComponent(true));
+        Entity greenDino = testWorld.newEntity(EntityType.GREEN_DINO, 95, 90, 50, 50, new CollidableComponent(true));
+
+        collisions.onUpdate(0.016);
+        collisions.onUpdate(0.016);
+
+        assertEquals(1, hitDinos.size());
+        assertSame(greenDino, hitDinos.get(0));
+        assertEquals(1, collisions.getLastContacts());
+        assertEquals(0, collisions.getLastHits());
+    }
+
+    @Test
+    void newContactRunsTheActionAgain() {
+        Entity projectile = testWorld.newEntity(EntityType.PROJECTILE, 100, 100, 10, 10, new CollidableComponent(true));
+        testWorld.newEntity(EntityType.GREEN_DINO, 95, 90, 50, 50, new CollidableComponent(true));
+
+        collisions.onUpdate(0.016);
+        projectile.setY(300);
+        collisions.onUpdate(0.016);
+        projectile.setY(100);
+        collisions.onUpdate(0.016);
+
+        assertEquals(2, hitDinos.size());
+    }
+
+    @Test
+    void candidatesInTheSameCellWithoutTouchingHitboxesAreNotHits() {
+        testWorld.newEntity(EntityType.PROJECTILE, 70, 70, 5, 5, new CollidableComponent(true));
+        testWorld.newEntity(EntityType.GREEN_DINO, 100, 100, 20, 20, new CollidableComponent(true));
+
+        collisions.onUpdate(0.016);
+
+        assertEquals(1, collisions.getLastCandidates());
+        assertEquals(0, collisions.getLastContacts());
+        assertTrue(hitDinos.isEmpty());
+    }
+
+    @Test
+    void followedEntitiesAreNoLongerTestedByFxgl() {
+        Entity projectile = testWorld.newEntity(EntityType.PROJECTILE, 100, 100, 10, 10, new CollidableComponent(true));
+
+        assertFalse(projectile.getComponent(CollidableComponent.class).getValue());
+        assertTrue(collisions.getGrid().contains(projectile));
+
+        testWorld.getWorld().removeEntity(projectile);
+        assertFalse(collisions.getGrid().contains(projectile));
+    }
+
+    @Test
+    void newHandlerForTheSameTypesReplacesThePreviousOne() {
+        List<Entity> replaced = new ArrayList<>();
+        collisions.addHandler(EntityType.PROJECTILE, EntityType.GREEN_DINO, (projectile, greenDino) -> replaced.add(greenDino));
+        testWorld.newEntity(EntityType.PROJECTILE, 100, 100, 10, 10, new CollidableComponent(true));
+        testWorld.newEntity(EntityType.GREEN_DINO, 95, 90, 50, 50, new CollidableComponent(true));
+
+        collisions.onUpdate(0.016);
+
+        assertTrue(hitDinos.isEmpty());
+        assertEquals(1, replaced.size());
+    }
+
+    @Test
+    void largeTickIsCheckedOnSeveralThreads() {
+        collisions = new CollisionSystem(550, 750, 64, new ForkJoinPool(2));
+        collisions.attach(testWorld.getWorld());
+        collisions.addHandler(EntityType.PROJECTILE, EntityType.GREEN_DINO, (projectile, greenDino) -> hitDinos.add(greenDino));
+        collisions.setParallelThreshold(0);
+        testWorld.newEntity(EntityType.PROJECTILE, 100, 100, 10, 10, new CollidableComponent(true));
+        Entity greenDino = testWorld.newEntity(EntityType.GREEN_DINO, 95, 90, 50, 50, new CollidableComponent(true));
+        testWorld.newEntity(EntityType.PROJECTILE, 70, 70, 5, 5, new CollidableComponent(true));
+
+        collisions.onUpdate(0.016);
+        collisions.onUpdate(0.016);
+
+        assertTrue(collisions.isLastParallel());
+        assertEquals(1, hitDinos.size());
+        assertSame(greenDino, hitDinos.get(0));
+        assertEquals(2, collisions.getLastCandidates());
+        assertEquals(1, collisions.getLastContacts());
+    }
+
+    @Test
+    void pixelsAreCheckedOnSeveralThreads() {
+        collisions = new CollisionSystem(550, 750, 64, new ForkJoinPool(2));
+        collisions.attach(testWorld.getWorld());
+        collisions.addHandler(EntityType.PROJECTILE, EntityType.GREEN_DINO, (projectile, greenDino) -> hitDinos.add(greenDino));
+        collisions.setParallelThreshold(0);
+        // Only the right half of the dino is solid
+        int[] argb = new int[50 * 50];
+        for (int i = 0; i < argb.length; i++) {
+            argb[i] = i % 50 >= 25 ? 0xFF000000 : 0;
+        }
+        Entity greenDino = testWorld.newEntity(EntityType.GREEN_DINO, 100, 100, 50, 50, new CollidableComponent(true));
+        greenDino.setProperty(PixelNarrowphase.MASK_PROPERTY, PixelMask.fromArgb(argb, 50, 50));
+        Entity leftProjectile = testWorld.newEntity(EntityType.PROJECTILE, 105, 120, 10, 10, new CollidableComponent(true));
+        long rejected = PixelNarrowphase.getInstance().getRejected();
+
+        collisions.onUpdate(0.016);
+        assertTrue(hitDinos.isEmpty());
+        assertEquals(rejected + 1, PixelNarrowphase.getInstance().getRejected());
+
+        leftProjectile.setX(135);
+        collisions.onUpdate(0.016);
+        assertEquals(1, hitDinos.size());
+    }
+
+    @Test
+    void parallelTickFindsTheSameHitsAsOneThread() {
+        List<String> sequential = hitsOfRandomScene(new CollisionSystem(550, 750, 64), Integer.MAX_VALUE);
+        List<String> parallel = hitsOfRandomScene(new CollisionSystem(550, 750, 64, new ForkJoinPool(4)), 0);
+
+        assertFalse(sequential.isEmpty());
+        assertEquals(sequential, parallel);
+    }
+
+    // Straight and slanted shots through dinos with two hitboxes and holes in their masks, over a few ticks
+    private List<String> hitsOfRandomScene(CollisionSystem system, int parallelThreshold) {
+        testWorld.reset();
+        testWorld = new TestWorld();
+        system.attach(testWorld.getWorld());
+        system.setParallelThreshold(parallelThreshold);
+        List<String> hits = new ArrayList<>();
+        system.addHandler(EntityType.PROJECTILE, EntityType.GREEN_DINO,
+                (projectile, greenDino) -> hits.add(projectile.getInt("id") + "-" + greenDino.getInt("id")));
+        Random random = new Random(3);
+        int[] argb = new int[40 * 40];
+        for (int i = 0; i < argb.length; i++) {
+            argb[i] = (i / 40) % 8 < 5 ? 0xFF000000 : 0;
+        }
+        PixelMask dinoMask = PixelMask.fromArgb(argb, 40, 40);
+        List<Entity> projectiles = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            Entity entity = new Entity();
+            entity.setType(i % 4 == 0 ? EntityType.GREEN_DINO : EntityType.PROJECTILE);
+            entity.setProperty("id", i);
+            entity.setPosition(random.nextInt(500), random.nextInt(700));
+            if (entity.isType(EntityType.GREEN_DINO)) {
+                entity.getBoundingBoxComponent().addHitBox(new HitBox(BoundingShape.box(40, 20)));
+                entity.getBoundingBoxComponent().addHitBox(new HitBox(new Point2D(10, 20), BoundingShape.box(20, 20)));
+                entity.setProperty(PixelNarrowphase.MASK_PROPERTY, dinoMask);
+                if (i % 12 == 0) {
+                    entity.setScaleX(1.5);
+                }
+            } else {
+                entity.getBoundingBoxComponent().addHitBox(new HitBox(BoundingShape.box(20, 6)));
+                entity.setProperty(PixelNarrowphase.MASK_PROPERTY, PixelMask.fromArgb(fullArgb(20 * 6), 20, 6));
+                entity.setRotation(i % 3 == 0 ? random.nextInt(360) : -90);
+                projectiles.add(entity);
+            }
+            entity.addComponent(new CollidableComponent(true));
+            testWorld.getWorld().addEntity(entity);
+        }
+        for (int tick = 0; tick < 5; tick++) {
+            system.onUpdate(0.016);
+            for (Entity projectile : projectiles) {
+                projectile.translateY(-7);
+            }
+        }
+        return hits;
+    }
+
+    private static int[] fullArgb(int size) {
+        int[] argb = new int[size];
+        Arrays.fill(argb, 0xFF000000);
+        return argb;
+    }
+}
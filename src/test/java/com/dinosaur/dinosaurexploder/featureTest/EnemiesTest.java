@@ -30,6 +30,7 @@ import com.dinosaur.dinosaurexploder.components.RedDinoComponent;
 
 import com.dinosaur.dinosaurexploder.components.ScoreComponent;
 import com.dinosaur.dinosaurexploder.utils.AudioManager;
+import com.dinosaur.dinosaurexploder.utils.EntityRegistry;
 import com.dinosaur.dinosaurexploder.utils.GameTimer;
 import com.dinosaur.dinosaurexploder.utils.LevelManager;
 import com.dinosaur.dinosaurexploder.view.DinosaurGUI;
@@ -97,6 +98,8 @@ public EnemiesTest() {
     @AfterEach
     void tearDown() {
         fxglMock.close();
+        // The reset test gives the registry singleton a LevelManager
+        EntityRegistry.getInstance().setLevelManager(null);
     }
 
      
@@ -133,10 +136,24 @@ public EnemiesTest() {
         
         assertEquals(1.5, enemySpeed);
     }
-    
+
+    @Test
+    @DisplayName("Recycled dino gets its lives back : amountOfLives=1")
+    void shouldRestoreLivesOnReset_amountOfLivesShouldBe1(){
+
+        //arange
+        EntityRegistry.getInstance().setLevelManager(new LevelManager());
+        greenD.damage(1);
+        //act
+        greenD.reset();
+
+        //assert
+        assertEquals(1, greenD.getLives());
+    }
+
+
 
 
-    
 
 
 }
@@ -0,0 +1,91 @@
+package com.dinosaur.dinosaurexploder.featureTest;
+
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.time.LocalTimer;
+import com.dinosaur.dinosaurexploder.components.GreenDinoComponent;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.controller.core.GreenDinoSwarm;
+import com.dinosaur.dinosaurexploder.utils.LevelManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GreenDinoSwarmTest {
+
+    private MockedStatic<FXGL> fxglMock;
+    private TestWorld testWorld;
+    private GreenDinoSwarm swarm;
+    private int shots;
+
+    @BeforeEach
+    void setUp() {
+        fxglMock = Mockito.mockStatic(FXGL.class);
+        fxglMock.when(FXGL::newLocalTimer).thenReturn(Mockito.mock(LocalTimer.class));
+        testWorld = new TestWorld();
+        testWorld.getRegistry().setLevelManager(new LevelManager());
+        swarm = new GreenDinoSwarm(greenDino -> shots++);
+        swarm.attach(testWorld.getWorld());
+    }
+
+    @AfterEach
+    void tearDown() {
+        fxglMock.close();
+        testWorld.reset();
+    }
+
+    @Test
+    void swarmMovesTheDinosInsteadOfTheirComponent() {
+        Entity greenDino = testWorld.newEntity(EntityType.GREEN_DINO, 0, -50, new GreenDinoComponent());
+
+        swarm.onUpdate(0.016);
+        swarm.onUpdate(0.016);
+
+        assertEquals(-47, greenDino.getY(), 1e-9);
+        assertTrue(greenDino.getComponent(GreenDinoComponent.class).isPaused());
+    }
+
+    @Test
+    void dinoShootsOnScreenThenEveryInterval() {
+        testWorld.newEntity(EntityType.GREEN_DINO, 0, 10, new GreenDinoComponent());
+
+        swarm.onUpdate(0.1);
+        swarm.onUpdate(0.5);
+        swarm.onUpdate(0.5);
+        assertEquals(1, shots);
+
+        swarm.onUpdate(1.0);
+        assertEquals(2, shots);
+    }
+
+    @Test
+    void pausedDinoDoesNotMove() {
+        Entity greenDino = testWorld.newEntity(EntityType.GREEN_DINO, 0, -50, new GreenDinoComponent());
+
+        swarm.setPaused(greenDino, true);
+        swarm.onUpdate(0.016);
+
+        assertEquals(-50, greenDino.getY(), 1e-9);
+        assertEquals(0, shots);
+    }
+
+    @Test
+    void removedDinoLeavesTheSwarm() {
+        Entity first = testWorld.newEntity(EntityType.GREEN_DINO, 0, -50, new GreenDinoComponent());
+        Entity second = testWorld.newEntity(EntityType.GREEN_DINO, 0, -20, new GreenDinoComponent());
+
+        testWorld.getWorld().removeEntity(first);
+        swarm.onUpdate(0.016);
+
+        assertEquals(1, swarm.size());
+        assertFalse(swarm.contains(first));
+        assertFalse(first.getComponent(GreenDinoComponent.class).isPaused());
+        assertEquals(-18.5, second.getY(), 1e-9);
+    }
+}
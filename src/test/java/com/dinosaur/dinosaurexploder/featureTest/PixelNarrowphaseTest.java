@@ -0,0 +1,131 @@
+package com.dinosaur.dinosaurexploder.featureTest;
+
+import com.almasb.fxgl.entity.Entity;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.PixelNarrowphase;
+import com.dinosaur.dinosaurexploder.utils.PixelMask;
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PixelNarrowphaseTest {
+
+    private final PixelNarrowphase narrowphase = PixelNarrowphase.getInstance();
+    private TestWorld testWorld;
+
+    @BeforeEach
+    void setUp() {
+        testWorld = new TestWorld();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testWorld.reset();
+    }
+
+    private Entity newEntity(EntityType type, double x, double y, PixelMask mask) {
+        Entity entity = testWorld.newEntity(type, x, y);
+        entity.setProperty(PixelNarrowphase.MASK_PROPERTY, mask);
+        return entity;
+    }
+
+    private static PixelMask solidMask(int width, int height) {
+        int[] argb = new int[width * height];
+        Arrays.fill(argb, 0xFF000000);
+        return PixelMask.fromArgb(argb, width, height);
+    }
+
+    @Test
+    void straightShotIsCheckedWithItsTurnedMask() {
+        // Only the tip of the projectile is solid, it points up once turned like a player shot
+        int[] argb = new int[4 * 2];
+        argb[3] = 0xFF000000;
+        argb[7] = 0xFF000000;
+        Entity projectile = newEntity(EntityType.PROJECTILE, 100, 100, PixelMask.fromArgb(argb, 4, 2));
+        projectile.setRotation(-90);
+        Entity greenDino = newEntity(EntityType.GREEN_DINO, 95, 97, solidMask(10, 10));
+
+        assertEquals(PixelNarrowphase.ALIGNED_PIXEL_CHECK, narrowphase.pixelCheckOf(projectile, greenDino));
+        // The turned projectile covers x 100 to 102 and y 96 to 100, its tip is the row y = 96
+        assertFalse(narrowphase.accepts(projectile, greenDino));
+        greenDino.setY(96);
+        assertTrue(narrowphase.accepts(projectile, greenDino));
+    }
+
+    @Test
+    void turnedMasksMatchTheRotatedSprites() {
+        Random random = new Random(7);
+        for (int i = 0; i < 300; i++) {
+            PixelMask projectileMask = randomMask(random, 2 + random.nextInt(12), 2 + random.nextInt(12));
+            PixelMask dinoMask = randomMask(random, 2 + random.nextInt(20), 2 + random.nextInt(20));
+            Entity projectile = newEntity(EntityType.PROJECTILE, 100 + random.nextInt(10), 100 + random.nextInt(10),
+                    projectileMask);
+            projectile.getTransformComponent().setRotationOrigin(new Point2D(
+                    random.nextInt(projectileMask.getWidth()), random.nextInt(projectileMask.getHeight())));
+            int quarterTurns = random.nextInt(4);
+            projectile.setRotation(90 * quarterTurns - (random.nextBoolean() ? 360 : 0));
+            Entity greenDino = newEntity(EntityType.GREEN_DINO, 85 + random.nextInt(30), 85 + random.nextInt(30),
+                    dinoMask);
+
+            assertEquals(PixelNarrowphase.ALIGNED_PIXEL_CHECK, narrowphase.pixelCheckOf(projectile, greenDino));
+            assertEquals(overlapsBySampling(projectile, projectileMask, quarterTurns, greenDino, dinoMask),
+                    narrowphase.accepts(projectile, greenDino), "case " + i);
+        }
+    }
+
+    @Test
+    void unevenRotationIsSampled() {
+        // A thin bar turned by 45 degrees around its top left corner goes down and to the left
+        Entity projectile = newEntity(EntityType.PROJECTILE, 100, 100, solidMask(2, 20));
+        projectile.setRotation(45);
+        Entity greenDino = newEntity(EntityType.GREEN_DINO, 97, 101, solidMask(4, 4));
+
+        assertEquals(PixelNarrowphase.ROTATED_PIXEL_CHECK, narrowphase.pixelCheckOf(projectile, greenDino));
+        assertTrue(narrowphase.accepts(projectile, greenDino));
+        // Still inside the bounds of the bar, but away from it
+        greenDino.setPosition(86, 101);
+        assertFalse(narrowphase.accepts(projectile, greenDino));
+    }
+
+    private static PixelMask randomMask(Random random, int width, int height) {
+        int[] argb = new int[width * height];
+        for (int i = 0; i < argb.length; i++) {
+            argb[i] = random.nextInt(4) == 0 ? 0xFF000000 : 0;
+        }
+        return PixelMask.fromArgb(argb, width, height);
+    }
+
+    // Maps the centre of every pixel around the two sprites back into them with the exact quarter turn
+    private static boolean overlapsBySampling(Entity projectile, PixelMask projectileMask, int quarterTurns,
+                                              Entity greenDino, PixelMask dinoMask) {
+        int[] cos = {1, 0, -1, 0};
+        int[] sin = {0, 1, 0, -1};
+        Point2D origin = projectile.getTransformComponent().getRotationOrigin();
+        for (int y = 50; y < 150; y++) {
+            for (int x = 50; x < 150; x++) {
+                double dx = x + 0.5 - projectile.getX() - origin.getX();
+                double dy = y + 0.5 - projectile.getY() - origin.getY();
+                int localX = (int) Math.floor(origin.getX() + dx * cos[quarterTurns] + dy * sin[quarterTurns]);
+                int localY = (int) Math.floor(origin.getY() - dx * sin[quarterTurns] + dy * cos[quarterTurns]);
+                int dinoX = x - (int) greenDino.getX();
+                int dinoY = y - (int) greenDino.getY();
+                if (isSolid(projectileMask, localX, localY) && isSolid(dinoMask, dinoX, dinoY)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSolid(PixelMask mask, int x, int y) {
+        return x >= 0 && y >= 0 && x < mask.getWidth() && y < mask.getHeight() && mask.isSolid(x, y);
+    }
+}
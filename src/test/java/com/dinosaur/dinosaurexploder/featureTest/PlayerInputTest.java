@@ -0,0 +1,58 @@
+package com.dinosaur.dinosaurexploder.featureTest;
+
+import com.dinosaur.dinosaurexploder.controller.core.PlayerInput;
+import com.dinosaur.dinosaurexploder.interfaces.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PlayerInputTest {
+
+    private Player player;
+    private PlayerInput input;
+
+    @BeforeEach
+    void setUp() {
+        player = mock(Player.class);
+        input = new PlayerInput(() -> player);
+    }
+
+    @Test
+    void pressedKeysOnlyMoveTheShipInItsPhase() {
+        input.pressUp();
+        input.pressLeft();
+        verify(player, never()).moveUp();
+
+        input.onUpdate(0.016);
+
+        verify(player).moveUp();
+        verify(player).moveLeft();
+        verify(player, never()).moveDown();
+        verify(player, never()).moveRight();
+    }
+
+    @Test
+    void directionHeldWithTwoKeysMovesOncePerFrame() {
+        input.pressUp();
+        input.pressUp();
+
+        input.onUpdate(0.016);
+        input.onUpdate(0.016);
+
+        verify(player, times(1)).moveUp();
+    }
+
+    @Test
+    void shotIsFiredOnce() {
+        input.pressShoot();
+
+        input.onUpdate(0.016);
+        input.onUpdate(0.016);
+
+        verify(player, times(1)).shoot();
+    }
+}
@@ -0,0 +1,118 @@
+package com.dinosaur.dinosaurexploder.featureTest;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.physics.BoundingShape;
+import com.almasb.fxgl.physics.HitBox;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.CandidatePairs;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.SpatialHash;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SpatialHashTest {
+
+    private SpatialHash grid;
+    private CandidatePairs candidates;
+
+    @BeforeEach
+    void setUp() {
+        grid = new SpatialHash(550, 750, 64);
+        candidates = new CandidatePairs();
+    }
+
+    private Entity newEntity(EntityType type, double x, double y, double size) {
+        Entity entity = new Entity();
+        entity.setType(type);
+        entity.setPosition(x, y);
+        entity.getBoundingBoxComponent().addHitBox(new HitBox(BoundingShape.box(size, size)));
+        grid.add(entity);
+        return entity;
+    }
+
+    @Test
+    void gridCoversThePlayfield() {
+        assertEquals(9, grid.getColumns());
+        assertEquals(12, grid.getRows());
+    }
+
+    @Test
+    void onlyEntitiesSharingACellAreCandidates() {
+        Entity projectile = newEntity(EntityType.PROJECTILE, 100, 100, 10);
+        Entity closeDino = newEntity(EntityType.GREEN_DINO, 110, 90, 80);
+        newEntity(EntityType.GREEN_DINO, 400, 600, 80);
+
+        grid.collectPairs(EntityType.PROJECTILE, EntityType.GREEN_DINO, candidates);
+
+        assertEquals(1, candidates.size());
+        assertSame(projectile, candidates.getFirst(0));
+        assertSame(closeDino, candidates.getSecond(0));
+    }
+
+    @Test
+    void pairSharingManyCellsIsReportedOnce() {
+        newEntity(EntityType.PLAYER, 50, 50, 150);
+        newEntity(EntityType.GREEN_DINO, 60, 60, 150);
+
+        grid.collectPairs(EntityType.PLAYER, EntityType.GREEN_DINO, candidates);
+
+        assertEquals(1, candidates.size());
+    }
+
+    @Test
+    void movedEntityChangesCellsOnUpdate() {
+        Entity projectile = newEntity(EntityType.PROJECTILE, 100, 400, 10);
+        newEntity(EntityType.GREEN_DINO, 100, 100, 50);
+
+        projectile.setY(110);
+        grid.collectPairs(EntityType.PROJECTILE, EntityType.GREEN_DINO, candidates);
+        assertEquals(0, candidates.size());
+
+        grid.update();
+        grid.collectPairs(EntityType.PROJECTILE, EntityType.GREEN_DINO, candidates);
+        assertEquals(1, candidates.size());
+        assertEquals(1, grid.getMoves());
+    }
+
+    @Test
+    void entitiesOutsideThePlayfieldStayInTheBorderCells() {
+        newEntity(EntityType.GREEN_DINO, 20, -50, 40);
+        newEntity(EntityType.PROJECTILE, 30, 5, 10);
+
+        grid.collectPairs(EntityType.PROJECTILE, EntityType.GREEN_DINO, candidates);
+
+        assertEquals(1, candidates.size());
+    }
+
+    @Test
+    void removedEntityIsNoLongerACandidate() {
+        newEntity(EntityType.PROJECTILE, 100, 100, 10);
+        Entity greenDino = newEntity(EntityType.GREEN_DINO, 100, 100, 50);
+
+        grid.remove(greenDino);
+        grid.collectPairs(EntityType.PROJECTILE, EntityType.GREEN_DINO, candidates);
+
+        assertEquals(0, candidates.size());
+        assertFalse(grid.contains(greenDino));
+        assertEquals(1, grid.size());
+    }
+
+    @Test
+    void areaFindsEveryEntityOfTheTypeInItsCellsOnce() {
+        Entity bigDino = newEntity(EntityType.GREEN_DINO, 100, 100, 150);
+        newEntity(EntityType.GREEN_DINO, 400, 600, 80);
+        newEntity(EntityType.PROJECTILE, 120, 120, 10);
+        List<Entity> found = new ArrayList<>();
+
+        grid.collectInArea(EntityType.GREEN_DINO, 90, 90, 300, 300, found);
+
+        assertEquals(1, found.size());
+        assertSame(bigDino, found.get(0));
+    }
+}
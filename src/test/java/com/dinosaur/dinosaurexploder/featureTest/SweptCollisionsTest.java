@@ -0,0 +1,145 @@
+package com.dinosaur.dinosaurexploder.featureTest;
+
+import com.almasb.fxgl.entity.Entity;
+import com.dinosaur.dinosaurexploder.components.ContinuousCollisionComponent;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.SpatialHash;
+import com.dinosaur.dinosaurexploder.controller.core.collisions.SweptCollisions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SweptCollisionsTest {
+
+    private TestWorld testWorld;
+    private SweptCollisions swept;
+    private final List<Entity[]> hits = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        testWorld = new TestWorld();
+        swept = new SweptCollisions(testWorld.getRegistry());
+        swept.addHandler(EntityType.PROJECTILE, EntityType.ENEMY_PROJECTILE,
+                (projectile, enemyProjectile) -> hits.add(new Entity[]{projectile, enemyProjectile}));
+        swept.addHandler(EntityType.PLAYER, EntityType.PROJECTILE,
+                (player, projectile) -> hits.add(new Entity[]{player, projectile}));
+    }
+
+    @AfterEach
+    void tearDown() {
+        testWorld.reset();
+    }
+
+    @Test
+    void fastProjectileHitsTheThinTargetItJumpedOver() {
+        Entity projectile = testWorld.newEntity(EntityType.PROJECTILE, 100, 400, 10, 30, new ContinuousCollisionComponent());
+        Entity enemyProjectile = testWorld.newEntity(EntityType.ENEMY_PROJECTILE, 95, 360, 30, 5);
+
+        projectile.setY(320);
+        swept.onUpdate(0.016);
+
+        assertEquals(1, hits.size());
+        assertSame(projectile, hits.get(0)[0]);
+        assertSame(enemyProjectile, hits.get(0)[1]);
+        assertEquals(1, swept.getLastHits());
+    }
+
+    @Test
+    void sweptEntityIsNotMovedWhileItsPathIsChecked() {
+        Entity projectile = testWorld.newEntity(EntityType.PROJECTILE, 100, 400, 10, 30, new ContinuousCollisionComponent());
+        testWorld.newEntity(EntityType.ENEMY_PROJECTILE, 95, 360, 30, 5);
+        projectile.setY(320);
+        List<Number> moves = new ArrayList<>();
+        projectile.yProperty().addListener((observable, oldY, newY) -> moves.add(newY));
+
+        swept.onUpdate(0.016);
+
+        assertEquals(1, hits.size());
+        assertTrue(moves.isEmpty());
+    }
+
+    @Test
+    void targetsAreTakenFromTheGridWhenThereIsOne() {
+        Entity projectile = testWorld.newEntity(EntityType.PROJECTILE, 100, 400, 10, 30, new ContinuousCollisionComponent());
+        // The first target on the path is left out of the grid
+        testWorld.newEntity(EntityType.ENEMY_PROJECTILE, 95, 360, 30, 5);
+        Entity inGrid = testWorld.newEntity(EntityType.ENEMY_PROJECTILE, 95, 340, 30, 5);
+        SpatialHash grid = new SpatialHash(550, 750, 64);
+        grid.add(inGrid);
+        swept.setGrid(grid);
+
+        projectile.setY(300);
+        swept.onUpdate(0.016);
+
+        assertEquals(1, hits.size());
+        assertSame(inGrid, hits.get(0)[1]);
+    }
+
+    @Test
+    void targetBesideThePathIsNotHit() {
+        Entity projectile = testWorld.newEntity(EntityType.PROJECTILE, 100, 400, 10, 30, new ContinuousCollisionComponent());
+        testWorld.newEntity(EntityType.ENEMY_PROJECTILE, 130, 360, 30, 5);
+
+        projectile.setY(320);
+        swept.onUpdate(0.016);
+
+        assertTrue(hits.isEmpty());
+    }
+
+    @Test
+    void targetTouchedNowIsLeftToTheUsualCollisions() {
+        Entity projectile = testWorld.newEntity(EntityType.PROJECTILE, 100, 400, 10, 30, new ContinuousCollisionComponent());
+        testWorld.newEntity(EntityType.ENEMY_PROJECTILE, 95, 330, 30, 5);
+
+        projectile.setY(320);
+        swept.onUpdate(0.016);
+
+        assertTrue(hits.isEmpty());
+    }
+
+    @Test
+    void pathStartsAgainFromTheLastTick() {
+        Entity projectile = testWorld.newEntity(EntityType.PROJECTILE, 100, 400, 10, 30, new ContinuousCollisionComponent());
+        projectile.setY(320);
+        swept.onUpdate(0.016);
+        testWorld.newEntity(EntityType.ENEMY_PROJECTILE, 95, 360, 30, 5);
+
+        projectile.setY(240);
+        swept.onUpdate(0.016);
+
+        assertTrue(hits.isEmpty());
+        assertEquals(1, swept.getLastSwept());
+    }
+
+    @Test
+    void slowEntitiesAreNotSwept() {
+        Entity projectile = testWorld.newEntity(EntityType.PROJECTILE, 100, 400, 10, 30);
+        testWorld.newEntity(EntityType.ENEMY_PROJECTILE, 95, 360, 30, 5);
+
+        projectile.setY(320);
+        swept.onUpdate(0.016);
+
+        assertTrue(hits.isEmpty());
+        assertEquals(0, swept.getLastSwept());
+    }
+
+    @Test
+    void hitIsGivenInTheOrderOfTheCollisionTypes() {
+        Entity player = testWorld.newEntity(EntityType.PLAYER, 90, 100, 40, 4);
+        Entity projectile = testWorld.newEntity(EntityType.PROJECTILE, 100, 200, 10, 30, new ContinuousCollisionComponent());
+
+        projectile.setY(50);
+        swept.onUpdate(0.016);
+
+        assertEquals(1, hits.size());
+        assertSame(player, hits.get(0)[0]);
+        assertSame(projectile, hits.get(0)[1]);
+    }
+}
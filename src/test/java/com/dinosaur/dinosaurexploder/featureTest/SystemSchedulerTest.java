@@ -0,0 +1,77 @@
+package com.dinosaur.dinosaurexploder.featureTest;
+
+import com.dinosaur.dinosaurexploder.controller.core.SystemScheduler;
+import com.dinosaur.dinosaurexploder.controller.core.SystemScheduler.Phase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SystemSchedulerTest {
+
+    private SystemScheduler scheduler;
+    private final List<String> runs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new SystemScheduler();
+    }
+
+    @Test
+    void phasesRunInOrderWhateverTheOrderTheSystemsWereAdded() {
+        scheduler.add(Phase.HUD, tpf -> runs.add("hud"));
+        scheduler.add(Phase.COLLISION, tpf -> runs.add("collision"));
+        scheduler.add(Phase.AI, tpf -> runs.add("ai"));
+        scheduler.add(Phase.MOVEMENT, tpf -> runs.add("movement"));
+        scheduler.add(Phase.CLEANUP, tpf -> runs.add("cleanup"));
+        scheduler.add(Phase.INPUT, tpf -> runs.add("input"));
+
+        scheduler.onUpdate(0.016);
+
+        assertEquals(List.of("input", "ai", "movement", "collision", "cleanup", "hud"), runs);
+    }
+
+    @Test
+    void systemsOfAPhaseRunInTheOrderTheyWereAdded() {
+        scheduler.add(Phase.MOVEMENT, tpf -> runs.add("first " + tpf));
+        scheduler.add(Phase.MOVEMENT, tpf -> runs.add("second " + tpf));
+
+        scheduler.onUpdate(0.5);
+
+        assertEquals(List.of("first 0.5", "second 0.5"), runs);
+    }
+
+    @Test
+    void timingsAreAveragedPerFrame() {
+        scheduler.add(Phase.AI, tpf -> {
+            long start = System.nanoTime();
+            while (System.nanoTime() - start < 1_000_000) {
+                // busy for a millisecond
+            }
+        });
+
+        scheduler.onUpdate(0.016);
+        scheduler.onUpdate(0.016);
+
+        assertEquals(2, scheduler.getTicks());
+        assertTrue(scheduler.getAverageMillis(Phase.AI) >= 1);
+        assertTrue(scheduler.getAverageMillis(Phase.AI) > scheduler.getAverageMillis(Phase.HUD));
+    }
+
+    @Test
+    void clearRemovesTheSystemsAndTheTimings() {
+        scheduler.add(Phase.AI, tpf -> runs.add("ai"));
+        scheduler.onUpdate(0.016);
+
+        scheduler.clear();
+        scheduler.onUpdate(0.016);
+
+        assertEquals(1, runs.size());
+        assertEquals(0, scheduler.getSystems(Phase.AI).size());
+        assertEquals(1, scheduler.getTicks());
+    }
+}
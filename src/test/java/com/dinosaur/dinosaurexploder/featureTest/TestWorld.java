@@ -0,0 +1,68 @@
+package com.dinosaur.dinosaurexploder.featureTest;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+import com.almasb.fxgl.entity.component.Component;
+import com.almasb.fxgl.physics.BoundingShape;
+import com.almasb.fxgl.physics.HitBox;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import com.dinosaur.dinosaurexploder.utils.EntityRegistry;
+
+/**
+ * Summary :
+ * Game world of the feature tests, followed by the EntityRegistry like in the game.
+ * The tests place their entities with newEntity and call reset() after each test, so the registry
+ * singleton does not keep the entities and the LevelManager of a previous test.
+ */
+class TestWorld {
+    private final GameWorld world = new GameWorld();
+
+    TestWorld() {
+        EntityRegistry.getInstance().attach(world);
+    }
+
+    GameWorld getWorld() {
+        return world;
+    }
+
+    EntityRegistry getRegistry() {
+        return EntityRegistry.getInstance();
+    }
+
+    /**
+     * Summary :
+     * Adds an entity without hitbox to the world, its components are added before it enters the world
+     */
+    Entity newEntity(EntityType type, double x, double y, Component... components) {
+        Entity entity = new Entity();
+        entity.setType(type);
+        entity.setPosition(x, y);
+        for (Component component : components) {
+            entity.addComponent(component);
+        }
+        world.addEntity(entity);
+        return entity;
+    }
+
+    /**
+     * Summary :
+     * Adds an entity with one box hitbox at its position to the world
+     */
+    Entity newEntity(EntityType type, double x, double y, double width, double height, Component... components) {
+        Entity entity = new Entity();
+        entity.setType(type);
+        entity.setPosition(x, y);
+        entity.getBoundingBoxComponent().addHitBox(new HitBox(BoundingShape.box(width, height)));
+        for (Component component : components) {
+            entity.addComponent(component);
+        }
+        world.addEntity(entity);
+        return entity;
+    }
+
+    void reset() {
+        EntityRegistry registry = EntityRegistry.getInstance();
+        registry.detach();
+        registry.setLevelManager(null);
+    }
+}
@@ -128,6 +128,35 @@ class CollisionHandlerTest {
         assertEquals(MAX_BOMB_COUNT, bombComponent.getBombCount());
     }
 
+    @Test
+    void playerGetCoinWorthSeveralCoins_thenCreditFullValue() {
+        CollectedCoinsComponent collectedCoinsComponent = new CollectedCoinsComponent() {
+            @Override
+            protected void updateText() {
+                //do nothing
+            }
+        };
+        BombComponent bombComponent = new BombComponent() {
+            @Override
+            protected void updateBombUI() {
+                // do nothing
+            }
+
+            @Override
+            protected void spawnBombBullets(Entity player) {
+                // do nothing
+            }
+        };
+        ScoreComponent scoreComponent = new ScoreComponent();
+        bombComponent.useBomb(Mockito.mock(Entity.class));
+
+        collisionHandler.onPlayerGetCoin(collectedCoinsComponent, scoreComponent, bombComponent, 25);
+
+        assertEquals(25, collectedCoinsComponent.getCoin());
+        assertEquals(50, scoreComponent.getScore());
+        assertEquals(MAX_BOMB_COUNT, bombComponent.getBombCount());
+    }
+
     @Test
     void playGetHeart_thenIncreaseLife() {
         LifeComponent lifeComponent = new LifeComponent();
@@ -1,7 +1,91 @@
 package com.dinosaur.dinosaurexploder.model;
 
-import static org.junit.jupiter.api.Assertions.*;
+import com.almasb.fxgl.app.Engine;
+import com.almasb.fxgl.app.FXGLApplication;
+import com.almasb.fxgl.app.GameApplication;
+import com.almasb.fxgl.app.services.FXGLAssetLoaderService;
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.SpawnData;
+import com.almasb.fxgl.entity.Spawns;
+import com.almasb.fxgl.texture.Texture;
+import com.dinosaur.dinosaurexploder.utils.EntityRegistry;
+import com.dinosaur.dinosaurexploder.utils.LevelManager;
+import javafx.geometry.Point2D;
+import javafx.scene.image.WritableImage;
+import javafx.scene.text.Text;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class GameEntityFactoryTest {
 
-}
\ No newline at end of file
+    private final GameEntityFactory factory = new GameEntityFactory();
+
+    @BeforeEach
+    void setUp() {
+        // Stands in for the engine of a running game, so the factory can be called without a window
+        Engine engine = mock(Engine.class, RETURNS_DEEP_STUBS);
+        when(engine.getSettings().getWidth()).thenReturn(550);
+        when(engine.getSettings().getHeight()).thenReturn(750);
+        // Like FXGL, a missing texture is drawn as a placeholder
+        FXGLAssetLoaderService assetLoader = mock(FXGLAssetLoaderService.class);
+        when(assetLoader.loadTexture(anyString(), anyDouble(), anyDouble()))
+                .thenAnswer(invocation -> new Texture(new WritableImage(1, 1)));
+        doReturn(assetLoader).when(engine).getService(FXGLAssetLoaderService.class);
+        doReturn(mock(FXGLApplication.GameApplicationService.class, RETURNS_DEEP_STUBS))
+                .when(engine).getService(FXGLApplication.GameApplicationService.class);
+        FXGL.inject$fxgl(engine, mock(GameApplication.class), mock(FXGLApplication.class));
+        EntityRegistry.getInstance().setLevelManager(new LevelManager());
+    }
+
+    @AfterEach
+    void tearDown() {
+        EntityRegistry.getInstance().setLevelManager(null);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> everySpawnNameBuildsItsEntity() {
+        return Arrays.stream(GameEntityFactory.class.getMethods())
+                .filter(method -> method.isAnnotationPresent(Spawns.class))
+                .map(method -> DynamicTest.dynamicTest(method.getAnnotation(Spawns.class).value(),
+                        () -> assertNotNull(spawn(method))));
+    }
+
+    private Entity spawn(Method method) throws Throwable {
+        SpawnData data = new SpawnData(100, 100)
+                .put("direction", new Point2D(0, -1))
+                .put("levelManager", new LevelManager());
+        try {
+            return (Entity) method.invoke(factory, data);
+        } catch (InvocationTargetException e) {
+            // The text views need the native font libraries of JavaFX, which a headless build may not have
+            assumeFalse(e.getCause() instanceof LinkageError && !canCreateText(), "JavaFX text is not available");
+            throw e.getCause();
+        }
+    }
+
+    private static boolean canCreateText() {
+        try {
+            new Text("");
+            return true;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.dinosaur.dinosaurexploder.model;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RecyclingPoolTest {
+
+    private GameWorld world;
+    private RecyclingPool pool;
+
+    @BeforeEach
+    void setUp() {
+        world = new GameWorld();
+        pool = new RecyclingPool("test");
+    }
+
+    @Test
+    void removedEntityIsReusedAfterTheNextUpdate() {
+        Entity entity = pool.track(new Entity());
+        world.addEntity(entity);
+
+        world.removeEntity(entity);
+        assertEquals(1, pool.size());
+
+        world.onUpdate(0.016);
+        assertSame(entity, pool.take());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    void entityStillAttachedToTheWorldIsNotTaken() {
+        Entity entity = pool.track(new Entity());
+        world.addEntity(entity);
+        world.onUpdate(0.016);
+
+        world.removeEntity(entity);
+
+        assertNull(pool.take());
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void statisticsCountCreatedAndReusedEntities() {
+        Entity first = pool.track(new Entity());
+        Entity second = pool.track(new Entity());
+        world.addEntities(first, second);
+        world.removeEntities(first, second);
+        world.onUpdate(0.016);
+
+        pool.take();
+
+        assertEquals(2, pool.getHighWaterMark());
+        assertEquals(2, pool.getCreated());
+        assertEquals(1, pool.getReused());
+        assertEquals(1.0 / 3, pool.getReuseRate(), 1e-9);
+        assertFalse(first.isActive());
+    }
+}
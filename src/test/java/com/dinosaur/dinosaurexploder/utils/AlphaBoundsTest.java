@@ -0,0 +1,61 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AlphaBoundsTest {
+
+    private static final int SOLID = 0xFF00FF00;
+
+    private static int[] sprite(int width, int height, int[]... solidBoxes) {
+        int[] argb = new int[width * height];
+        for (int[] box : solidBoxes) {
+            for (int y = box[1]; y < box[1] + box[3]; y++) {
+                for (int x = box[0]; x < box[0] + box[2]; x++) {
+                    argb[y * width + x] = SOLID;
+                }
+            }
+        }
+        return argb;
+    }
+
+    @Test
+    void transparentBorderIsCut() {
+        int[] argb = sprite(20, 10, new int[]{4, 2, 10, 5});
+
+        List<int[]> boxes = AlphaBounds.hitBoxes(argb, 20, 10);
+
+        assertEquals(1, boxes.size());
+        assertArrayEquals(new int[]{4, 2, 10, 5}, boxes.get(0));
+    }
+
+    @Test
+    void almostTransparentPixelsAreIgnored() {
+        int[] argb = sprite(10, 10, new int[]{2, 2, 3, 3});
+        argb[0] = 0x10FFFFFF;
+
+        assertArrayEquals(new int[]{2, 2, 3, 3}, AlphaBounds.hitBoxes(argb, 10, 10).get(0));
+    }
+
+    @Test
+    void emptySpriteHasNoBox() {
+        assertTrue(AlphaBounds.hitBoxes(new int[16], 4, 4).isEmpty());
+    }
+
+    @Test
+    void tallSparseShapeIsSliced() {
+        // A wide head on top of a thin body, like the orange dino
+        int[] argb = sprite(30, 60, new int[]{0, 0, 30, 20}, new int[]{12, 20, 6, 40});
+
+        List<int[]> boxes = AlphaBounds.hitBoxes(argb, 30, 60);
+
+        assertTrue(boxes.size() > 1);
+        long area = boxes.stream().mapToLong(box -> (long) box[2] * box[3]).sum();
+        assertTrue(area <= 30 * 60 * 0.8);
+    }
+}
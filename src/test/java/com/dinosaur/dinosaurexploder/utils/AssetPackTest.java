@@ -0,0 +1,60 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.dinosaur.dinosaurexploder.tools.AssetPackBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AssetPackTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void packedAssetsAreReadBack() throws IOException {
+        byte[] coin = {1, 2, 3, (byte) 0xFF};
+        Files.createDirectories(folder.resolve("assets/textures"));
+        Files.createDirectories(folder.resolve("assets/translation"));
+        Files.write(folder.resolve("assets/textures/coin.png"), coin);
+        Files.write(folder.resolve("assets/translation/english.json"), "{\"start\":\"Start\"}".getBytes(StandardCharsets.UTF_8));
+
+        Path packFile = folder.resolve("assets.pack");
+        AssetPackBuilder.write(folder, List.of("assets/textures/coin.png", "assets/translation/english.json"), packFile);
+        AssetPack pack = new AssetPack(packFile);
+
+        assertTrue(pack.isAvailable());
+        assertEquals(2, pack.size());
+        assertTrue(pack.contains("/assets/textures/coin.png"));
+        try (InputStream in = pack.open("assets/textures/coin.png")) {
+            assertArrayEquals(coin, in.readAllBytes());
+        }
+        try (InputStream in = pack.open("/assets/translation/english.json")) {
+            assertEquals("{\"start\":\"Start\"}", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals(List.of("assets/translation/english.json"), pack.list("/assets/translation/"));
+    }
+
+    @Test
+    void withoutPackAssetsComeFromTheClasspath() throws IOException {
+        AssetPack pack = new AssetPack(null);
+
+        assertFalse(pack.isAvailable());
+        assertTrue(pack.list("assets/translation/").isEmpty());
+        try (InputStream in = pack.open("assets/translation/english.json")) {
+            assertTrue(in.readAllBytes().length > 0);
+        }
+        assertNull(pack.open("assets/textures/missing.png"));
+    }
+}
@@ -0,0 +1,53 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AssetPreloaderTest {
+
+    @Test
+    void everyAssetIsLoadedAndTimed() {
+        Set<String> loaded = ConcurrentHashMap.newKeySet();
+        AssetPreloader preloader = new AssetPreloader(List.of(
+                new AssetPreloader.Asset("ship", () -> loaded.add("ship")),
+                new AssetPreloader.Asset("coin", () -> loaded.add("coin")),
+                new AssetPreloader.Asset("shoot.wav", () -> loaded.add("shoot.wav"))
+        ), Runnable::run);
+
+        preloader.start().join();
+
+        assertEquals(Set.of("ship", "coin", "shoot.wav"), loaded);
+        assertEquals(Set.of("ship", "coin", "shoot.wav"), preloader.getDecodeTimes().keySet());
+        assertEquals(1.0, preloader.progressProperty().get());
+        assertTrue(preloader.isDone());
+    }
+
+    @Test
+    void failingAssetDoesNotStopTheLoading() {
+        AssetPreloader preloader = new AssetPreloader(List.of(
+                new AssetPreloader.Asset("missing", () -> {
+                    throw new IllegalStateException("not found");
+                }),
+                new AssetPreloader.Asset("coin", () -> { })
+        ), Runnable::run);
+
+        preloader.start().join();
+
+        assertEquals(2, preloader.getDecodeTimes().size());
+        assertEquals(1.0, preloader.progressProperty().get());
+    }
+
+    @Test
+    void startTwiceReturnsTheSameLoading() {
+        AssetPreloader preloader = new AssetPreloader(List.of(), Runnable::run);
+
+        assertSame(preloader.start(), preloader.start());
+    }
+}
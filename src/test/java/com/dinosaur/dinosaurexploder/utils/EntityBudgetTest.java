@@ -0,0 +1,80 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityBudgetTest {
+
+    private GameWorld world;
+    private EntityBudget budget;
+
+    @BeforeEach
+    void setUp() {
+        world = new GameWorld();
+        EntityRegistry registry = new EntityRegistry();
+        registry.attach(world);
+        budget = new EntityBudget(registry, 10);
+    }
+
+    private Entity newEntity(EntityType type) {
+        Entity entity = new Entity();
+        entity.setType(type);
+        world.addEntity(entity);
+        return entity;
+    }
+
+    @Test
+    void spawnIsDeferredWhenTheTypeIsAtItsCap() {
+        budget.setCap(EntityType.COIN, 2);
+        newEntity(EntityType.COIN);
+        newEntity(EntityType.COIN);
+
+        assertFalse(budget.canSpawn(EntityType.COIN));
+        assertTrue(budget.canSpawn(EntityType.GREEN_DINO));
+        assertEquals(1, budget.getDeferred(EntityType.COIN));
+    }
+
+    @Test
+    void removedEntitiesFreeTheirSlot() {
+        budget.setCap(EntityType.ENEMY_PROJECTILE, 1);
+        Entity projectile = newEntity(EntityType.ENEMY_PROJECTILE);
+
+        world.removeEntity(projectile);
+
+        assertEquals(0, budget.getCount(EntityType.ENEMY_PROJECTILE));
+        assertTrue(budget.canSpawn(EntityType.ENEMY_PROJECTILE));
+    }
+
+    @Test
+    void globalCapAppliesToEveryType() {
+        budget.setGlobalCap(3);
+        newEntity(EntityType.PLAYER);
+        newEntity(EntityType.GREEN_DINO);
+        newEntity(EntityType.COIN);
+
+        assertEquals(3, budget.getTotal());
+        assertFalse(budget.canSpawn(EntityType.GREEN_DINO));
+    }
+
+    @Test
+    void swarmCapsLetTheGreenDinosGoPastTheNormalCaps() {
+        budget.setCap(EntityType.GREEN_DINO, 2);
+        newEntity(EntityType.GREEN_DINO);
+        newEntity(EntityType.GREEN_DINO);
+        assertFalse(budget.canSpawn(EntityType.GREEN_DINO));
+
+        budget.useSwarmCaps();
+        for (int i = 0; i < 20; i++) {
+            newEntity(EntityType.GREEN_DINO);
+        }
+
+        assertTrue(budget.canSpawn(EntityType.GREEN_DINO));
+    }
+}
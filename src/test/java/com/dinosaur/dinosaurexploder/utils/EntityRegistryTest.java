@@ -0,0 +1,101 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+import com.dinosaur.dinosaurexploder.constants.EntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityRegistryTest {
+
+    private GameWorld world;
+    private EntityRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        world = new GameWorld();
+        registry = new EntityRegistry();
+        registry.attach(world);
+    }
+
+    private Entity newEntity(EntityType type) {
+        Entity entity = new Entity();
+        entity.setType(type);
+        world.addEntity(entity);
+        return entity;
+    }
+
+    @Test
+    void liveEntitiesAreListedPerType() {
+        Entity first = newEntity(EntityType.GREEN_DINO);
+        Entity second = newEntity(EntityType.GREEN_DINO);
+        newEntity(EntityType.COIN);
+
+        assertEquals(List.of(first, second), registry.getEntities(EntityType.GREEN_DINO));
+        assertEquals(1, registry.getCount(EntityType.COIN));
+        assertEquals(3, registry.getTotal());
+    }
+
+    @Test
+    void removedEntityLeavesItsTypeList() {
+        Entity first = newEntity(EntityType.GREEN_DINO);
+        Entity second = newEntity(EntityType.GREEN_DINO);
+        Entity third = newEntity(EntityType.GREEN_DINO);
+
+        world.removeEntity(first);
+        world.removeEntity(third);
+
+        assertEquals(List.of(second), registry.getEntities(EntityType.GREEN_DINO));
+        assertEquals(1, registry.getTotal());
+    }
+
+    @Test
+    void lastEntityTakesTheSlotOfTheRemovedOne() {
+        Entity first = newEntity(EntityType.COIN);
+        newEntity(EntityType.COIN);
+        Entity third = newEntity(EntityType.COIN);
+
+        world.removeEntity(first);
+
+        assertEquals(0, third.getProperties().intProperty(EntityRegistry.SLOT_PROPERTY).get());
+        assertSame(third, registry.getEntities(EntityType.COIN).get(0));
+    }
+
+    @Test
+    void playerHandleFollowsThePlayerEntity() {
+        Entity player = newEntity(EntityType.PLAYER);
+        assertSame(player, registry.getPlayer());
+
+        world.removeEntity(player);
+        assertNull(registry.getPlayer());
+    }
+
+    @Test
+    void attachingANewWorldDropsThePreviousEntities() {
+        newEntity(EntityType.GREEN_DINO);
+
+        registry.attach(new GameWorld());
+        world.addEntity(new Entity());
+
+        assertTrue(registry.getEntities(EntityType.GREEN_DINO).isEmpty());
+        assertEquals(0, registry.getTotal());
+    }
+
+    @Test
+    void detachedRegistryNoLongerFollowsTheWorld() {
+        newEntity(EntityType.PLAYER);
+
+        registry.detach();
+        newEntity(EntityType.GREEN_DINO);
+
+        assertNull(registry.getPlayer());
+        assertEquals(0, registry.getTotal());
+    }
+}
@@ -0,0 +1,57 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+class ImageCacheTest {
+
+    private List<String> decodedPaths;
+    private ImageCache imageCache;
+
+    @BeforeEach
+    void setUp() {
+        decodedPaths = new ArrayList<>();
+        imageCache = new ImageCache(path -> {
+            decodedPaths.add(path);
+            return mock(Image.class);
+        });
+    }
+
+    @Test
+    void sameImageIsDecodedOnlyOnce() {
+        Image first = imageCache.getProjectileImage(2, 3);
+        Image second = imageCache.getProjectileImage(2, 3);
+
+        assertSame(first, second);
+        assertEquals(List.of("assets/textures/projectiles/projectile2_3.png"), decodedPaths);
+        assertEquals(1, imageCache.getMisses());
+        assertEquals(1, imageCache.getHits());
+    }
+
+    @Test
+    void leadingSlashUsesTheSameEntry() {
+        Image ship = imageCache.getShipImage(4);
+
+        assertSame(ship, imageCache.getImage("/assets/textures/spaceship4.png"));
+        assertEquals(1, decodedPaths.size());
+    }
+
+    @Test
+    void resetCountersKeepsTheImages() {
+        imageCache.getShipImage(1);
+        imageCache.resetCounters();
+        imageCache.getShipImage(1);
+
+        assertEquals(0, imageCache.getMisses());
+        assertEquals(1, imageCache.getHits());
+        assertEquals(1, imageCache.size());
+    }
+}
@@ -0,0 +1,65 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImageRegistryTest {
+
+    private static Image image(double width, double height) {
+        Image image = mock(Image.class);
+        when(image.getWidth()).thenReturn(width);
+        when(image.getHeight()).thenReturn(height);
+        return image;
+    }
+
+    @Test
+    void bytesAreCountedPerImageWithTheirOrigin() {
+        ImageRegistry registry = new ImageRegistry(64);
+        // The registry holds the images weakly, the test keeps them alive
+        Image background = image(3000, 1500);
+        Image heart = image(22, 22);
+
+        registry.register(background, ImageCacheTest.class, "assets/textures/background.png");
+        registry.register(heart, ImageRegistryTest.class, "assets/textures/life.png");
+
+        assertEquals(3000L * 1500 * 4 + 22 * 22 * 4, registry.getTotalBytes());
+        List<ImageRegistry.Entry> entries = registry.getEntries();
+        assertEquals("assets/textures/background.png", entries.get(0).getAssetPath());
+        assertEquals("ImageCacheTest", entries.get(0).getOrigin());
+        assertTrue(registry.getReport().contains("assets/textures/life.png"));
+    }
+
+    @Test
+    void budgetIsChecked() {
+        ImageRegistry registry = new ImageRegistry(1);
+
+        Image small = image(256, 256);
+        Image big = image(512, 512);
+
+        registry.register(small, ImageRegistryTest.class, "small.png");
+        assertFalse(registry.isOverBudget());
+
+        registry.register(big, ImageRegistryTest.class, "big.png");
+        assertTrue(registry.isOverBudget());
+    }
+
+    @Test
+    void imageCacheRegistersItsDecodes() {
+        ImageRegistry registry = new ImageRegistry(64);
+        ImageCache imageCache = new ImageCache(path -> image(87, 102), registry);
+
+        imageCache.getShipImage(1);
+        imageCache.getShipImage(1);
+
+        assertEquals(1, registry.size());
+        assertEquals("ImageRegistryTest", registry.getEntries().get(0).getOrigin());
+    }
+}
@@ -0,0 +1,80 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PixelMaskTest {
+
+    private static final int SOLID = 0xFF00FF00;
+
+    private static PixelMask mask(int width, int height, int[]... solidBoxes) {
+        int[] argb = new int[width * height];
+        for (int[] box : solidBoxes) {
+            for (int y = box[1]; y < box[1] + box[3]; y++) {
+                for (int x = box[0]; x < box[0] + box[2]; x++) {
+                    argb[y * width + x] = SOLID;
+                }
+            }
+        }
+        return PixelMask.fromArgb(argb, width, height);
+    }
+
+    @Test
+    void solidPixelsAreSetAcrossWords() {
+        PixelMask mask = mask(130, 2, new int[]{63, 1, 3, 1}, new int[]{129, 0, 1, 1});
+
+        assertTrue(mask.isSolid(63, 1));
+        assertTrue(mask.isSolid(64, 1));
+        assertTrue(mask.isSolid(65, 1));
+        assertTrue(mask.isSolid(129, 0));
+        assertFalse(mask.isSolid(62, 1));
+        assertFalse(mask.isSolid(63, 0));
+    }
+
+    @Test
+    void boxesTouchingOnlyInTransparentCornersDoNotOverlap() {
+        // Two L shapes whose boxes intersect but whose solid pixels don't
+        PixelMask a = mask(10, 10, new int[]{0, 0, 10, 2}, new int[]{0, 0, 2, 10});
+        PixelMask b = mask(10, 10, new int[]{0, 8, 10, 2}, new int[]{8, 0, 2, 10});
+
+        assertFalse(PixelMask.overlaps(a, 0, 0, 10, 10, b, 3, 3, 10, 10));
+        assertTrue(PixelMask.overlaps(a, 0, 0, 10, 10, b, -5, -5, 10, 10));
+    }
+
+    @Test
+    void overlapIsFoundAtAnUnalignedOffsetInWideMasks() {
+        PixelMask wide = mask(200, 1, new int[]{150, 0, 1, 1});
+        PixelMask dot = mask(1, 1, new int[]{0, 0, 1, 1});
+
+        assertTrue(PixelMask.overlaps(wide, 7, 0, 200, 1, dot, 157, 0, 1, 1));
+        assertFalse(PixelMask.overlaps(wide, 7, 0, 200, 1, dot, 156, 0, 1, 1));
+    }
+
+    @Test
+    void nullMaskIsASolidBox() {
+        PixelMask ring = mask(10, 10, new int[]{0, 0, 10, 1}, new int[]{0, 9, 10, 1},
+                new int[]{0, 0, 1, 10}, new int[]{9, 0, 1, 10});
+
+        assertFalse(PixelMask.overlaps(ring, 0, 0, 10, 10, null, 3, 3, 4, 4));
+        assertTrue(PixelMask.overlaps(ring, 0, 0, 10, 10, null, 3, 3, 7, 4));
+    }
+
+    @Test
+    void turnedMasksMoveTheTopLeftPixelClockwise() {
+        PixelMask mask = mask(3, 2, new int[]{0, 0, 1, 1});
+
+        PixelMask quarter = mask.turned(1);
+        assertEquals(2, quarter.getWidth());
+        assertEquals(3, quarter.getHeight());
+        assertTrue(quarter.isSolid(1, 0));
+        assertFalse(quarter.isSolid(0, 0));
+        assertTrue(mask.turned(2).isSolid(2, 1));
+        assertTrue(mask.turned(3).isSolid(0, 2));
+        assertSame(mask.turned(3), mask.turned(-1));
+        assertSame(mask, quarter.turned(3));
+    }
+}
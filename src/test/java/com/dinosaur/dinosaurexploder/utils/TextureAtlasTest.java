@@ -0,0 +1,53 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TextureAtlasTest {
+
+    @Test
+    void parseIndexReadsPageAndViewport() {
+        Properties index = new Properties();
+        index.setProperty("assets/textures/coin.png", "1, 10, 20, 40, 40");
+
+        TextureAtlas.Region region = TextureAtlas.parseIndex(index).get("assets/textures/coin.png");
+
+        assertEquals(1, region.getPage());
+        assertEquals(10, region.getViewport().getMinX());
+        assertEquals(20, region.getViewport().getMinY());
+        assertEquals(40, region.getViewport().getWidth());
+        assertEquals(40, region.getViewport().getHeight());
+    }
+
+    @Test
+    void sizeComesFromTheRegion() {
+        Properties index = new Properties();
+        index.setProperty("assets/textures/spaceship1.png", "0,2,2,87,102");
+        TextureAtlas atlas = new TextureAtlas(new ImageCache(path -> {
+            throw new AssertionError("Nothing should be decoded: " + path);
+        }), TextureAtlas.parseIndex(index));
+
+        assertTrue(atlas.hasRegion("/assets/textures/spaceship1.png"));
+        assertEquals(87, atlas.getWidth("assets/textures/spaceship1.png"));
+        assertEquals(102, atlas.getHeight("assets/textures/spaceship1.png"));
+    }
+
+    @Test
+    void missingRegionFallsBackToTheSingleImage() {
+        Image bomb = mock(Image.class);
+        when(bomb.getWidth()).thenReturn(18.0);
+        TextureAtlas atlas = new TextureAtlas(new ImageCache(path -> bomb), Map.of());
+
+        assertFalse(atlas.isAvailable());
+        assertEquals(18, atlas.getWidth("assets/textures/bomb.png"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.dinosaur.dinosaurexploder.utils;
+
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+class ThumbnailCacheTest {
+
+    @Test
+    void thumbnailIsDecodedOnceAtItsSize() {
+        List<String> decodedPaths = new ArrayList<>();
+        ThumbnailCache thumbnailCache = new ThumbnailCache(new ImageCache(path -> {
+            decodedPaths.add(path);
+            return mock(Image.class);
+        }));
+
+        Image first = thumbnailCache.getThumbnail(ImageCache.shipImagePath(3), 60, false);
+        Image second = thumbnailCache.getThumbnail(ImageCache.shipImagePath(3), 60, false);
+
+        assertSame(first, second);
+        assertEquals(List.of("assets/textures/spaceship3.png@60x60"), decodedPaths);
+    }
+
+    @Test
+    void lockedPixelIsDarkenedLikeTheColorAdjust() {
+        int pixel = ThumbnailCache.filterPixel(0xFF80C840, ThumbnailCache.LOCKED_BRIGHTNESS, 1);
+
+        assertEquals(0xFF406420, pixel);
+    }
+
+    @Test
+    void lockIconOpacityIsAppliedToTheAlpha() {
+        int pixel = ThumbnailCache.filterPixel(0xFF102030, 1, ThumbnailCache.LOCK_ICON_OPACITY);
+
+        assertEquals(0x99102030, pixel);
+    }
+
+    @Test
+    void tintedPixelHasItsHueShiftedLikeTheColorAdjust() {
+        // A hue of 2/3 is a third of the colour wheel, from red to green
+        int pixel = ThumbnailCache.tintPixel(0x80FF0000, 2 / 3.0);
+
+        assertEquals(0x8000FF00, pixel);
+        assertEquals(0, ThumbnailCache.tintPixel(0, 2 / 3.0));
+    }
+
+    @Test
+    void untintedImageIsTheDecodedOne() {
+        Image decoded = mock(Image.class);
+        ThumbnailCache thumbnailCache = new ThumbnailCache(new ImageCache(path -> decoded));
+
+        assertSame(decoded, thumbnailCache.getTintedImage("assets/textures/coin.png", 40, 0));
+        assertEquals(0, thumbnailCache.size());
+    }
+}
@@ -0,0 +1,66 @@
+package com.dinosaur.dinosaurexploder.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javafx.scene.Node;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.Test;
+
+public class TiledBackgroundViewTest {
+    private static final double WIDTH = 550;
+    private static final double HEIGHT = 750;
+    private static final double TILE_HEIGHT = 300;
+
+    @Test
+    void stacksOneTileMoreThanFitsInTheWindow() {
+        assertEquals(4, TiledBackgroundView.tileCount(HEIGHT, TILE_HEIGHT));
+        assertEquals(3, TiledBackgroundView.tileCount(600, TILE_HEIGHT));
+    }
+
+    @Test
+    void offsetWrapsIntoOneTile() {
+        assertEquals(50, TiledBackgroundView.wrap(350, TILE_HEIGHT), 1e-9);
+        assertEquals(250, TiledBackgroundView.wrap(-50, TILE_HEIGHT), 1e-9);
+        assertEquals(0, TiledBackgroundView.wrap(TILE_HEIGHT, TILE_HEIGHT), 1e-9);
+    }
+
+    @Test
+    void tilesWrapAtTheScreenEdgeAndKeepTheWindowCovered() {
+        TiledBackgroundView view = new TiledBackgroundView(WIDTH, HEIGHT)
+                .addLayer(new WritableImage((int) WIDTH, (int) TILE_HEIGHT), 120);
+        assertEquals(4, view.getTileCount());
+
+        // 120 px/s for 10 s scrolls four tiles down, every tile has left the bottom at least once
+        for (int frame = 0; frame < 600; frame++) {
+            view.onUpdate(1.0 / 60);
+            assertCovered(view);
+        }
+    }
+
+    @Test
+    void tilesWrapAtTheTopWhenScrollingUp() {
+        TiledBackgroundView view = new TiledBackgroundView(WIDTH, HEIGHT)
+                .addLayer(new WritableImage((int) WIDTH, (int) TILE_HEIGHT), -120);
+
+        for (int frame = 0; frame < 600; frame++) {
+            view.onUpdate(1.0 / 60);
+            assertCovered(view);
+        }
+    }
+
+    private static void assertCovered(TiledBackgroundView view) {
+        double top = Double.MAX_VALUE;
+        double bottom = -Double.MAX_VALUE;
+        double lastTileTop = (view.getTileCount() - 1) * TILE_HEIGHT;
+        for (Node tile : view.getChildren()) {
+            double y = tile.getTranslateY();
+            // No tile drifts away from the window, it is moved back to the other edge instead
+            assertTrue(y >= -TILE_HEIGHT && y < lastTileTop, "tile at " + y);
+            top = Math.min(top, y);
+            bottom = Math.max(bottom, y + TILE_HEIGHT);
+        }
+        assertTrue(top <= 0, "gap at the top: " + top);
+        assertTrue(bottom >= HEIGHT, "gap at the bottom: " + bottom);
+    }
+}